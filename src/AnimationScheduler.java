@@ -0,0 +1,250 @@
+import javax.swing.*;
+import java.awt.Rectangle;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lightweight animation engine for the Swing weather cards.
+ *
+ * All running animations share one Swing timer and are advanced together in a
+ * single tick on the EDT. Progress uses fixed-step interpolation based on elapsed
+ * time, so dropped or skipped frames never stretch an animation. Each tick repaints
+ * only the union of the dirty regions the animations declared, per component,
+ * and records each frame's time into the "animation.frame" histogram. When a
+ * frame's EDT work exceeds the 1 ms budget, the following ticks are skipped to
+ * give the EDT time back; after a few over-budget frames in a row, the running
+ * animations jump to their final frame and end. The budget is checked against
+ * the EDT's CPU time where the JVM reports it, so time the EDT spends
+ * preempted by other threads is not held against the animations.
+ *
+ * Listeners and the paint they trigger must stay cheap: compose images off
+ * the EDT and only copy them here.
+ */
+public final class AnimationScheduler {
+    
+    // Fixed interpolation step (~60 fps)
+    public static final int FRAME_INTERVAL_MS = 16;
+    private static final long STEP_NANOS = FRAME_INTERVAL_MS * 1_000_000L;
+    
+    // EDT time allowed per frame before frames start being skipped
+    private static final long FRAME_BUDGET_NANOS = 1_000_000L;
+    private static final int MAX_SKIPPED_FRAMES = 4;
+    private static final int MAX_FRAMES_OVER_BUDGET = 3;
+    
+    private static final LatencyHistogram FRAME_TIME = WeatherMetrics.histogram(WeatherMetrics.ANIMATION_FRAME);
+    private static final LongAdder OVER_BUDGET = WeatherMetrics.counter(WeatherMetrics.ANIMATION_OVER_BUDGET);
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME = THREADS.isCurrentThreadCpuTimeSupported();
+    
+    // All state below is confined to the EDT
+    private static final List<Animation> animations = new ArrayList<>();
+    private static Timer timer;
+    private static int framesToSkip = 0;
+    private static int framesOverBudget = 0;
+    private static long framesRendered = 0;
+    private static long framesSkipped = 0;
+    private static long lastFrameNanos = 0;
+    
+    // Prevent instantiation
+    private AnimationScheduler() {}
+    
+    /**
+     * Receives the eased progress of an animation on every frame.
+     */
+    public interface FrameListener {
+        /**
+         * Called on the EDT before the dirty region is repainted.
+         * @param progress eased progress between 0 and 1
+         */
+        void onFrame(double progress);
+    }
+    
+    /**
+     * Handle for a running animation.
+     */
+    public static final class Animation {
+        private final JComponent target;
+        private final Rectangle dirtyRegion;
+        private final long durationNanos;
+        private final FrameListener listener;
+        private final long startNanos;
+        private boolean cancelled = false;
+        
+        private Animation(JComponent target, Rectangle dirtyRegion, int durationMs, FrameListener listener) {
+            this.target = target;
+            this.dirtyRegion = new Rectangle(dirtyRegion);
+            this.durationNanos = Math.max(1, durationMs) * 1_000_000L;
+            this.listener = listener;
+            this.startNanos = System.nanoTime();
+        }
+        
+        /**
+         * Stops the animation without a final frame. Must be called on the EDT.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+        
+        /**
+         * Checks whether the animation has been cancelled.
+         * @return true if cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+    
+    /**
+     * Starts an animation. Must be called on the EDT.
+     * @param target component to repaint on each frame
+     * @param dirtyRegion region of the target affected by the animation
+     * @param durationMs animation duration in milliseconds
+     * @param listener receives eased progress on each frame
+     * @return handle that can cancel the animation
+     */
+    public static Animation animate(JComponent target, Rectangle dirtyRegion, int durationMs, FrameListener listener) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            throw new IllegalStateException("Animations must be started on the EDT");
+        }
+        
+        Animation animation = new Animation(target, dirtyRegion, durationMs, listener);
+        animations.add(animation);
+        
+        if (timer == null) {
+            timer = new Timer(FRAME_INTERVAL_MS, e -> tick());
+            timer.setCoalesce(true);
+        }
+        if (!timer.isRunning()) {
+            timer.start();
+        }
+        return animation;
+    }
+    
+    /**
+     * Advances all running animations and repaints their dirty regions.
+     */
+    private static void tick() {
+        if (framesToSkip > 0) {
+            framesToSkip--;
+            framesSkipped++;
+            return;
+        }
+        
+        long frameStart = System.nanoTime();
+        long cpuStart = CPU_TIME ? THREADS.getCurrentThreadCpuTime() : 0;
+        Map<JComponent, Rectangle> dirtyRegions = new IdentityHashMap<>();
+        // Animations that keep overrunning the budget are finished rather than played out
+        boolean finishNow = framesOverBudget >= MAX_FRAMES_OVER_BUDGET;
+        
+        for (int i = animations.size() - 1; i >= 0; i--) {
+            Animation animation = animations.get(i);
+            if (animation.cancelled) {
+                animations.remove(i);
+                continue;
+            }
+            
+            // Quantize elapsed time to whole steps so every frame lands on the fixed grid
+            long steps = (frameStart - animation.startNanos) / STEP_NANOS;
+            double linear = finishNow ? 1.0 : Math.min(1.0, (double) (steps * STEP_NANOS) / animation.durationNanos);
+            
+            try {
+                animation.listener.onFrame(easeOutCubic(linear));
+            } catch (Exception e) {
+                WeatherAppLogger.error("Animation frame failed", e);
+                animation.cancelled = true;
+            }
+            
+            Rectangle region = dirtyRegions.get(animation.target);
+            if (region == null) {
+                dirtyRegions.put(animation.target, new Rectangle(animation.dirtyRegion));
+            } else {
+                region.add(animation.dirtyRegion);
+            }
+            
+            if (linear >= 1.0 || animation.cancelled) {
+                animations.remove(i);
+            }
+        }
+        
+        // One synchronous paint per component for the union of its dirty regions
+        for (Map.Entry<JComponent, Rectangle> entry : dirtyRegions.entrySet()) {
+            if (entry.getKey().isShowing()) {
+                entry.getKey().paintImmediately(entry.getValue());
+            }
+        }
+        
+        lastFrameNanos = System.nanoTime() - frameStart;
+        framesRendered++;
+        FRAME_TIME.record(lastFrameNanos);
+        long frameWork = CPU_TIME ? THREADS.getCurrentThreadCpuTime() - cpuStart : lastFrameNanos;
+        if (frameWork > FRAME_BUDGET_NANOS) {
+            OVER_BUDGET.increment();
+            framesOverBudget++;
+            framesToSkip = (int) Math.min(MAX_SKIPPED_FRAMES, frameWork / FRAME_BUDGET_NANOS);
+        } else {
+            framesOverBudget = 0;
+        }
+        
+        if (animations.isEmpty()) {
+            timer.stop();
+            framesToSkip = 0;
+            framesOverBudget = 0;
+        }
+    }
+    
+    /**
+     * Ease-out cubic curve: fast start, gentle landing.
+     */
+    private static double easeOutCubic(double t) {
+        double inverse = 1.0 - t;
+        return 1.0 - inverse * inverse * inverse;
+    }
+    
+    /**
+     * Linearly interpolates between two values.
+     * @param from start value
+     * @param to end value
+     * @param progress progress between 0 and 1
+     * @return interpolated value
+     */
+    public static double interpolate(double from, double to, double progress) {
+        return from + (to - from) * progress;
+    }
+    
+    /**
+     * Gets the number of running animations. Must be called on the EDT.
+     * @return running animation count
+     */
+    public static int getActiveAnimationCount() {
+        return animations.size();
+    }
+    
+    /**
+     * Gets the number of frames rendered so far. Must be called on the EDT.
+     * @return rendered frame count
+     */
+    public static long getFramesRendered() {
+        return framesRendered;
+    }
+    
+    /**
+     * Gets the number of frames skipped to stay within budget. Must be called on the EDT.
+     * @return skipped frame count
+     */
+    public static long getFramesSkipped() {
+        return framesSkipped;
+    }
+    
+    /**
+     * Gets the EDT time spent on the last rendered frame. Must be called on the EDT.
+     * @return last frame time in nanoseconds
+     */
+    public static long getLastFrameNanos() {
+        return lastFrameNanos;
+    }
+}
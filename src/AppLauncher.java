@@ -2,6 +2,7 @@ import javax.swing.*;
 
 public class AppLauncher {
     public static void main(String[] args) {
+        EdtWatchdog.install();
         SwingUtilities.invokeLater(new Runnable(){
             @Override
             public void run(){
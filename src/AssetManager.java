@@ -0,0 +1,177 @@
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Loads bundled image assets from the classpath.
+ *
+ * Assets live under /assets/ next to the classes, so they resolve the same
+ * way from an IDE, the command line or a jar, whatever the working directory.
+ * Each image is decoded once into a screen-compatible image and cached.
+ * When the optional pre-packed sprite sheet (/assets/icons.sprite, written by
+ * SpriteSheetPacker) is on the classpath, every icon is read from it in one
+ * pass instead of decoding each PNG separately. Entries whose source PNG has
+ * changed since the sheet was packed are skipped, so an edited PNG shows up
+ * even before the sheet is re-packed.
+ */
+public final class AssetManager {
+    
+    public static final String ASSET_ROOT = "/assets/";
+    public static final String SPRITE_SHEET = "icons.sprite";
+    
+    // "WXSP" header of the sprite sheet format
+    static final int SPRITE_MAGIC = 0x57585350;
+    static final int SPRITE_VERSION = 2;
+    
+    private static final Map<String, BufferedImage> cache = new ConcurrentHashMap<>();
+    private static volatile boolean spriteSheetChecked = false;
+    
+    // Prevent instantiation
+    private AssetManager() {}
+    
+    /**
+     * Gets a bundled image, decoding it on first use.
+     * @param name file name under /assets/, e.g. "clear.png"
+     * @return cached screen-compatible image, or null if the asset is missing
+     */
+    public static BufferedImage getImage(String name) {
+        BufferedImage cached = cache.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        
+        loadSpriteSheetOnce();
+        
+        // computeIfAbsent decodes each asset once even under concurrent first use
+        return cache.computeIfAbsent(name, AssetManager::decode);
+    }
+    
+    /**
+     * Checks whether the sprite sheet is enabled. It can be turned off with
+     * -Dweatherapp.assets.spriteSheet=false, e.g. to compare startup paths.
+     * @return true if the sprite sheet may be used
+     */
+    public static boolean isSpriteSheetEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("weatherapp.assets.spriteSheet"));
+    }
+    
+    /**
+     * Clears all decoded assets; the next access decodes them again.
+     */
+    public static void clearCache() {
+        cache.clear();
+        spriteSheetChecked = false;
+    }
+    
+    /**
+     * Get number of decoded assets, for debugging.
+     */
+    public static int getCacheSize() {
+        return cache.size();
+    }
+    
+    /**
+     * Computes the checksum the sprite sheet stores for each source PNG.
+     * @param bytes the PNG file's contents
+     * @return CRC-32 of the bytes
+     */
+    static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+    
+    private static BufferedImage decode(String name) {
+        try (InputStream in = AssetManager.class.getResourceAsStream(ASSET_ROOT + name)) {
+            if (in == null) {
+                WeatherAppLogger.warn("Asset not found on classpath: {}{}", ASSET_ROOT, name);
+                return null;
+            }
+            
+            // ImageIO.read(InputStream) would spool the stream through a temp file
+            BufferedImage image = ImageIO.read(new MemoryCacheImageInputStream(new BufferedInputStream(in)));
+            return image != null ? ImageScaler.toCompatibleImage(image) : null;
+        } catch (IOException e) {
+            WeatherAppLogger.error("Failed to decode asset {}", name, e);
+            return null;
+        }
+    }
+    
+    private static synchronized void loadSpriteSheetOnce() {
+        if (spriteSheetChecked) {
+            return;
+        }
+        spriteSheetChecked = true;
+        
+        if (!isSpriteSheetEnabled()) {
+            return;
+        }
+        
+        try (InputStream resource = AssetManager.class.getResourceAsStream(ASSET_ROOT + SPRITE_SHEET)) {
+            if (resource == null) {
+                return;
+            }
+            
+            DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new InflaterInputStream(resource), 64 * 1024));
+            if (in.readInt() != SPRITE_MAGIC || in.readInt() != SPRITE_VERSION) {
+                WeatherAppLogger.warn("Ignoring sprite sheet with unknown format");
+                return;
+            }
+            
+            int count = in.readInt();
+            int loaded = 0;
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                int sourceSize = in.readInt();
+                int sourceChecksum = in.readInt();
+                int width = in.readInt();
+                int height = in.readInt();
+                
+                // Raw non-premultiplied ARGB, copied into the raster in one call
+                byte[] pixels = new byte[width * height * 4];
+                in.readFully(pixels);
+                if (!matchesSource(name, sourceSize, sourceChecksum)) {
+                    WeatherAppLogger.warn("Sprite sheet entry {} is older than its PNG; re-run SpriteSheetPacker", name);
+                    continue;
+                }
+                
+                int[] argb = new int[width * height];
+                ByteBuffer.wrap(pixels).asIntBuffer().get(argb);
+                BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                image.getRaster().setDataElements(0, 0, width, height, argb);
+                
+                cache.putIfAbsent(name, ImageScaler.toCompatibleImage(image));
+                loaded++;
+            }
+            WeatherAppLogger.debug("Loaded {} of {} assets from sprite sheet", loaded, count);
+        } catch (IOException e) {
+            // Individual PNGs are still available, so a bad sheet only costs speed
+            WeatherAppLogger.warn("Could not read sprite sheet: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Checks a sprite sheet entry against the PNG it was packed from. Reading
+     * the bytes is cheap next to decoding them. A sheet shipped without its
+     * PNGs is trusted as is.
+     */
+    private static boolean matchesSource(String name, int size, int checksum) throws IOException {
+        try (InputStream in = AssetManager.class.getResourceAsStream(ASSET_ROOT + name)) {
+            if (in == null) {
+                return true;
+            }
+            byte[] source = in.readAllBytes();
+            return source.length == size && checksum(source) == checksum;
+        }
+    }
+}
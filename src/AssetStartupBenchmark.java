@@ -0,0 +1,109 @@
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Startup benchmark for asset loading. Every measurement runs in a fresh JVM,
+ * because the cost being measured is the first load after startup.
+ *
+ * Scenarios:
+ * - file:   ImageIO.read(new File("src/assets/...")) per asset (the old path)
+ * - png:    AssetManager decoding the classpath PNGs (sprite sheet disabled)
+ * - sprite: AssetManager reading the packed sprite sheet
+ *
+ * Usage from the repo root, with compiled classes and assets on the classpath:
+ *   java -Djava.awt.headless=true -cp out AssetStartupBenchmark [runs]
+ */
+public final class AssetStartupBenchmark {
+    
+    private static final String[] ASSETS = {
+        "clear.png", "cloudy.png", "rain.png", "snow.png", "humidity.png", "windspeed.png", "search.png"
+    };
+    
+    // Prevent instantiation
+    private AssetStartupBenchmark() {}
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && "--child".equals(args[0])) {
+            runChild(args[1]);
+            return;
+        }
+        
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        for (String scenario : new String[]{"file", "png", "sprite"}) {
+            List<Double> firstLoads = new ArrayList<>();
+            List<Double> cachedLoads = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                String[] result = launchChild(scenario).split(" ");
+                firstLoads.add(Double.parseDouble(result[0]));
+                cachedLoads.add(Double.parseDouble(result[1]));
+            }
+            System.out.printf("%-7s first load of %d assets: median %7.2f ms | second pass: median %6.3f ms%n",
+                scenario, ASSETS.length, median(firstLoads), median(cachedLoads));
+        }
+    }
+    
+    private static String launchChild(String scenario) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.add("-Djava.awt.headless=" + System.getProperty("java.awt.headless", "false"));
+        command.add("-Dweatherapp.assets.spriteSheet=" + "sprite".equals(scenario));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(AssetStartupBenchmark.class.getName());
+        command.add("--child");
+        command.add(scenario);
+        
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String last = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                last = line;
+            }
+        }
+        if (process.waitFor() != 0 || last == null) {
+            throw new IllegalStateException("Benchmark child failed for scenario " + scenario + ": " + last);
+        }
+        return last;
+    }
+    
+    private static void runChild(String scenario) throws IOException {
+        // The app initializes Java2D and the logger before loading any asset;
+        // do both up front so every scenario measures asset I/O and decoding only
+        BufferedImage warmup = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        warmup.createGraphics().drawImage(new BufferedImage(1, 1, BufferedImage.TYPE_4BYTE_ABGR), 0, 0, null);
+        WeatherAppLogger.setDebugEnabled(false);
+        
+        long start = System.nanoTime();
+        loadAll(scenario);
+        long first = System.nanoTime();
+        loadAll(scenario);
+        long second = System.nanoTime();
+        
+        System.out.println((first - start) / 1e6 + " " + (second - first) / 1e6);
+    }
+    
+    private static void loadAll(String scenario) throws IOException {
+        for (String asset : ASSETS) {
+            BufferedImage image = "file".equals(scenario)
+                ? ImageIO.read(new File("src/assets/" + asset))
+                : AssetManager.getImage(asset);
+            if (image == null) {
+                throw new IOException("Could not load " + asset);
+            }
+        }
+    }
+    
+    private static double median(List<Double> values) {
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+}
@@ -0,0 +1,190 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared weather theme palette with cached paints and backgrounds.
+ * Every window and card used to carry its own copy of the condition
+ * gradients and allocate a new GradientPaint on each paint; this class
+ * holds the single palette and caches, per (condition, size), the
+ * GradientPaint and a pre-rendered background image.
+ */
+public final class BackgroundThemeCache {
+    
+    // Theme name for the purple-to-green scene behind the cards
+    public static final String SCENE = "scene";
+    
+    // Upper bound on pre-rendered backgrounds; each one is a full window
+    private static final int MAX_CACHED_BACKGROUNDS = 16;
+    
+    private static final Color LIGHT_TEXT = Color.WHITE;
+    private static final Color DARK_TEXT = new Color(44, 62, 80);
+    
+    private static final Theme DEFAULT_THEME = new Theme(new Color(78, 205, 196), new Color(68, 160, 141), LIGHT_TEXT);
+    private static final Map<String, Theme> themes = new HashMap<>();
+    
+    static {
+        themes.put("sunny", new Theme(
+            ColorUtils.fromRGB(WeatherAppConstants.Colors.GRADIENT_START_RGB),
+            ColorUtils.fromRGB(WeatherAppConstants.Colors.GRADIENT_END_RGB), LIGHT_TEXT));
+        themes.put("cloudy", new Theme(new Color(189, 195, 199), new Color(139, 157, 195), LIGHT_TEXT));
+        themes.put("rainy", new Theme(new Color(83, 105, 118), new Color(41, 46, 73), LIGHT_TEXT));
+        themes.put("snowy", new Theme(new Color(230, 222, 221), new Color(197, 202, 233), DARK_TEXT));
+        themes.put("thunderstorm", new Theme(new Color(44, 83, 100), new Color(32, 58, 67), LIGHT_TEXT));
+        themes.put("partlycloudy", DEFAULT_THEME);
+        themes.put(SCENE, new Theme(
+            ColorUtils.fromRGB(WeatherAppConstants.Colors.SCENE_START_RGB),
+            ColorUtils.fromRGB(WeatherAppConstants.Colors.SCENE_END_RGB), LIGHT_TEXT));
+    }
+    
+    private static final Map<String, GradientPaint> paintCache = new ConcurrentHashMap<>();
+    
+    // Least recently used backgrounds are evicted first
+    private static final Map<String, BufferedImage> backgroundCache =
+        new LinkedHashMap<String, BufferedImage>(MAX_CACHED_BACKGROUNDS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+                return size() > MAX_CACHED_BACKGROUNDS;
+            }
+        };
+    
+    // Prevent instantiation
+    private BackgroundThemeCache() {}
+    
+    /**
+     * Colors for one weather condition.
+     */
+    public static final class Theme {
+        private final Color gradientStart;
+        private final Color gradientEnd;
+        private final Color textColor;
+        
+        private Theme(Color gradientStart, Color gradientEnd, Color textColor) {
+            this.gradientStart = gradientStart;
+            this.gradientEnd = gradientEnd;
+            this.textColor = textColor;
+        }
+        
+        public Color getGradientStart() {
+            return gradientStart;
+        }
+        
+        public Color getGradientEnd() {
+            return gradientEnd;
+        }
+        
+        public Color getTextColor() {
+            return textColor;
+        }
+    }
+    
+    /**
+     * Gets the theme for a weather condition. Accepts the spellings used across
+     * the app ("Clear", "sunny", "Rain", "partly_cloudy", "partlyCloudy", ...);
+     * unknown conditions get the partly cloudy theme.
+     * @param condition weather condition or {@link #SCENE}
+     * @return theme colors
+     */
+    public static Theme getTheme(String condition) {
+        return themes.getOrDefault(normalize(condition), DEFAULT_THEME);
+    }
+    
+    /**
+     * Gets a diagonal (top-left to bottom-right) gradient for a condition and size.
+     * @param condition weather condition or {@link #SCENE}
+     * @param width gradient width
+     * @param height gradient height
+     * @return cached gradient paint
+     */
+    public static GradientPaint getPaint(String condition, int width, int height) {
+        String key = normalize(condition) + "@" + width + "x" + height;
+        return paintCache.computeIfAbsent(key, k -> {
+            Theme theme = getTheme(condition);
+            return new GradientPaint(0, 0, theme.gradientStart, width, height, theme.gradientEnd);
+        });
+    }
+    
+    /**
+     * Gets a pre-rendered gradient background at the default screen scale.
+     * Draw it with drawImage(image, 0, 0, width, height, null).
+     * @param condition weather condition or {@link #SCENE}
+     * @param width logical width
+     * @param height logical height
+     * @return cached background image
+     */
+    public static BufferedImage getBackground(String condition, int width, int height) {
+        double scale = ImageScaler.getDefaultScaleFactor();
+        String key = normalize(condition) + "@" + width + "x" + height + "@" + scale;
+        
+        synchronized (backgroundCache) {
+            BufferedImage cached = backgroundCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        
+        BufferedImage rendered = renderBackground(condition, width, height, scale);
+        synchronized (backgroundCache) {
+            backgroundCache.put(key, rendered);
+        }
+        return rendered;
+    }
+    
+    /**
+     * Clears all cached paints and backgrounds.
+     */
+    public static void clearCache() {
+        paintCache.clear();
+        synchronized (backgroundCache) {
+            backgroundCache.clear();
+        }
+    }
+    
+    /**
+     * Get number of cached backgrounds, for debugging.
+     */
+    public static int getCacheSize() {
+        synchronized (backgroundCache) {
+            return backgroundCache.size();
+        }
+    }
+    
+    private static BufferedImage renderBackground(String condition, int width, int height, double scale) {
+        int pixelWidth = Math.max(1, (int) Math.round(width * scale));
+        int pixelHeight = Math.max(1, (int) Math.round(height * scale));
+        
+        BufferedImage image = ImageScaler.createCompatibleImage(pixelWidth, pixelHeight);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.scale(scale, scale);
+        g2d.setPaint(getPaint(condition, width, height));
+        g2d.fillRect(0, 0, width, height);
+        g2d.dispose();
+        return image;
+    }
+    
+    private static String normalize(String condition) {
+        if (condition == null) {
+            return "partlycloudy";
+        }
+        
+        String key = condition.toLowerCase().replace("_", "").replace(" ", "");
+        switch (key) {
+            case "clear":
+                return "sunny";
+            case "rain":
+                return "rainy";
+            case "snow":
+                return "snowy";
+            case "fog":
+            case "foggy":
+                // No fog gradient of its own; overcast is the closest sky
+                return "cloudy";
+            default:
+                return key;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+import org.json.simple.JSONObject;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wraps any {@link WeatherProvider} with a small per-city cache and request
+ * coalescing.
+ *
+ * Forecasts are kept for a fixed lifetime, least recently used cities are
+ * dropped beyond a maximum, and concurrent requests for the same city share
+ * one load from the delegate. Each caller gets its own future; cancelling it
+ * leaves other callers waiting on the same city untouched, and once every
+ * caller has cancelled, a load that has not started yet is skipped. Loads
+ * run the delegate's {@link WeatherProvider#load(String)} on the executor
+ * the caller passes, e.g. a bounded executor.
+ * Unknown cities and failures are not cached.
+ *
+ * Every load from the delegate is measured here, whichever provider it is:
+ * its duration and failures.
+ */
+public final class CachingWeatherProvider implements WeatherProvider {
+    
+    private static final LongAdder CACHE_HITS = WeatherMetrics.counter(WeatherMetrics.WEATHER_CACHE_HITS);
+    private static final LongAdder CACHE_MISSES = WeatherMetrics.counter(WeatherMetrics.WEATHER_CACHE_MISSES);
+    private static final LatencyHistogram REQUEST_TIME = WeatherMetrics.histogram(WeatherMetrics.WEATHER_REQUEST);
+    private static final LongAdder ERRORS = WeatherMetrics.counter(WeatherMetrics.WEATHER_ERRORS);
+    
+    private final WeatherProvider delegate;
+    private final long cacheMillis;
+    private final Set<Capability> capabilities;
+    
+    // Normalised city -> last forecast, least recently used first; guarded by itself
+    private final Map<String, CachedForecast> cache;
+    
+    // One load per city at a time; guarded by itself
+    private final Map<String, Load> inFlight = new HashMap<>();
+    
+    private static final class CachedForecast {
+        private final JSONObject data;
+        private final long fetchedAt;
+        
+        private CachedForecast(JSONObject data, long fetchedAt) {
+            this.data = data;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+    
+    /**
+     * A load from the delegate and the callers waiting for it.
+     */
+    private static final class Load {
+        private final CompletableFuture<JSONObject> result = new CompletableFuture<>();
+        // All guarded by inFlight
+        private int waiters;
+        private boolean started;
+        private CompletableFuture<JSONObject> task;
+    }
+    
+    /**
+     * Wrap a provider.
+     * @param delegate provider to load from on a miss
+     * @param cacheMillis how long a forecast stays fresh
+     * @param maxCities how many cities to keep
+     */
+    public CachingWeatherProvider(WeatherProvider delegate, long cacheMillis, int maxCities) {
+        this.delegate = delegate;
+        this.cacheMillis = cacheMillis;
+        
+        EnumSet<Capability> flags = EnumSet.of(Capability.CACHING);
+        flags.addAll(delegate.getCapabilities());
+        this.capabilities = Collections.unmodifiableSet(flags);
+        
+        this.cache = new LinkedHashMap<String, CachedForecast>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedForecast> eldest) {
+                return size() > maxCities;
+            }
+        };
+    }
+    
+    /**
+     * Get the wrapped provider.
+     * @return provider loads go to on a miss
+     */
+    public WeatherProvider getDelegate() {
+        return delegate;
+    }
+    
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+    
+    @Override
+    public Set<Capability> getCapabilities() {
+        return capabilities;
+    }
+    
+    /**
+     * Load a forecast on the calling thread, using and filling the cache.
+     * Waits for a load of the same city already in flight instead of
+     * starting another.
+     * @param cityName city to look up
+     * @return forecast, or null if the city is unknown
+     */
+    @Override
+    public JSONObject load(String cityName) {
+        try {
+            return fetch(cityName, Runnable::run).join();
+        } catch (CompletionException e) {
+            // Surface the delegate's own exception, as a direct call would
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Load a forecast. A fresh cached forecast completes the future at once;
+     * otherwise the caller joins the city's load in flight or starts one on
+     * the given executor.
+     * @param cityName city to look up
+     * @param executor where a new load from the delegate runs
+     * @return future weather json data, one per caller; completes with null if the city is unknown
+     */
+    @Override
+    public CompletableFuture<JSONObject> fetch(String cityName, Executor executor) {
+        JSONObject cached = getCached(cityName);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CACHE_MISSES.increment();
+        
+        String key = normalise(cityName);
+        Load load;
+        boolean first;
+        synchronized (inFlight) {
+            load = inFlight.get(key);
+            first = load == null;
+            if (first) {
+                load = new Load();
+                inFlight.put(key, load);
+            }
+            load.waiters++;
+        }
+        
+        CompletableFuture<JSONObject> waiter = load.result.copy();
+        Load joined = load;
+        waiter.whenComplete((data, failure) -> {
+            if (waiter.isCancelled()) {
+                leave(key, joined);
+            }
+        });
+        if (first) {
+            start(key, cityName, load, executor);
+        }
+        return waiter;
+    }
+    
+    /**
+     * Get a cached forecast without loading, e.g. to update the UI at once.
+     * @param cityName city to look up
+     * @return forecast younger than the cache lifetime, or null
+     */
+    public JSONObject getCached(String cityName) {
+        String key = normalise(cityName);
+        synchronized (cache) {
+            CachedForecast entry = cache.get(key);
+            if (entry != null && System.currentTimeMillis() - entry.fetchedAt < cacheMillis) {
+                CACHE_HITS.increment();
+                return entry.data;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Drop all cached forecasts so the next request goes to the delegate.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+    
+    private void start(String key, String cityName, Load load, Executor executor) {
+        CompletableFuture<JSONObject> task = WeatherExecutors.supplyAsync(() -> timedLoad(cityName, load), executor);
+        synchronized (inFlight) {
+            if (inFlight.get(key) == load) {
+                load.task = task;
+            } else {
+                // Every caller cancelled while the load was being submitted
+                task.cancel(false);
+            }
+        }
+        
+        task.whenComplete((data, failure) -> {
+            synchronized (inFlight) {
+                inFlight.remove(key, load);
+            }
+            if (failure != null) {
+                if (!task.isCancelled()) {
+                    ERRORS.increment();
+                }
+                load.result.completeExceptionally(failure);
+                return;
+            }
+            if (data != null) {
+                synchronized (cache) {
+                    cache.put(key, new CachedForecast(data, System.currentTimeMillis()));
+                }
+            }
+            load.result.complete(data);
+        });
+    }
+    
+    private JSONObject timedLoad(String cityName, Load load) {
+        synchronized (inFlight) {
+            load.started = true;
+        }
+        // Timed here, so time queued in the executor is not counted
+        long requestStart = System.nanoTime();
+        JSONObject data = delegate.load(cityName);
+        if (data != null) {
+            REQUEST_TIME.recordSince(requestStart);
+        }
+        return data;
+    }
+    
+    private void leave(String key, Load load) {
+        CompletableFuture<JSONObject> task;
+        synchronized (inFlight) {
+            load.waiters--;
+            // A load already running is left to finish and fill the cache;
+            // later requests for the city join it
+            if (load.waiters > 0 || load.started || inFlight.get(key) != load) {
+                return;
+            }
+            // Last caller gone before the load started: skip it
+            inFlight.remove(key);
+            task = load.task;
+        }
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+    
+    private static String normalise(String cityName) {
+        return cityName.trim().toLowerCase(Locale.ROOT);
+    }
+}
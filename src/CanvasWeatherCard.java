@@ -0,0 +1,235 @@
+import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.*;
+import javafx.scene.paint.*;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immediate-mode version of {@link HyperDetailedWeatherCard}: the same
+ * layout drawn into one Canvas instead of about 40 nodes per card.
+ *
+ * The card body (gradient and drop shadow) and the weather icons (see
+ * {@link FxIconImageCache}) are rendered once into images shared by every
+ * card, so a redraw is a few image copies and text draws. The canvas is
+ * redrawn only when the shown data actually changes. All methods must be
+ * called on the FX thread.
+ */
+public class CanvasWeatherCard extends Region implements FxWeatherCard {
+    
+    private static final double CARD_WIDTH = 280;
+    private static final double CARD_HEIGHT = 480;
+    private static final double CORNER_RADIUS = 20;
+    private static final double CARD_PADDING = 20;
+    private static final double ICON_SIZE = 80;
+    
+    // Room around the card for the drop shadow
+    private static final double SHADOW_MARGIN = 32;
+    
+    private static final Font DATE_FONT = Font.font("System", FontWeight.NORMAL, 14);
+    private static final Font TIME_FONT = Font.font("System", FontWeight.THIN, 48);
+    private static final Font LOCATION_FONT = Font.font("System", FontWeight.NORMAL, 16);
+    private static final Font TEMPERATURE_FONT = Font.font("System", FontWeight.THIN, 72);
+    private static final Font DAY_FONT = Font.font("System", FontWeight.NORMAL, 18);
+    private static final Font HOURLY_TIME_FONT = Font.font("System", FontWeight.NORMAL, 12);
+    private static final Font HOURLY_TEMP_FONT = Font.font("System", FontWeight.NORMAL, 14);
+    
+    // Shared across all cards; only touched on the FX thread
+    private static WritableImage bodyImage;
+    private static double bodyOffsetX;
+    private static double bodyOffsetY;
+    private static final Map<Font, Double> lineHeights = new HashMap<>();
+    
+    private final Canvas canvas;
+    
+    // What the canvas currently shows
+    private String date = "Monday, 27th april";
+    private String time = "9:43am";
+    private String location = "London";
+    private String temperature = "17°";
+    private String day = "Monday";
+    private String weatherType = "sunny";
+    private final String[][] hourly = {{"", ""}, {"", ""}, {"", ""}, {"", ""}};
+    
+    public CanvasWeatherCard() {
+        setPrefSize(CARD_WIDTH, CARD_HEIGHT);
+        setMaxSize(CARD_WIDTH, CARD_HEIGHT);
+        setMinSize(CARD_WIDTH, CARD_HEIGHT);
+        
+        // The canvas overhangs the card so the shadow is not clipped
+        canvas = new Canvas(CARD_WIDTH + SHADOW_MARGIN * 2, CARD_HEIGHT + SHADOW_MARGIN * 2);
+        canvas.setManaged(false);
+        canvas.setLayoutX(-SHADOW_MARGIN);
+        canvas.setLayoutY(-SHADOW_MARGIN);
+        getChildren().add(canvas);
+        
+        redraw();
+    }
+    
+    @Override
+    public Region getNode() {
+        return this;
+    }
+    
+    @Override
+    public void updateWeatherData(WeatherDataModel data) {
+        boolean changed = false;
+        if (data.getDate() != null && !data.getDate().equals(date)) {
+            date = data.getDate();
+            changed = true;
+        }
+        if (data.getTime() != null && !data.getTime().equals(time)) {
+            time = data.getTime();
+            changed = true;
+        }
+        if (data.getLocation() != null && !data.getLocation().equals(location)) {
+            location = data.getLocation();
+            changed = true;
+        }
+        if (data.getTemperature() != 0 && !(data.getTemperature() + "°").equals(temperature)) {
+            temperature = data.getTemperature() + "°";
+            changed = true;
+        }
+        if (data.getDay() != null && !data.getDay().equals(day)) {
+            day = data.getDay();
+            changed = true;
+        }
+        if (data.getWeatherType() != null && !data.getWeatherType().equalsIgnoreCase(weatherType)) {
+            weatherType = data.getWeatherType();
+            changed = true;
+        }
+        
+        String[][] hourlyData = data.getHourlyForecast();
+        if (hourlyData != null && hourlyData.length == 4) {
+            for (int i = 0; i < 4; i++) {
+                if (!Objects.equals(hourly[i][0], hourlyData[i][0]) || !Objects.equals(hourly[i][1], hourlyData[i][1])) {
+                    hourly[i][0] = hourlyData[i][0];
+                    hourly[i][1] = hourlyData[i][1];
+                    changed = true;
+                }
+            }
+        }
+        
+        if (changed) {
+            redraw();
+        }
+    }
+    
+    private void redraw() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        g.drawImage(getBodyImage(), SHADOW_MARGIN + bodyOffsetX, SHADOW_MARGIN + bodyOffsetY);
+        
+        g.save();
+        g.translate(SHADOW_MARGIN, SHADOW_MARGIN);
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setTextBaseline(VPos.BASELINE);
+        
+        double centerX = CARD_WIDTH / 2;
+        drawText(g, date, DATE_FONT, Color.rgb(255, 255, 255, 0.8), centerX, 24);
+        drawText(g, time, TIME_FONT, Color.WHITE, centerX, 40);
+        drawText(g, location, LOCATION_FONT, Color.rgb(255, 255, 255, 0.9), centerX, 92);
+        g.drawImage(HyperDetailedWeatherIcon.getImage(weatherType), (CARD_WIDTH - ICON_SIZE) / 2, 140, ICON_SIZE, ICON_SIZE);
+        drawText(g, temperature, TEMPERATURE_FONT, Color.WHITE, centerX, 240);
+        drawText(g, day, DAY_FONT, Color.rgb(255, 255, 255, 0.9), centerX, 320);
+        
+        g.setStroke(Color.rgb(255, 255, 255, 0.3));
+        g.setLineWidth(1);
+        g.strokeLine(CARD_PADDING, 360.5, CARD_WIDTH - CARD_PADDING, 360.5);
+        
+        drawHourlyForecast(g);
+        g.restore();
+    }
+    
+    /**
+     * Same geometry as the four VBox mini cards of HyperDetailedWeatherCard:
+     * 50px wide, 15px apart, centered, time / 20px ring / temperature.
+     */
+    private void drawHourlyForecast(GraphicsContext g) {
+        double rowWidth = 4 * 50 + 3 * 15;
+        double firstCenter = CARD_PADDING + (CARD_WIDTH - CARD_PADDING * 2 - rowWidth) / 2 + 25;
+        double timeHeight = lineHeight(HOURLY_TIME_FONT);
+        
+        for (int i = 0; i < 4; i++) {
+            double x = firstCenter + i * 65;
+            drawText(g, hourly[i][0], HOURLY_TIME_FONT, Color.rgb(255, 255, 255, 0.7), x, 380);
+            
+            double ringTop = 380 + timeHeight + 8;
+            g.setStroke(Color.WHITE);
+            g.setLineWidth(2);
+            g.strokeOval(x - 9, ringTop + 1, 18, 18);
+            
+            drawText(g, hourly[i][1], HOURLY_TEMP_FONT, Color.WHITE, x, ringTop + 20 + 8);
+        }
+    }
+    
+    /**
+     * Draws text whose layout box starts at top, matching how the node card
+     * positions its Text nodes.
+     */
+    private static void drawText(GraphicsContext g, String text, Font font, Paint fill, double centerX, double top) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        g.setFont(font);
+        g.setFill(fill);
+        g.fillText(text, centerX, top + lineHeight(font));
+    }
+    
+    private static double lineHeight(Font font) {
+        return lineHeights.computeIfAbsent(font, key -> {
+            Text probe = new Text("Ag");
+            probe.setFont(key);
+            return probe.getLayoutBounds().getHeight();
+        });
+    }
+    
+    /**
+     * Gradient background and drop shadow, rendered once for all cards.
+     */
+    private static WritableImage getBodyImage() {
+        if (bodyImage == null) {
+            Region body = new Region();
+            body.resize(CARD_WIDTH, CARD_HEIGHT);
+            body.setBackground(new Background(new BackgroundFill(
+                new LinearGradient(0, 0, 1, 1, true, CycleMethod.NO_CYCLE,
+                    new Stop(0, Color.web("#FFB75E")),
+                    new Stop(1, Color.web("#ED8F03"))),
+                new CornerRadii(CORNER_RADIUS),
+                Insets.EMPTY)));
+            
+            DropShadow dropShadow = new DropShadow();
+            dropShadow.setRadius(16);
+            dropShadow.setSpread(0.5);
+            dropShadow.setOffsetX(0);
+            dropShadow.setOffsetY(8);
+            dropShadow.setColor(Color.rgb(0, 0, 0, 0.15));
+            body.setEffect(dropShadow);
+            
+            // The snapshot covers the shadow too, so it starts up and left of the card
+            Bounds bounds = body.getBoundsInParent();
+            bodyOffsetX = bounds.getMinX();
+            bodyOffsetY = bounds.getMinY();
+            bodyImage = body.snapshot(transparentSnapshot(), null);
+        }
+        return bodyImage;
+    }
+    
+    private static SnapshotParameters transparentSnapshot() {
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return parameters;
+    }
+}
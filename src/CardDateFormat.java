@@ -0,0 +1,214 @@
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Date and time strings for the card headers, e.g. "Monday, 27th april"
+ * and "9:43am".
+ *
+ * Formatters are built once per locale. The date strings are cached for the
+ * current day and the time string for the current minute, so repeated paints
+ * and clock ticks get the very same interned String back instead of
+ * reformatting. English dates get ordinal suffixes; other locales show the
+ * plain day number. The locale is -Dweatherapp.locale (a language tag such
+ * as "de-DE"), defaulting to the JVM's formatting locale.
+ */
+public final class CardDateFormat {
+    
+    private static final Locale DEFAULT_LOCALE = defaultLocale();
+    
+    private static final Map<Locale, Formats> formatsByLocale = new ConcurrentHashMap<>();
+    
+    // Prevent instantiation
+    private CardDateFormat() {}
+    
+    /**
+     * Strings derived from one date, computed together.
+     */
+    private static final class DayStrings {
+        private final LocalDate date;
+        private final String dateLine;
+        private final String capitalizedDateLine;
+        private final String dayName;
+        
+        private DayStrings(LocalDate date, String dateLine, String capitalizedDateLine, String dayName) {
+            this.date = date;
+            this.dateLine = dateLine;
+            this.capitalizedDateLine = capitalizedDateLine;
+            this.dayName = dayName;
+        }
+    }
+    
+    private static final class TimeString {
+        private final LocalTime minute;
+        private final String timeLine;
+        
+        private TimeString(LocalTime minute, String timeLine) {
+            this.minute = minute;
+            this.timeLine = timeLine;
+        }
+    }
+    
+    /**
+     * Formatters and single-entry caches for one locale. Racing threads may
+     * both format a new day or minute, but always publish equal strings.
+     */
+    private static final class Formats {
+        private final Locale locale;
+        private final boolean ordinals;
+        private final DateTimeFormatter dayName;
+        private final DateTimeFormatter monthName;
+        private final DateTimeFormatter time;
+        private volatile DayStrings day;
+        private volatile TimeString minute;
+        
+        private Formats(Locale locale) {
+            this.locale = locale;
+            this.ordinals = "en".equals(locale.getLanguage());
+            this.dayName = DateTimeFormatter.ofPattern("EEEE", locale);
+            this.monthName = DateTimeFormatter.ofPattern("MMMM", locale);
+            this.time = DateTimeFormatter.ofPattern("h:mma", locale);
+        }
+        
+        private DayStrings day(LocalDate date) {
+            DayStrings cached = day;
+            if (cached != null && cached.date.equals(date)) {
+                return cached;
+            }
+            String name = date.format(dayName);
+            String month = date.format(monthName);
+            int dayOfMonth = date.getDayOfMonth();
+            String prefix = name + ", " + dayOfMonth + (ordinals ? ordinalSuffix(dayOfMonth) : "") + " ";
+            cached = new DayStrings(date,
+                (prefix + month.toLowerCase(locale)).intern(),
+                (prefix + month).intern(),
+                name.intern());
+            day = cached;
+            return cached;
+        }
+        
+        private String timeLine(LocalTime localTime) {
+            LocalTime key = localTime.truncatedTo(ChronoUnit.MINUTES);
+            TimeString cached = minute;
+            if (cached != null && cached.minute.equals(key)) {
+                return cached.timeLine;
+            }
+            cached = new TimeString(key, key.format(time).toLowerCase(locale).intern());
+            minute = cached;
+            return cached.timeLine;
+        }
+    }
+    
+    /**
+     * Get the locale the cards format dates in.
+     * @return -Dweatherapp.locale, or the JVM's formatting locale
+     */
+    public static Locale getDefaultLocale() {
+        return DEFAULT_LOCALE;
+    }
+    
+    /**
+     * Format the date line the cards show, e.g. "Monday, 27th april".
+     * @param date date to format
+     * @return interned date line in the default locale
+     */
+    public static String dateLine(LocalDate date) {
+        return dateLine(date, DEFAULT_LOCALE);
+    }
+    
+    /**
+     * Format the date line the cards show in a given locale.
+     * @param date date to format
+     * @param locale locale for day and month names
+     * @return interned date line
+     */
+    public static String dateLine(LocalDate date, Locale locale) {
+        return formats(locale).day(date).dateLine;
+    }
+    
+    /**
+     * Format the date line with the month capitalized, e.g. "Monday, 27th April".
+     * @param date date to format
+     * @return interned date line in the default locale
+     */
+    public static String capitalizedDateLine(LocalDate date) {
+        return capitalizedDateLine(date, DEFAULT_LOCALE);
+    }
+    
+    /**
+     * Format the date line with the month as the locale writes it.
+     * @param date date to format
+     * @param locale locale for day and month names
+     * @return interned date line
+     */
+    public static String capitalizedDateLine(LocalDate date, Locale locale) {
+        return formats(locale).day(date).capitalizedDateLine;
+    }
+    
+    /**
+     * Format the day of the week, e.g. "Monday".
+     * @param date date to format
+     * @return interned day name in the default locale
+     */
+    public static String dayName(LocalDate date) {
+        return dayName(date, DEFAULT_LOCALE);
+    }
+    
+    /**
+     * Format the day of the week in a given locale.
+     * @param date date to format
+     * @param locale locale for the day name
+     * @return interned day name
+     */
+    public static String dayName(LocalDate date, Locale locale) {
+        return formats(locale).day(date).dayName;
+    }
+    
+    /**
+     * Format the time line the cards show, e.g. "9:43am". Seconds are ignored.
+     * @param dateTime time to format
+     * @return interned time line in the default locale
+     */
+    public static String timeLine(LocalDateTime dateTime) {
+        return timeLine(dateTime, DEFAULT_LOCALE);
+    }
+    
+    /**
+     * Format the time line the cards show in a given locale.
+     * @param dateTime time to format
+     * @param locale locale for the am/pm marker
+     * @return interned time line
+     */
+    public static String timeLine(LocalDateTime dateTime, Locale locale) {
+        return formats(locale).timeLine(dateTime.toLocalTime());
+    }
+    
+    private static Formats formats(Locale locale) {
+        return formatsByLocale.computeIfAbsent(locale, Formats::new);
+    }
+    
+    private static String ordinalSuffix(int day) {
+        if (day >= 11 && day <= 13) {
+            return "th";
+        }
+        switch (day % 10) {
+            case 1: return "st";
+            case 2: return "nd";
+            case 3: return "rd";
+            default: return "th";
+        }
+    }
+    
+    private static Locale defaultLocale() {
+        String tag = System.getProperty("weatherapp.locale");
+        if (tag == null || tag.isBlank()) {
+            return Locale.getDefault(Locale.Category.FORMAT);
+        }
+        return Locale.forLanguageTag(tag.trim());
+    }
+}
@@ -0,0 +1,209 @@
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One clock for every weather card.
+ *
+ * A single daemon thread wakes just after each wall-clock minute boundary,
+ * takes the card header strings from {@link CardDateFormat} once and hands
+ * the same {@link Tick} to every subscriber on the thread it asked for (the
+ * EDT, the FX thread, ...).
+ * The next wake-up is computed from the wall clock on every tick, so the
+ * clock never drifts away from the minute boundary and is never more than
+ * a few milliseconds stale.
+ */
+public final class ClockService {
+    
+    // Fire slightly after the boundary so the new minute is always visible
+    private static final long BOUNDARY_SLACK_MILLIS = 20;
+    
+    private static final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private static ScheduledExecutorService scheduler;
+    private static Tick current;
+    
+    // Last tick handed to subscribers; only touched on the clock thread
+    private static Tick published;
+    
+    // Prevent instantiation
+    private ClockService() {}
+    
+    /**
+     * Receives the header strings once per minute.
+     */
+    public interface Listener {
+        /**
+         * Called on the subscriber's executor just after a minute boundary.
+         * @param tick date and time strings for the new minute
+         */
+        void onMinute(Tick tick);
+    }
+    
+    /**
+     * Formatted date and time for one minute, shared by all subscribers.
+     */
+    public static final class Tick {
+        private final LocalDateTime dateTime;
+        private final String dateLine;
+        private final String capitalizedDateLine;
+        private final String timeLine;
+        private final String dayName;
+        private final boolean newDay;
+        
+        private Tick(LocalDateTime dateTime, boolean newDay) {
+            this.dateTime = dateTime;
+            this.newDay = newDay;
+            
+            // Cached per day and per minute, so usually no formatting at all
+            LocalDate date = dateTime.toLocalDate();
+            this.dateLine = CardDateFormat.dateLine(date);
+            this.capitalizedDateLine = CardDateFormat.capitalizedDateLine(date);
+            this.dayName = CardDateFormat.dayName(date);
+            this.timeLine = CardDateFormat.timeLine(dateTime);
+        }
+        
+        /**
+         * @return the minute this tick stands for, truncated to the minute
+         */
+        public LocalDateTime getDateTime() {
+            return dateTime;
+        }
+        
+        /**
+         * @return date as the cards show it, e.g. "Monday, 27th april"
+         */
+        public String getDateLine() {
+            return dateLine;
+        }
+        
+        /**
+         * @return date with the month capitalized, e.g. "Monday, 27th April"
+         */
+        public String getCapitalizedDateLine() {
+            return capitalizedDateLine;
+        }
+        
+        /**
+         * @return time as the cards show it, e.g. "9:43am"
+         */
+        public String getTimeLine() {
+            return timeLine;
+        }
+        
+        /**
+         * @return day of the week, e.g. "Monday"
+         */
+        public String getDayName() {
+            return dayName;
+        }
+        
+        /**
+         * @return true if the date changed since the previous tick delivered
+         *         to subscribers, so more than the time region needs
+         *         repainting; always false for {@link ClockService#current()}
+         */
+        public boolean isNewDay() {
+            return newDay;
+        }
+    }
+    
+    /**
+     * Handle for a subscription.
+     */
+    public static final class Subscription {
+        private final Executor executor;
+        private final Listener listener;
+        
+        private Subscription(Executor executor, Listener listener) {
+            this.executor = executor;
+            this.listener = listener;
+        }
+        
+        /**
+         * Stop receiving ticks. A tick already handed to the executor may
+         * still arrive.
+         */
+        public void cancel() {
+            subscriptions.remove(this);
+        }
+    }
+    
+    /**
+     * Subscribe to minute ticks. The listener is not called for the current
+     * minute; use {@link #current()} to initialise.
+     * @param executor thread to deliver on, e.g. SwingUtilities::invokeLater or Platform::runLater
+     * @param listener receives each tick
+     * @return handle that can cancel the subscription
+     */
+    public static Subscription subscribe(Executor executor, Listener listener) {
+        Subscription subscription = new Subscription(executor, listener);
+        subscriptions.add(subscription);
+        startIfNeeded();
+        return subscription;
+    }
+    
+    /**
+     * Get the strings for the current minute, from any thread.
+     * @return tick for the current minute
+     */
+    public static synchronized Tick current() {
+        LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        if (current == null || !current.dateTime.equals(minute)) {
+            current = new Tick(minute, false);
+        }
+        return current;
+    }
+    
+    private static synchronized void startIfNeeded() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "weather-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        scheduler = executor;
+        scheduleNext();
+        WeatherAppLogger.debug("Clock service started");
+    }
+    
+    private static void scheduleNext() {
+        ZonedDateTime now = ZonedDateTime.now();
+        long delay = Duration.between(now, now.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1)).toMillis();
+        scheduler.schedule(ClockService::tick, delay + BOUNDARY_SLACK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    private static void tick() {
+        try {
+            LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+            // Woken early, e.g. after the wall clock was adjusted: nothing new to publish
+            if (published == null || !minute.equals(published.dateTime)) {
+                // The first tick may follow a subscriber's initial current() across midnight
+                boolean newDay = published == null || !published.dateTime.toLocalDate().equals(minute.toLocalDate());
+                Tick tick = new Tick(minute, newDay);
+                published = tick;
+                synchronized (ClockService.class) {
+                    // current() never reports a new day; same strings, so no reformatting
+                    current = newDay ? new Tick(minute, false) : tick;
+                }
+                for (Subscription subscription : subscriptions) {
+                    subscription.executor.execute(() -> subscription.listener.onMinute(tick));
+                }
+            }
+        } catch (RuntimeException e) {
+            WeatherAppLogger.error("Clock tick failed", e);
+        } finally {
+            scheduleNext();
+        }
+    }
+}
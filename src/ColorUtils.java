@@ -44,6 +44,23 @@ public final class ColorUtils {
         return new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), alpha);
     }
     
+    /**
+     * Blends two colors component-wise, including alpha.
+     * @param from the start color
+     * @param to the end color
+     * @param ratio blend ratio (0 = from, 1 = to)
+     * @return new blended Color
+     */
+    public static Color blend(Color from, Color to, double ratio) {
+        double clamped = Math.max(0.0, Math.min(1.0, ratio));
+        return new Color(
+            (int) Math.round(from.getRed() + (to.getRed() - from.getRed()) * clamped),
+            (int) Math.round(from.getGreen() + (to.getGreen() - from.getGreen()) * clamped),
+            (int) Math.round(from.getBlue() + (to.getBlue() - from.getBlue()) * clamped),
+            (int) Math.round(from.getAlpha() + (to.getAlpha() - from.getAlpha()) * clamped)
+        );
+    }
+    
     /**
      * Validates RGB/RGBA array.
      * @param values the color values array
@@ -0,0 +1,75 @@
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Human-readable log output: "[yyyy-MM-dd HH:mm:ss] LEVEL: message".
+ * Errors go to stderr, everything else to stdout, one print per stream
+ * per batch. Stack traces are printed for errors logged while debug
+ * logging was enabled.
+ */
+public class ConsoleLogSink implements LogSink {
+    
+    private final StringBuilder out = new StringBuilder(8192);
+    private final StringBuilder err = new StringBuilder(1024);
+    
+    private final DateTimeFormatter formatter =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+    
+    @Override
+    public void write(List<WeatherAppLogger.LogEvent> batch) {
+        for (WeatherAppLogger.LogEvent event : batch) {
+            StringBuilder target = event.getLevel() == WeatherAppLogger.Level.ERROR ? err : out;
+            target.append('[').append(timestamp(event.getTimeMillis())).append("] ")
+                .append(event.getLevel()).append(": ");
+            event.appendMessage(target);
+            for (int i = 0; i < event.getFieldCount(); i++) {
+                target.append(' ').append(event.getFieldName(i)).append('=').append(event.getFieldValue(i));
+            }
+            if (event.getThrowable() != null) {
+                target.append(" - Exception: ").append(event.getThrowable().getMessage());
+            }
+            target.append('\n');
+            
+            if (event.isStackTraceRequested()) {
+                // Stack traces are rare; write what precedes them first to keep order
+                printAndReset();
+                event.getThrowable().printStackTrace();
+            }
+        }
+        printAndReset();
+    }
+    
+    @Override
+    public void close() {
+        printAndReset();
+    }
+    
+    private void printAndReset() {
+        if (out.length() > 0) {
+            System.out.print(out);
+            System.out.flush();
+            out.setLength(0);
+        }
+        if (err.length() > 0) {
+            System.err.print(err);
+            System.err.flush();
+            err.setLength(0);
+        }
+    }
+    
+    /**
+     * Formats timestamps, reusing the last result within the same second.
+     */
+    private String timestamp(long timeMillis) {
+        long second = Math.floorDiv(timeMillis, 1000);
+        if (second != cachedSecond) {
+            cachedTimestamp = formatter.format(Instant.ofEpochMilli(timeMillis));
+            cachedSecond = second;
+        }
+        return cachedTimestamp;
+    }
+}
@@ -0,0 +1,218 @@
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Detects freezes of the Swing event dispatch thread.
+ *
+ * Two probes run side by side:
+ *   - a replacement EventQueue times every dispatch; a watchdog thread
+ *     polls it and, as soon as one dispatch has run longer than the
+ *     threshold, captures the EDT's stack while it is still stuck
+ *   - a heartbeat posted with invokeLater once a second measures how long
+ *     work waits in the queue, which catches floods of short events
+ *
+ * Stalls are counted in {@link WeatherMetrics#EDT_STALLS} and logged as
+ * structured "edt.stall" events with the stack attached. The threshold is
+ * -Dweatherapp.edt.stallMillis (default 250); -Dweatherapp.edt.watchdog=false
+ * turns the whole thing off.
+ */
+public final class EdtWatchdog {
+    
+    private static final long DEFAULT_STALL_MILLIS = 250;
+    private static final long HEARTBEAT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int MAX_STACK_FRAMES = 40;
+    
+    private static final LatencyHistogram DISPATCH_TIME = WeatherMetrics.histogram(WeatherMetrics.EDT_DISPATCH);
+    private static final LatencyHistogram HEARTBEAT_LAG = WeatherMetrics.histogram(WeatherMetrics.EDT_HEARTBEAT);
+    private static final LongAdder STALLS = WeatherMetrics.counter(WeatherMetrics.EDT_STALLS);
+    
+    private static volatile long stallNanos;
+    private static boolean installed;
+    
+    // Written by the EDT, read by the watchdog thread
+    private static volatile Thread edt;
+    private static volatile long dispatchStart;
+    private static volatile AWTEvent dispatchEvent;
+    
+    // Start of the dispatch the watchdog already reported, so each stall is counted once
+    private static volatile long reportedStart;
+    
+    // Heartbeat posted but not yet run, 0 if none
+    private static volatile long heartbeatPosted;
+    
+    // End of the last dispatch over the threshold; queueing behind it is not lag
+    private static volatile long lastStallEnd;
+    
+    // Prevent instantiation
+    private EdtWatchdog() {}
+    
+    /**
+     * Replace the system event queue with a timing one and start the
+     * watchdog thread. Call once at startup, from any thread; later calls
+     * do nothing.
+     */
+    public static synchronized void install() {
+        if (installed || !Boolean.parseBoolean(System.getProperty("weatherapp.edt.watchdog", "true"))) {
+            return;
+        }
+        installed = true;
+        stallNanos = TimeUnit.MILLISECONDS.toNanos(
+            Math.max(1, Long.getLong("weatherapp.edt.stallMillis", DEFAULT_STALL_MILLIS)));
+        
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new TimingEventQueue());
+        
+        Thread watchdog = new Thread(EdtWatchdog::watch, "weather-edt-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+        
+        WeatherAppLogger.debug("EDT watchdog installed, stall threshold {} ms",
+            TimeUnit.NANOSECONDS.toMillis(stallNanos));
+    }
+    
+    /**
+     * Get the stall threshold in use.
+     * @return threshold in milliseconds, or 0 if not installed
+     */
+    public static synchronized long getStallThresholdMillis() {
+        return installed ? TimeUnit.NANOSECONDS.toMillis(stallNanos) : 0;
+    }
+    
+    /**
+     * Event queue that times each dispatch. Time a nested loop spends
+     * dispatching or waiting for events, e.g. while a modal dialog is open,
+     * is not charged to the outer event.
+     */
+    private static final class TimingEventQueue extends EventQueue {
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            long start = System.nanoTime();
+            long outerStart = dispatchStart;
+            AWTEvent outerEvent = dispatchEvent;
+            edt = Thread.currentThread();
+            dispatchEvent = event;
+            dispatchStart = start;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long end = System.nanoTime();
+                long busyStart = dispatchStart;
+                long busy = end - busyStart;
+                DISPATCH_TIME.record(busy);
+                if (busy >= stallNanos) {
+                    lastStallEnd = end;
+                    dispatchFinishedSlowly(busyStart, busy, event);
+                }
+                dispatchEvent = outerEvent;
+                dispatchStart = outerStart == 0 ? 0 : end;
+            }
+        }
+        
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            // A nested loop waiting for input is idle, not busy: stop the outer
+            // event's clock while blocked and restart it when an event arrives
+            long outerStart = dispatchStart;
+            dispatchStart = 0;
+            try {
+                return super.getNextEvent();
+            } finally {
+                if (outerStart != 0) {
+                    dispatchStart = System.nanoTime();
+                }
+            }
+        }
+    }
+    
+    private static void dispatchFinishedSlowly(long start, long busy, AWTEvent event) {
+        if (reportedStart == start) {
+            WeatherAppLogger.event(WeatherAppLogger.Level.INFO, "edt.stall.end",
+                "durationMs", TimeUnit.NANOSECONDS.toMillis(busy), "event", describe(event));
+        } else {
+            // Finished between two polls; the stack is gone but the stall still counts
+            STALLS.increment();
+            WeatherAppLogger.event(WeatherAppLogger.Level.WARN, "edt.stall",
+                "durationMs", TimeUnit.NANOSECONDS.toMillis(busy), "event", describe(event));
+        }
+    }
+    
+    private static void watch() {
+        long pollNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(10), stallNanos / 4);
+        long nextHeartbeat = System.nanoTime();
+        boolean lagReported = false;
+        
+        while (true) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(pollNanos);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long now = System.nanoTime();
+            
+            long start = dispatchStart;
+            if (start != 0 && now - start >= stallNanos && reportedStart != start) {
+                reportedStart = start;
+                STALLS.increment();
+                Thread thread = edt;
+                WeatherAppLogger.event(WeatherAppLogger.Level.WARN, "edt.stall",
+                    "durationMs", TimeUnit.NANOSECONDS.toMillis(now - start),
+                    "event", describe(dispatchEvent),
+                    "stack", thread == null ? "" : formatStack(thread.getStackTrace()));
+            }
+            
+            long posted = heartbeatPosted;
+            if (posted == 0) {
+                lagReported = false;
+                if (now - nextHeartbeat >= 0) {
+                    nextHeartbeat = now + HEARTBEAT_INTERVAL_NANOS;
+                    heartbeatPosted = now;
+                    SwingUtilities.invokeLater(EdtWatchdog::heartbeat);
+                }
+            } else if (!lagReported && !stallInProgress()) {
+                // The queue is backed up but no single dispatch is to blame
+                long stallEnd = lastStallEnd;
+                long waitingSince = stallEnd - posted > 0 ? stallEnd : posted;
+                if (now - waitingSince >= stallNanos) {
+                    lagReported = true;
+                    WeatherAppLogger.event(WeatherAppLogger.Level.WARN, "edt.lag",
+                        "queuedMs", TimeUnit.NANOSECONDS.toMillis(now - posted));
+                }
+            }
+        }
+    }
+    
+    private static boolean stallInProgress() {
+        long start = dispatchStart;
+        return start != 0 && start == reportedStart;
+    }
+    
+    private static void heartbeat() {
+        long posted = heartbeatPosted;
+        if (posted != 0) {
+            HEARTBEAT_LAG.recordSince(posted);
+            heartbeatPosted = 0;
+        }
+    }
+    
+    private static String describe(AWTEvent event) {
+        if (event == null) {
+            return "unknown";
+        }
+        Object source = event.getSource();
+        String sourceName = source == null ? "null" : source.getClass().getSimpleName();
+        return event.getClass().getSimpleName() + "[id=" + event.getID() + "] from " + sourceName;
+    }
+    
+    private static String formatStack(StackTraceElement[] frames) {
+        StringBuilder stack = new StringBuilder(2048);
+        int count = Math.min(frames.length, MAX_STACK_FRAMES);
+        for (int i = 0; i < count; i++) {
+            stack.append("\n\tat ").append(frames[i]);
+        }
+        if (frames.length > count) {
+            stack.append("\n\t... ").append(frames.length - count).append(" more");
+        }
+        return stack.toString();
+    }
+}
@@ -0,0 +1,141 @@
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Replays forecast responses recorded from Open-Meteo (or a
+ * {@link SyntheticWeatherServer}), for offline benchmarks with real payloads.
+ *
+ * Each city is one file, e.g. fixtures/new-york.json, holding the raw
+ * forecast response exactly as it came over the wire; it goes through
+ * {@link WeatherApp#parseForecast(String)} on every load. Cities without a
+ * file are reported as unknown. The directory is -Dweatherapp.fixtures.dir,
+ * default "fixtures". Record fixtures from the configured endpoints with
+ *   java -cp out:lib/json-simple-1.1.1.jar FixtureWeatherProvider London "New York"
+ *
+ * Recordings keep their original timestamps, so a replay shows the first
+ * recorded hour rather than the current one.
+ */
+public final class FixtureWeatherProvider implements WeatherProvider {
+    
+    public static final String NAME = "fixture";
+    
+    private static final Set<Capability> CAPABILITIES =
+        WeatherProvider.capabilities(Capability.DETERMINISTIC, Capability.DAILY_FORECAST);
+    private static final LatencyHistogram FETCH_TIME = WeatherMetrics.histogram(WeatherMetrics.WEATHER_FETCH);
+    
+    private final Path directory;
+    
+    /**
+     * Create a provider over -Dweatherapp.fixtures.dir.
+     */
+    public FixtureWeatherProvider() {
+        this(defaultDirectory());
+    }
+    
+    /**
+     * Create a provider over a given fixture directory.
+     * @param directory directory holding one json file per city
+     */
+    public FixtureWeatherProvider(Path directory) {
+        this.directory = directory;
+    }
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public Set<Capability> getCapabilities() {
+        return CAPABILITIES;
+    }
+    
+    /**
+     * Get the file a city is recorded in.
+     * @param cityName city name as typed
+     * @return path of the fixture, which may not exist
+     */
+    public Path fixtureFile(String cityName) {
+        return directory.resolve(fileName(cityName));
+    }
+    
+    /**
+     * Record the current forecast for a city from the configured endpoints.
+     * @param cityName city to look up
+     * @return true if a fixture was written, false if the city is unknown or the call failed
+     * @throws IOException if the fixture cannot be written
+     */
+    public boolean record(String cityName) throws IOException {
+        JSONArray locations = WeatherApp.getLocationData(cityName);
+        if (locations == null || locations.isEmpty()) {
+            return false;
+        }
+        JSONObject location = (JSONObject) locations.get(0);
+        String forecast = WeatherApp.getForecastJson((double) location.get("latitude"), (double) location.get("longitude"));
+        if (forecast == null) {
+            return false;
+        }
+        Files.createDirectories(directory);
+        Files.writeString(fixtureFile(cityName), forecast, StandardCharsets.UTF_8);
+        return true;
+    }
+    
+    @Override
+    public JSONObject load(String cityName) {
+        Path file = fixtureFile(cityName);
+        if (!Files.isRegularFile(file)) {
+            WeatherAppLogger.debug("No fixture for {} at {}", cityName, file);
+            return null;
+        }
+        try {
+            long fetchStart = System.nanoTime();
+            String forecast = Files.readString(file, StandardCharsets.UTF_8);
+            FETCH_TIME.recordSince(fetchStart);
+            return WeatherApp.parseForecast(forecast);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read fixture " + file, e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Fixture " + file + " is not valid JSON", e);
+        }
+    }
+    
+    private static String fileName(String cityName) {
+        StringBuilder name = new StringBuilder();
+        for (char c : cityName.trim().toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                name.append(c);
+            } else if (name.length() > 0 && name.charAt(name.length() - 1) != '-') {
+                name.append('-');
+            }
+        }
+        if (name.length() > 0 && name.charAt(name.length() - 1) == '-') {
+            name.setLength(name.length() - 1);
+        }
+        return name + ".json";
+    }
+    
+    private static Path defaultDirectory() {
+        return Paths.get(System.getProperty("weatherapp.fixtures.dir", "fixtures"));
+    }
+    
+    public static void main(String[] args) throws IOException {
+        FixtureWeatherProvider provider = new FixtureWeatherProvider();
+        for (String city : args) {
+            if (provider.record(city)) {
+                System.out.println("Recorded " + city + " -> " + provider.fixtureFile(city));
+            } else {
+                System.out.println("Could not record " + city);
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.transform.Scale;
+import javafx.stage.Stage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pulse-time, node-count and heap benchmark for the JavaFX weather cards,
+ * at 1, 10 and 50 cards by default. Every measurement runs
+ * in a fresh JVM with pulses unthrottled (-Djavafx.animation.fullspeed=true,
+ * -Dprism.vsync=false), so the time between pulses is the cost of a pulse
+ * rather than the display refresh interval. Each pulse changes the time text
+ * of every card, like the once-a-minute clock update but continuously.
+ *
+ * Scenarios:
+ * - legacy: drop shadow on the whole card, recomputed whenever text changes
+ * - cached: shadow on a cached static body, text on an effect-free layer
+ * - canvas: CanvasWeatherCard, one Canvas per card
+ *
+ * Grids too large for the screen are scaled down uniformly so every card
+ * stays visible and is actually rendered.
+ *
+ * Usage, with the JavaFX module options the app is normally started with:
+ *   java --module-path ... --add-modules javafx.controls -cp out FxCardPulseBenchmark [cards,...] [seconds] [runs]
+ * Add -Djavafx.pulseLogger=true to a child's options for the per-phase
+ * breakdown of each pulse.
+ */
+public final class FxCardPulseBenchmark {
+    
+    private static final String[] SCENARIOS = {"legacy", "cached", "canvas"};
+    private static final long WARMUP_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int MAX_COLUMNS = 10;
+    private static final double MAX_WINDOW_WIDTH = 1600;
+    private static final double MAX_WINDOW_HEIGHT = 1000;
+    
+    // Prevent instantiation
+    private FxCardPulseBenchmark() {}
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && "--child".equals(args[0])) {
+            Application.launch(PulseApp.class, args);
+            return;
+        }
+        
+        String[] cardCounts = (args.length > 0 ? args[0] : "1,10,50").split(",");
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        for (String cardCount : cardCounts) {
+            int cards = Integer.parseInt(cardCount.trim());
+            for (String scenario : SCENARIOS) {
+                List<Double> means = new ArrayList<>();
+                List<Double> p99s = new ArrayList<>();
+                List<Double> heaps = new ArrayList<>();
+                String nodes = "";
+                for (int i = 0; i < runs; i++) {
+                    String[] result = launchChild(scenario, cards, seconds).split(" ");
+                    means.add(Double.parseDouble(result[1]));
+                    p99s.add(Double.parseDouble(result[2]));
+                    nodes = result[3];
+                    heaps.add(Double.parseDouble(result[4]));
+                }
+                System.out.printf("%-7s %3d cards: %6s nodes | heap median %6.1f MB | pulse mean median %6.2f ms | p99 median %6.2f ms%n",
+                    scenario, cards, nodes, median(heaps), median(means), median(p99s));
+            }
+        }
+    }
+    
+    private static String launchChild(String scenario, int cards, int seconds)
+            throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        // Keeps --module-path and --add-modules for JavaFX
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-Djavafx.animation.fullspeed=true");
+        command.add("-Dprism.vsync=false");
+        command.add("-Dweatherapp.fx.cacheCardBody=" + "cached".equals(scenario));
+        command.add("-Dweatherapp.fx.cardRenderer=" + ("canvas".equals(scenario) ? "canvas" : "nodes"));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(FxCardPulseBenchmark.class.getName());
+        command.add("--child");
+        command.add(scenario);
+        command.add(String.valueOf(cards));
+        command.add(String.valueOf(seconds));
+        
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String last = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                last = line;
+            }
+        }
+        if (process.waitFor() != 0 || last == null) {
+            throw new IllegalStateException("Benchmark child failed for scenario " + scenario + ": " + last);
+        }
+        return last;
+    }
+    
+    private static double median(List<Double> values) {
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+    
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+    
+    private static double usedHeapMegabytes() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return (runtime.totalMemory() - runtime.freeMemory()) / (1024.0 * 1024.0);
+    }
+    
+    /**
+     * One scenario: a window of cards whose time text changes every pulse.
+     * Prints "pulses meanMs p99Ms nodes heapMB" as its last line and exits.
+     */
+    public static final class PulseApp extends Application {
+        
+        @Override
+        public void start(Stage stage) {
+            List<String> args = getParameters().getRaw();
+            int cards = Integer.parseInt(args.get(2));
+            long measureNanos = TimeUnit.SECONDS.toNanos(Integer.parseInt(args.get(3)));
+            
+            List<FxWeatherCard> cardNodes = new ArrayList<>();
+            FlowPane grid = new FlowPane(10, 10);
+            grid.setPadding(new Insets(10));
+            for (int i = 0; i < cards; i++) {
+                FxWeatherCard card = FxWeatherCard.create();
+                cardNodes.add(card);
+                grid.getChildren().add(card.getNode());
+            }
+            int columns = Math.min(cards, MAX_COLUMNS);
+            int rows = (cards + columns - 1) / columns;
+            double width = columns * 290 + 10;
+            double height = rows * 490 + 10;
+            grid.setPrefWrapLength(width);
+            
+            double scale = Math.min(1, Math.min(MAX_WINDOW_WIDTH / width, MAX_WINDOW_HEIGHT / height));
+            grid.getTransforms().add(new Scale(scale, scale, 0, 0));
+            Group root = new Group(grid);
+            
+            stage.setTitle("FxCardPulseBenchmark - " + args.get(1));
+            stage.setScene(new Scene(root, width * scale, height * scale));
+            stage.show();
+            
+            int nodes = countNodes(root);
+            double heapMegabytes = usedHeapMegabytes();
+            
+            LatencyHistogram pulses = new LatencyHistogram("fx.pulse");
+            WeatherDataModel update = new WeatherDataModel();
+            new AnimationTimer() {
+                private long started;
+                private long previous;
+                private int tick;
+                
+                @Override
+                public void handle(long now) {
+                    if (started == 0) {
+                        started = now;
+                    } else if (now - started > WARMUP_NANOS) {
+                        pulses.record(now - previous);
+                    }
+                    previous = now;
+                    
+                    tick++;
+                    update.setTime((tick / 60) % 12 + 1 + ":" + String.format("%02d", tick % 60) + "am");
+                    for (FxWeatherCard card : cardNodes) {
+                        card.updateWeatherData(update);
+                    }
+                    
+                    if (now - started > WARMUP_NANOS + measureNanos) {
+                        stop();
+                        LatencyHistogram.Snapshot snapshot = pulses.snapshot();
+                        System.out.println(snapshot.getCount() + " " + snapshot.getMeanMillis()
+                            + " " + snapshot.getP99Millis() + " " + nodes + " " + heapMegabytes);
+                        Platform.exit();
+                    }
+                }
+            }.start();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+import javafx.stage.Screen;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Weather icon shapes rendered once into images shared by every JavaFX card.
+ *
+ * Icons are drawn as vector shapes only the first time a key is requested,
+ * then snapshotted at the primary screen's output scale so they stay sharp
+ * on HiDPI displays. Switching a card's condition is then just
+ * ImageView.setImage: no shapes are built and no CSS is applied. Call only
+ * on the FX thread.
+ */
+public final class FxIconImageCache {
+    
+    private static final Map<String, Image> images = new HashMap<>();
+    
+    // Prevent instantiation
+    private FxIconImageCache() {}
+    
+    /**
+     * Get the image for an icon, rendering its shapes on first use.
+     * @param key unique icon key, e.g. "hyper-detailed/cloudy"
+     * @param width icon width in scene pixels; the shapes are clipped to it
+     * @param height icon height in scene pixels
+     * @param shapes builds the icon's shapes, positioned inside width x height
+     * @return shared image; display it at width x height with an ImageView
+     */
+    public static Image get(String key, double width, double height, Supplier<Node> shapes) {
+        Image image = images.get(key);
+        if (image == null) {
+            image = render(shapes.get(), width, height);
+            images.put(key, image);
+        }
+        return image;
+    }
+    
+    /**
+     * Get number of rendered icons.
+     */
+    public static int size() {
+        return images.size();
+    }
+    
+    private static Image render(Node shapes, double width, double height) {
+        double scale = Math.max(1, Math.ceil(Screen.getPrimary().getOutputScaleX()));
+        
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(scale, scale));
+        // The viewport is in transformed coordinates
+        parameters.setViewport(new Rectangle2D(0, 0, width * scale, height * scale));
+        return shapes.snapshot(parameters, null);
+    }
+}
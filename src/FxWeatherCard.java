@@ -0,0 +1,37 @@
+import javafx.scene.layout.Region;
+
+/**
+ * A JavaFX weather card that can be filled from a {@link WeatherDataModel}.
+ *
+ * Two implementations exist: {@link HyperDetailedWeatherCard}, built from
+ * scene graph nodes, and {@link CanvasWeatherCard}, which draws into a
+ * single Canvas and scales better to grids of many cards. The renderer is
+ * picked at startup with -Dweatherapp.fx.cardRenderer=nodes|canvas
+ * (default nodes).
+ */
+public interface FxWeatherCard {
+    
+    /**
+     * Show new weather data. Null fields and a temperature of 0 keep what
+     * the card currently shows.
+     * @param data weather to show
+     */
+    void updateWeatherData(WeatherDataModel data);
+    
+    /**
+     * Get the node to add to the scene graph.
+     * @return the card itself
+     */
+    Region getNode();
+    
+    /**
+     * Create a card with the renderer selected at startup.
+     * @return new card; add {@link #getNode()} to the scene
+     */
+    static FxWeatherCard create() {
+        if ("canvas".equalsIgnoreCase(System.getProperty("weatherapp.fx.cardRenderer", "nodes"))) {
+            return new CanvasWeatherCard();
+        }
+        return new HyperDetailedWeatherCard();
+    }
+}
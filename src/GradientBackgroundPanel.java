@@ -0,0 +1,57 @@
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Panel that fills itself with a cached theme gradient.
+ * Changing the theme only swaps which cached background is blitted,
+ * so windows can follow the weather without rebuilding their content pane.
+ */
+public class GradientBackgroundPanel extends JPanel {
+    
+    private String theme;
+    
+    /**
+     * Creates a background panel for the given theme.
+     * @param theme weather condition or {@link BackgroundThemeCache#SCENE}
+     */
+    public GradientBackgroundPanel(String theme) {
+        this.theme = theme;
+        setOpaque(true);
+    }
+    
+    /**
+     * Creates a background panel with a layout manager.
+     * @param theme weather condition or {@link BackgroundThemeCache#SCENE}
+     * @param layout layout manager, or null for absolute positioning
+     */
+    public GradientBackgroundPanel(String theme, LayoutManager layout) {
+        this(theme);
+        setLayout(layout);
+    }
+    
+    /**
+     * Switches the theme and repaints if it changed.
+     * @param theme weather condition or {@link BackgroundThemeCache#SCENE}
+     */
+    public void setTheme(String theme) {
+        if (theme == null ? this.theme == null : theme.equals(this.theme)) {
+            return;
+        }
+        this.theme = theme;
+        repaint();
+    }
+    
+    public String getTheme() {
+        return theme;
+    }
+    
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        g.drawImage(BackgroundThemeCache.getBackground(theme, width, height), 0, 0, width, height, null);
+    }
+}
@@ -0,0 +1,101 @@
+import javax.swing.*;
+import java.awt.*;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Persistent hourly forecast row for WeatherAppGui.
+ * Holds a fixed pool of slots (time, icon, temperature) built once; updates
+ * only change label text and icons in place, so a search or unit toggle
+ * never rebuilds the component tree.
+ */
+public class HourlyForecastStrip extends JPanel {
+    
+    public static final int SLOT_COUNT = 4;
+    private static final int SLOT_WIDTH = 50;
+    private static final int ICON_SIZE = 20;
+    
+    private static final Font TIME_FONT = new Font("Helvetica Neue", Font.PLAIN, 12);
+    private static final Font TEMP_FONT = new Font("Helvetica Neue", Font.PLAIN, 14);
+    private static final Color TIME_COLOR = new Color(255, 255, 255, 179); // 0.7 opacity
+    
+    // Scaled icons shared by every strip, keyed by decoded source image
+    private static final Map<Image, ImageIcon> iconCache = new WeakHashMap<>();
+    
+    private final JLabel[] timeLabels = new JLabel[SLOT_COUNT];
+    private final JLabel[] iconLabels = new JLabel[SLOT_COUNT];
+    private final JLabel[] tempLabels = new JLabel[SLOT_COUNT];
+    
+    public HourlyForecastStrip() {
+        setLayout(new GridLayout(1, SLOT_COUNT, 16, 0));
+        setOpaque(false);
+        
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            add(createSlot(i));
+        }
+    }
+    
+    private JPanel createSlot(int index) {
+        JPanel slot = new JPanel();
+        slot.setLayout(null);
+        slot.setOpaque(false);
+        
+        // Time label (small, opacity 0.7)
+        timeLabels[index] = new JLabel("--");
+        timeLabels[index].setBounds(0, 0, SLOT_WIDTH, 15);
+        timeLabels[index].setFont(TIME_FONT);
+        timeLabels[index].setForeground(TIME_COLOR);
+        timeLabels[index].setHorizontalAlignment(SwingConstants.CENTER);
+        slot.add(timeLabels[index]);
+        
+        // Weather icon (small)
+        iconLabels[index] = new JLabel();
+        iconLabels[index].setBounds((SLOT_WIDTH - ICON_SIZE) / 2, 20, ICON_SIZE, ICON_SIZE);
+        slot.add(iconLabels[index]);
+        
+        // Temperature
+        tempLabels[index] = new JLabel("--°");
+        tempLabels[index].setBounds(0, 45, SLOT_WIDTH, 15);
+        tempLabels[index].setFont(TEMP_FONT);
+        tempLabels[index].setForeground(Color.WHITE);
+        tempLabels[index].setHorizontalAlignment(SwingConstants.CENTER);
+        slot.add(tempLabels[index]);
+        
+        return slot;
+    }
+    
+    /**
+     * Updates every slot in place. Labels whose text and icon are unchanged
+     * are left alone, so a repeated update costs no layout or repaint.
+     * @param times time label per slot
+     * @param temps temperature label per slot
+     * @param icon source image for every slot's icon, or null for none
+     */
+    public void update(String[] times, String[] temps, Image icon) {
+        if (times.length != SLOT_COUNT || temps.length != SLOT_COUNT) {
+            throw new IllegalArgumentException("Expected " + SLOT_COUNT + " hourly entries");
+        }
+        
+        ImageIcon scaledIcon = getIcon(icon);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            timeLabels[i].setText(times[i]);
+            tempLabels[i].setText(temps[i]);
+            if (iconLabels[i].getIcon() != scaledIcon) {
+                iconLabels[i].setIcon(scaledIcon);
+            }
+        }
+        
+        // Slot bounds are fixed, so one layout pass covers all label changes
+        revalidate();
+    }
+    
+    private static ImageIcon getIcon(Image source) {
+        if (source == null) {
+            return null;
+        }
+        synchronized (iconCache) {
+            return iconCache.computeIfAbsent(source,
+                key -> new ImageIcon(ImageScaler.scale(key, ICON_SIZE, ICON_SIZE)));
+        }
+    }
+}
@@ -4,6 +4,9 @@ import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 
 public class HyperDetailedSwingApp extends JFrame {
+    // Conditions the card has a gradient and icon for
+    private static final String[] CONDITIONS = {"sunny", "partly_cloudy", "cloudy", "rainy", "snow"};
+    
     private HyperDetailedSwingWeatherCard weatherCard;
     private CitySearchPanel searchPanel;
     
@@ -22,24 +25,8 @@ public class HyperDetailedSwingApp extends JFrame {
         setLocationRelativeTo(null);
         
         // Create dark purple gradient background for the scene
-        JPanel backgroundPanel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2d = (Graphics2D) g;
-                g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-                
-                // Scene background gradient: #8360c3 to #2ebf91
-                GradientPaint sceneGradient = new GradientPaint(
-                    0, 0, new Color(131, 96, 195),  // #8360c3
-                    getWidth(), getHeight(), new Color(46, 191, 145) // #2ebf91
-                );
-                g2d.setPaint(sceneGradient);
-                g2d.fillRect(0, 0, getWidth(), getHeight());
-            }
-        };
-        backgroundPanel.setLayout(new BorderLayout());
-        setContentPane(backgroundPanel);
+        // Scene background gradient: #8360c3 to #2ebf91
+        setContentPane(new GradientBackgroundPanel(BackgroundThemeCache.SCENE, new BorderLayout()));
     }
     
     private void createLayout() {
@@ -88,6 +75,8 @@ public class HyperDetailedSwingApp extends JFrame {
             new String[]{"10am", "11am", "12pm", "1pm"},
             new String[]{"15°", "16°", "18°", "19°"}
         );
+        
+        weatherCard.updateWeatherCondition("sunny");
     }
     
     private void updateWeatherForCity(String cityName, String countryName) {
@@ -116,6 +105,9 @@ public class HyperDetailedSwingApp extends JFrame {
             randomTemps
         );
         
+        // Morph the gradient and crossfade the icon to a random condition
+        weatherCard.updateWeatherCondition(getRandomCondition());
+        
         // No popup needed - just update silently
     }
     
@@ -124,6 +116,10 @@ public class HyperDetailedSwingApp extends JFrame {
         return 5 + (int)(Math.random() * 20);
     }
     
+    private String getRandomCondition() {
+        return CONDITIONS[(int)(Math.random() * CONDITIONS.length)];
+    }
+    
     public static void main(String[] args) {
         // Set system look and feel for better integration
         try {
@@ -132,6 +128,8 @@ public class HyperDetailedSwingApp extends JFrame {
             // Use default look and feel if system L&F fails
         }
         
+        EdtWatchdog.install();
+        
         SwingUtilities.invokeLater(() -> {
             new HyperDetailedSwingApp().setVisible(true);
         });
@@ -2,6 +2,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.*;
 import java.awt.image.BufferedImage;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class HyperDetailedSwingWeatherCard extends JPanel {
     
@@ -19,6 +21,15 @@ public class HyperDetailedSwingWeatherCard extends JPanel {
     private static final Color TERTIARY_TEXT = new Color(255, 255, 255, 179);  // 0.7 alpha
     private static final Color QUATERNARY_TEXT = new Color(255, 255, 255, 230); // 0.9 alpha
     
+    // Transition timings and the regions they repaint
+    private static final int MORPH_DURATION_MS = 400;
+    private static final int COUNT_UP_DURATION_MS = 600;
+    private static final Rectangle CARD_REGION = new Rectangle(0, 0, CARD_WIDTH, CARD_HEIGHT);
+    private static final Rectangle ICON_REGION = new Rectangle((CARD_WIDTH - 80) / 2, 140, 80, 80);
+    private static final Rectangle TEMPERATURE_REGION = new Rectangle(0, 240, CARD_WIDTH, 80);
+    private static final Pattern LEADING_DEGREES = Pattern.compile("^-?\\d+");
+    private static final LatencyHistogram PAINT_TIME = WeatherMetrics.paintHistogram(HyperDetailedSwingWeatherCard.class);
+    
     // Weather data
     private String dateText = "Monday, 27th april";
     private String timeText = "9:43am";
@@ -27,6 +38,16 @@ public class HyperDetailedSwingWeatherCard extends JPanel {
     private String dayText = "Monday";
     private String[] hourlyTimes = {"10am", "11am", "12pm", "1pm"};
     private String[] hourlyTemps = {"15°", "16°", "18°", "19°"};
+    private String weatherCondition = "sunny";
+    
+    // Animated state, confined to the EDT
+    private String displayedTemperature = temperatureText;
+    private Color gradientStart = GRADIENT_START;
+    private Color gradientEnd = GRADIENT_END;
+    private String previousCondition;
+    private double iconFadeProgress = 1.0;
+    private AnimationScheduler.Animation morphAnimation;
+    private AnimationScheduler.Animation temperatureAnimation;
     
     public HyperDetailedSwingWeatherCard() {
         setPreferredSize(new Dimension(CARD_WIDTH, CARD_HEIGHT));
@@ -36,6 +57,7 @@ public class HyperDetailedSwingWeatherCard extends JPanel {
     
     @Override
     protected void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g.create();
         
@@ -61,6 +83,7 @@ public class HyperDetailedSwingWeatherCard extends JPanel {
         drawHourlyForecast(g2d);
         
         g2d.dispose();
+        PAINT_TIME.recordSince(paintStart);
     }
     
     private void drawDropShadow(Graphics2D g2d) {
@@ -85,13 +108,13 @@ public class HyperDetailedSwingWeatherCard extends JPanel {
     }
     
     private void drawCardBackground(Graphics2D g2d) {
-        // Create gradient background with EXACT colors at 135° angle
-        GradientPaint gradient = new GradientPaint(
-            0, 0, GRADIENT_START,
-            CARD_WIDTH, CARD_HEIGHT, GRADIENT_END
-        );
-        
-        g2d.setPaint(gradient);
+        // Create gradient background with EXACT colors at 135° angle;
+        // only a running morph needs a fresh paint per frame
+        if (previousCondition != null) {
+            g2d.setPaint(new GradientPaint(0, 0, gradientStart, CARD_WIDTH, CARD_HEIGHT, gradientEnd));
+        } else {
+            g2d.setPaint(BackgroundThemeCache.getPaint(weatherCondition, CARD_WIDTH, CARD_HEIGHT));
+        }
         
         // Draw rounded rectangle with exact corner radius
         RoundRectangle2D card = new RoundRectangle2D.Double(
@@ -146,7 +169,45 @@ public class HyperDetailedSwingWeatherCard extends JPanel {
     }
     
     private void drawWeatherIcon(Graphics2D g2d) {
-        // Position: 140px from top (48px below location)
+        // Crossfade from the previous condition's icon while a morph is running
+        if (previousCondition != null && iconFadeProgress < 1.0) {
+            Composite original = g2d.getComposite();
+            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) (1.0 - iconFadeProgress)));
+            drawConditionIcon(g2d, previousCondition);
+            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) iconFadeProgress));
+            drawConditionIcon(g2d, weatherCondition);
+            g2d.setComposite(original);
+        } else {
+            drawConditionIcon(g2d, weatherCondition);
+        }
+    }
+    
+    private void drawConditionIcon(Graphics2D g2d, String condition) {
+        // Position: 140px from top (48px below location), 80px × 80px
+        int centerX = ICON_REGION.x + ICON_REGION.width / 2;
+        int centerY = ICON_REGION.y + ICON_REGION.height / 2;
+        
+        switch (condition.toLowerCase()) {
+            case "cloudy":
+            case "partly_cloudy":
+            case "partly cloudy":
+                WeatherIcon.drawCloudIcon(g2d, centerX, centerY, ICON_REGION.width, PRIMARY_TEXT);
+                break;
+            case "rain":
+            case "rainy":
+                WeatherIcon.drawRainIcon(g2d, centerX, centerY, ICON_REGION.width, PRIMARY_TEXT);
+                break;
+            case "snow":
+            case "snowy":
+                WeatherIcon.drawSnowIcon(g2d, centerX, centerY, ICON_REGION.width, PRIMARY_TEXT);
+                break;
+            default:
+                drawSunIcon(g2d);
+                break;
+        }
+    }
+    
+    private void drawSunIcon(Graphics2D g2d) {
         // Size: 80px × 80px sun symbol with 12 radiating lines
         int iconX = (CARD_WIDTH - 80) / 2;
         int iconY = 140;
@@ -188,11 +249,11 @@ public class HyperDetailedSwingWeatherCard extends JPanel {
         g2d.setColor(PRIMARY_TEXT);
         
         FontMetrics fm = g2d.getFontMetrics();
-        int textWidth = fm.stringWidth(temperatureText);
+        int textWidth = fm.stringWidth(displayedTemperature);
         int x = (CARD_WIDTH - textWidth) / 2;
         int y = 240 + fm.getAscent();
         
-        g2d.drawString(temperatureText, x, y);
+        g2d.drawString(displayedTemperature, x, y);
     }
     
     private void drawDayText(Graphics2D g2d) {
@@ -270,12 +331,17 @@ public class HyperDetailedSwingWeatherCard extends JPanel {
     // Method to update weather data
     public void updateWeatherData(String date, String time, String location, 
                                  String temperature, String day) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> updateWeatherData(date, time, location, temperature, day));
+            return;
+        }
         this.dateText = date;
         this.timeText = time;
         this.locationText = location;
         this.temperatureText = temperature;
         this.dayText = day;
         repaint();
+        animateTemperature(temperature);
     }
     
     public void updateHourlyForecast(String[] times, String[] temps) {
@@ -285,4 +351,72 @@ public class HyperDetailedSwingWeatherCard extends JPanel {
             repaint();
         }
     }
+    
+    // Morphs the gradient and crossfades the icon to the new condition
+    public void updateWeatherCondition(String condition) {
+        if (condition == null) {
+            return;
+        }
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> updateWeatherCondition(condition));
+            return;
+        }
+        if (condition.equalsIgnoreCase(weatherCondition)) {
+            return;
+        }
+        if (morphAnimation != null) {
+            morphAnimation.cancel();
+        }
+        
+        Color[] target = getGradientColors(condition);
+        Color fromStart = gradientStart;
+        Color fromEnd = gradientEnd;
+        previousCondition = weatherCondition;
+        weatherCondition = condition;
+        iconFadeProgress = 0.0;
+        
+        morphAnimation = AnimationScheduler.animate(this, CARD_REGION, MORPH_DURATION_MS, progress -> {
+            gradientStart = ColorUtils.blend(fromStart, target[0], progress);
+            gradientEnd = ColorUtils.blend(fromEnd, target[1], progress);
+            iconFadeProgress = progress;
+            if (progress >= 1.0) {
+                previousCondition = null;
+            }
+        });
+    }
+    
+    private void animateTemperature(String target) {
+        if (target.equals(displayedTemperature)) {
+            return;
+        }
+        if (temperatureAnimation != null) {
+            temperatureAnimation.cancel();
+        }
+        
+        // Non-numeric values switch immediately
+        Integer from = parseDegrees(displayedTemperature);
+        Integer to = parseDegrees(target);
+        if (from == null || to == null) {
+            displayedTemperature = target;
+            repaint(TEMPERATURE_REGION);
+            return;
+        }
+        
+        String suffix = LEADING_DEGREES.matcher(target).replaceFirst("");
+        temperatureAnimation = AnimationScheduler.animate(this, TEMPERATURE_REGION, COUNT_UP_DURATION_MS, progress -> {
+            displayedTemperature = progress >= 1.0
+                ? target
+                : Math.round(AnimationScheduler.interpolate(from, to, progress)) + suffix;
+        });
+    }
+    
+    private static Integer parseDegrees(String text) {
+        Matcher matcher = LEADING_DEGREES.matcher(text);
+        return matcher.find() ? Integer.valueOf(matcher.group()) : null;
+    }
+    
+    private static Color[] getGradientColors(String condition) {
+        BackgroundThemeCache.Theme theme = BackgroundThemeCache.getTheme(condition);
+        return new Color[]{theme.getGradientStart(), theme.getGradientEnd()};
+    }
 }
@@ -22,9 +22,9 @@ public class HyperDetailedWeatherApp extends Application {
         );
         root.setBackground(new Background(new BackgroundFill(sceneGradient, null, null)));
         
-        // Create the weather card
-        HyperDetailedWeatherCard weatherCard = new HyperDetailedWeatherCard();
-        root.getChildren().add(weatherCard);
+        // Create the weather card with the renderer chosen at startup
+        FxWeatherCard weatherCard = FxWeatherCard.create();
+        root.getChildren().add(weatherCard.getNode());
         
         // Create scene with exact dimensions (300x500 with 10px margin around 280x480 card)
         Scene scene = new Scene(root, 300, 500);
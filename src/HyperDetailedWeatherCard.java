@@ -1,5 +1,6 @@
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.CacheHint;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.layout.*;
 import javafx.scene.paint.*;
@@ -8,7 +9,20 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 
-public class HyperDetailedWeatherCard extends Region {
+/**
+ * Hyper-detailed JavaFX weather card.
+ *
+ * The card is two layers: a static body (gradient background and drop
+ * shadow) cached as a bitmap, and an effect-free content layer with the
+ * text and icons on top. Changing a text node then only repaints that
+ * text instead of recomputing the shadow over the whole card.
+ * -Dweatherapp.fx.cacheCardBody=false restores the old single-layer
+ * rendering, for FxCardPulseBenchmark comparisons.
+ */
+public class HyperDetailedWeatherCard extends Region implements FxWeatherCard {
+    
+    private static final boolean CACHE_CARD_BODY =
+        Boolean.parseBoolean(System.getProperty("weatherapp.fx.cacheCardBody", "true"));
     
     // EXACT dimensions as specified
     private static final double CARD_WIDTH = 280;
@@ -16,6 +30,10 @@ public class HyperDetailedWeatherCard extends Region {
     private static final double CORNER_RADIUS = 20;
     private static final double CARD_PADDING = 20;
     
+    // Static layer and the dynamic layer drawn over it
+    private Region cardBody;
+    private Pane contentLayer;
+    
     // Typography elements
     private Text dateText;
     private Text timeText;
@@ -37,6 +55,16 @@ public class HyperDetailedWeatherCard extends Region {
         setMaxSize(CARD_WIDTH, CARD_HEIGHT);
         setMinSize(CARD_WIDTH, CARD_HEIGHT);
         
+        cardBody = new Region();
+        cardBody.setPrefSize(CARD_WIDTH, CARD_HEIGHT);
+        cardBody.setMaxSize(CARD_WIDTH, CARD_HEIGHT);
+        cardBody.setMinSize(CARD_WIDTH, CARD_HEIGHT);
+        
+        contentLayer = new Pane();
+        contentLayer.setPrefSize(CARD_WIDTH, CARD_HEIGHT);
+        contentLayer.setMaxSize(CARD_WIDTH, CARD_HEIGHT);
+        contentLayer.setMinSize(CARD_WIDTH, CARD_HEIGHT);
+        
         // Create gradient background with EXACT colors
         LinearGradient gradient = new LinearGradient(
             0, 0, 1, 1, true, CycleMethod.NO_CYCLE,
@@ -45,7 +73,7 @@ public class HyperDetailedWeatherCard extends Region {
         );
         
         // Apply background with rounded corners
-        setBackground(new Background(new BackgroundFill(
+        cardBody.setBackground(new Background(new BackgroundFill(
             gradient, 
             new CornerRadii(CORNER_RADIUS), 
             Insets.EMPTY
@@ -58,7 +86,16 @@ public class HyperDetailedWeatherCard extends Region {
         dropShadow.setOffsetX(0);
         dropShadow.setOffsetY(8);
         dropShadow.setColor(Color.rgb(0, 0, 0, 0.15));
-        setEffect(dropShadow);
+        
+        if (CACHE_CARD_BODY) {
+            // Render background and shadow once; SPEED lets the bitmap be reused when moved
+            cardBody.setEffect(dropShadow);
+            cardBody.setCache(true);
+            cardBody.setCacheHint(CacheHint.SPEED);
+        } else {
+            // Old behaviour: the shadow covers the whole subtree, text included
+            setEffect(dropShadow);
+        }
     }
     
     private void createLayout() {
@@ -72,11 +109,12 @@ public class HyperDetailedWeatherCard extends Region {
         createDividerLine();
         createHourlyForecast();
         
-        // Add all elements to the card
-        getChildren().addAll(
+        // Add all elements to the content layer, above the static body
+        contentLayer.getChildren().addAll(
             dateText, timeText, locationText, weatherIcon,
             temperatureText, dayText, dividerLine, hourlyForecast
         );
+        getChildren().addAll(cardBody, contentLayer);
     }
     
     private void createDateText() {
@@ -210,6 +248,12 @@ public class HyperDetailedWeatherCard extends Region {
         return card;
     }
     
+    @Override
+    public Region getNode() {
+        return this;
+    }
+    
+    @Override
     public void updateWeatherData(WeatherDataModel data) {
         if (data.getDate() != null) dateText.setText(data.getDate());
         if (data.getTime() != null) timeText.setText(data.getTime());
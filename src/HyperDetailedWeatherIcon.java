@@ -1,8 +1,16 @@
 import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Line;
 
+/**
+ * 80x80 weather icon for HyperDetailedWeatherCard. Each condition's shapes
+ * are rendered once into an image shared by all cards, see
+ * {@link FxIconImageCache}; changing the condition swaps the image.
+ */
 public class HyperDetailedWeatherIcon extends Group {
     
     // EXACT specifications for the sun icon
@@ -12,11 +20,56 @@ public class HyperDetailedWeatherIcon extends Group {
     private static final double STROKE_WIDTH = 2;
     private static final int RAY_COUNT = 12;
     
+    private final ImageView imageView = new ImageView();
+    
     public HyperDetailedWeatherIcon() {
-        createSunIcon();
+        // Precise size, whatever the image's pixel density
+        imageView.setFitWidth(ICON_SIZE);
+        imageView.setFitHeight(ICON_SIZE);
+        imageView.setSmooth(true);
+        getChildren().add(imageView);
+        
+        setWeatherType("sunny");
+    }
+    
+    // Method to change weather icon type (for future enhancements)
+    public void setWeatherType(String weatherType) {
+        imageView.setImage(getImage(weatherType));
     }
     
-    private void createSunIcon() {
+    /**
+     * Get the shared icon image for a weather type, e.g. for Canvas drawing.
+     * @param weatherType "sunny", "clear", "cloudy" or "rainy"; anything else shows the sun
+     * @return image to draw at 80x80
+     */
+    public static Image getImage(String weatherType) {
+        String kind;
+        switch (weatherType.toLowerCase()) {
+            case "cloudy":
+                kind = "cloudy";
+                break;
+            case "rainy":
+                kind = "rainy";
+                break;
+            default:
+                kind = "sunny";
+                break;
+        }
+        return FxIconImageCache.get("hyper-detailed/" + kind, ICON_SIZE, ICON_SIZE, () -> createShapes(kind));
+    }
+    
+    private static Node createShapes(String kind) {
+        switch (kind) {
+            case "cloudy":
+                return createCloudIcon();
+            case "rainy":
+                return createRainIcon();
+            default:
+                return createSunIcon();
+        }
+    }
+    
+    private static Group createSunIcon() {
         // Center circle: 24px diameter (12px radius), 2px stroke
         Circle center = new Circle(ICON_SIZE / 2, ICON_SIZE / 2, CENTER_RADIUS);
         center.setFill(Color.TRANSPARENT);
@@ -51,36 +104,10 @@ public class HyperDetailedWeatherIcon extends Group {
         }
         
         // Add center circle and rays to the icon
-        getChildren().addAll(rays, center);
-        
-        // Set precise size
-        setPrefSize(ICON_SIZE, ICON_SIZE);
-        setMaxSize(ICON_SIZE, ICON_SIZE);
-        setMinSize(ICON_SIZE, ICON_SIZE);
-    }
-    
-    // Method to change weather icon type (for future enhancements)
-    public void setWeatherType(String weatherType) {
-        getChildren().clear();
-        
-        switch (weatherType.toLowerCase()) {
-            case "sunny":
-            case "clear":
-                createSunIcon();
-                break;
-            case "cloudy":
-                createCloudIcon();
-                break;
-            case "rainy":
-                createRainIcon();
-                break;
-            default:
-                createSunIcon();
-                break;
-        }
+        return new Group(rays, center);
     }
     
-    private void createCloudIcon() {
+    private static Group createCloudIcon() {
         // Simple cloud representation with circles
         double centerX = ICON_SIZE / 2;
         double centerY = ICON_SIZE / 2;
@@ -101,12 +128,12 @@ public class HyperDetailedWeatherIcon extends Group {
         cloud3.setStroke(Color.WHITE);
         cloud3.setStrokeWidth(STROKE_WIDTH);
         
-        getChildren().addAll(cloud1, cloud2, cloud3);
+        return new Group(cloud1, cloud2, cloud3);
     }
     
-    private void createRainIcon() {
+    private static Group createRainIcon() {
         // Create cloud first
-        createCloudIcon();
+        Group icon = createCloudIcon();
         
         // Add rain drops
         double centerX = ICON_SIZE / 2;
@@ -117,7 +144,8 @@ public class HyperDetailedWeatherIcon extends Group {
             Line rainDrop = new Line(x, centerY + 15, x, centerY + 25);
             rainDrop.setStroke(Color.WHITE);
             rainDrop.setStrokeWidth(1.5);
-            getChildren().add(rainDrop);
+            icon.getChildren().add(rainDrop);
         }
+        return icon;
     }
 }
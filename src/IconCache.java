@@ -0,0 +1,384 @@
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-tier cache for downloaded weather icons.
+ *
+ * Memory tier: a bounded, least-recently-used map of scaled icons, safe to
+ * use from any thread. Disk tier: the original PNG bytes stored under their
+ * SHA-256 hash, plus an index mapping icon codes to hashes, so a restarted
+ * app finds every icon it has seen before without touching the network.
+ * Concurrent requests for the same icon code share a single load.
+ */
+public class IconCache {
+    
+    /**
+     * Fetches the original PNG bytes for an icon code, e.g. over HTTP.
+     */
+    public interface IconFetcher {
+        /**
+         * @param iconCode icon code such as "01d"
+         * @return PNG bytes, or null if the icon is unavailable
+         * @throws IOException if the fetch fails
+         */
+        byte[] fetch(String iconCode) throws IOException;
+    }
+    
+    private static final String INDEX_FILE = "index.properties";
+    private static final String OBJECTS_DIR = "objects";
+    private static final LongAdder EDT_LOADS = WeatherMetrics.counter(WeatherMetrics.ICON_EDT_LOADS);
+    
+    private final Path directory;
+    private final IconFetcher fetcher;
+    private final Map<String, ImageIcon> memoryTier;
+    
+    // Icon code -> SHA-256 of its PNG bytes; guarded by itself and read
+    // lazily so that constructing the cache on the EDT does no disk I/O
+    private final Properties index = new Properties();
+    private boolean indexLoaded = false;
+    
+    // One load per icon code at a time
+    private final Map<String, CompletableFuture<BufferedImage>> inFlight = new ConcurrentHashMap<>();
+    
+    /**
+     * Creates a cache backed by the given directory.
+     * @param directory disk tier location, or null to keep icons in memory only
+     * @param maxMemoryIcons maximum number of scaled icons kept in memory
+     * @param fetcher loads icons missing from both tiers
+     */
+    public IconCache(Path directory, int maxMemoryIcons, IconFetcher fetcher) {
+        if (maxMemoryIcons <= 0) {
+            throw new IllegalArgumentException("Memory tier size must be positive");
+        }
+        this.directory = directory;
+        this.fetcher = fetcher;
+        this.memoryTier = new LinkedHashMap<String, ImageIcon>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ImageIcon> eldest) {
+                return size() > maxMemoryIcons;
+            }
+        };
+    }
+    
+    /**
+     * Default disk tier location: the weatherapp.iconCacheDir system property,
+     * or ~/.weatherapp/icons.
+     * @return cache directory
+     */
+    public static Path defaultDirectory() {
+        String configured = System.getProperty("weatherapp.iconCacheDir");
+        if (configured != null && !configured.isEmpty()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".weatherapp", "icons");
+    }
+    
+    /**
+     * Gets an icon scaled to the given size, loading it from disk or the
+     * fetcher on a miss. Blocks while a load is in progress, so a miss
+     * is not loaded on the EDT: it is logged and reported as null.
+     * @param iconCode icon code such as "01d"
+     * @param size icon width and height in pixels
+     * @return scaled icon, or null if the icon could not be loaded
+     */
+    public ImageIcon get(String iconCode, int size) {
+        String key = iconCode + "_" + size;
+        synchronized (memoryTier) {
+            ImageIcon cached = memoryTier.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        
+        BufferedImage source = loadSource(iconCode);
+        if (source == null) {
+            return null;
+        }
+        
+        ImageIcon icon = new ImageIcon(ImageScaler.scale(source, size, size));
+        put(iconCode, size, icon);
+        return icon;
+    }
+    
+    /**
+     * Gets an icon from the memory tier without loading anything.
+     * @param iconCode icon code
+     * @param size icon size in pixels
+     * @return cached icon, or null if not in memory
+     */
+    public ImageIcon getIfPresent(String iconCode, int size) {
+        synchronized (memoryTier) {
+            return memoryTier.get(iconCode + "_" + size);
+        }
+    }
+    
+    /**
+     * Loads an icon once and caches it at every given size.
+     * Must not be called on the EDT.
+     * @param iconCode icon code
+     * @param sizes icon sizes in pixels
+     * @return true if the icon is now cached at every size
+     */
+    public boolean preload(String iconCode, int... sizes) {
+        BufferedImage source = null;
+        for (int size : sizes) {
+            if (getIfPresent(iconCode, size) != null) {
+                continue;
+            }
+            
+            // Decode once, scale to every missing size
+            if (source == null) {
+                source = loadSource(iconCode);
+                if (source == null) {
+                    return false;
+                }
+            }
+            put(iconCode, size, new ImageIcon(ImageScaler.scale(source, size, size)));
+        }
+        return true;
+    }
+    
+    /**
+     * Stores an icon in the memory tier only, e.g. a locally drawn fallback.
+     * @param iconCode icon code
+     * @param size icon size in pixels
+     * @param icon icon to cache
+     */
+    public void put(String iconCode, int size, ImageIcon icon) {
+        synchronized (memoryTier) {
+            memoryTier.put(iconCode + "_" + size, icon);
+        }
+    }
+    
+    /**
+     * Checks whether a scaled icon is in the memory tier.
+     * @param iconCode icon code
+     * @param size icon size in pixels
+     * @return true if cached in memory
+     */
+    public boolean contains(String iconCode, int size) {
+        synchronized (memoryTier) {
+            return memoryTier.containsKey(iconCode + "_" + size);
+        }
+    }
+    
+    /**
+     * Checks whether the original icon is stored on disk.
+     * @param iconCode icon code
+     * @return true if the disk tier has the icon
+     */
+    public boolean isOnDisk(String iconCode) {
+        synchronized (index) {
+            ensureIndexLoaded();
+            return index.containsKey(iconCode);
+        }
+    }
+    
+    /**
+     * Clears the memory tier; the disk tier is kept.
+     */
+    public void clear() {
+        synchronized (memoryTier) {
+            memoryTier.clear();
+        }
+    }
+    
+    /**
+     * Get number of icons in the memory tier, for debugging.
+     */
+    public int size() {
+        synchronized (memoryTier) {
+            return memoryTier.size();
+        }
+    }
+    
+    /**
+     * Loads the decoded original for an icon code. Only the first caller
+     * for a code performs the load; concurrent callers wait for its result.
+     */
+    private BufferedImage loadSource(String iconCode) {
+        // Disk and network loads must never run during paint or event handling
+        if (SwingUtilities.isEventDispatchThread()) {
+            EDT_LOADS.increment();
+            WeatherAppLogger.warn("Icon {} is not cached; not loading it on the EDT", iconCode);
+            return null;
+        }
+        
+        CompletableFuture<BufferedImage> pending = new CompletableFuture<>();
+        CompletableFuture<BufferedImage> existing = inFlight.putIfAbsent(iconCode, pending);
+        if (existing != null) {
+            return existing.join();
+        }
+        
+        try {
+            BufferedImage source = readFromDisk(iconCode);
+            if (source == null) {
+                source = fetchAndStore(iconCode);
+            }
+            pending.complete(source);
+            return source;
+        } catch (RuntimeException e) {
+            pending.complete(null);
+            throw e;
+        } finally {
+            inFlight.remove(iconCode);
+        }
+    }
+    
+    private BufferedImage fetchAndStore(String iconCode) {
+        try {
+            byte[] bytes = fetcher.fetch(iconCode);
+            if (bytes == null) {
+                return null;
+            }
+            
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+            if (image != null) {
+                writeToDisk(iconCode, bytes);
+            }
+            return image;
+        } catch (IOException e) {
+            WeatherAppLogger.warn("Failed to fetch weather icon {}: {}", iconCode, e.getMessage());
+            return null;
+        }
+    }
+    
+    private BufferedImage readFromDisk(String iconCode) {
+        String hash;
+        synchronized (index) {
+            ensureIndexLoaded();
+            hash = index.getProperty(iconCode);
+        }
+        if (hash == null || directory == null) {
+            return null;
+        }
+        
+        Path file = directory.resolve(OBJECTS_DIR).resolve(hash + ".png");
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            
+            // A truncated or replaced file no longer matches its address
+            if (!hash.equals(sha256(bytes))) {
+                WeatherAppLogger.warn("Discarding corrupt cached icon {}", iconCode);
+                forget(iconCode);
+                return null;
+            }
+            return ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            WeatherAppLogger.warn("Cached icon {} unreadable: {}", iconCode, e.getMessage());
+            forget(iconCode);
+            return null;
+        }
+    }
+    
+    private void writeToDisk(String iconCode, byte[] bytes) {
+        if (directory == null) {
+            return;
+        }
+        
+        try {
+            String hash = sha256(bytes);
+            Path objects = Files.createDirectories(directory.resolve(OBJECTS_DIR));
+            Path file = objects.resolve(hash + ".png");
+            
+            // Identical bytes are stored once, whatever code they belong to
+            if (!Files.exists(file)) {
+                Path temp = Files.createTempFile(objects, hash, ".tmp");
+                Files.write(temp, bytes);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            
+            synchronized (index) {
+                ensureIndexLoaded();
+                index.setProperty(iconCode, hash);
+                saveIndex();
+            }
+        } catch (IOException e) {
+            WeatherAppLogger.warn("Could not store icon {} on disk: {}", iconCode, e.getMessage());
+        }
+    }
+    
+    private void forget(String iconCode) {
+        synchronized (index) {
+            ensureIndexLoaded();
+            if (index.remove(iconCode) != null) {
+                try {
+                    saveIndex();
+                } catch (IOException e) {
+                    WeatherAppLogger.warn("Could not update icon index: {}", e.getMessage());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Reads the index on first use. Caller must hold the index lock.
+     */
+    private void ensureIndexLoaded() {
+        if (indexLoaded) {
+            return;
+        }
+        indexLoaded = true;
+        
+        if (directory == null) {
+            return;
+        }
+        
+        Path file = directory.resolve(INDEX_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        
+        try (InputStream in = Files.newInputStream(file)) {
+            index.load(in);
+            WeatherAppLogger.debug("Icon cache index loaded with {} entries", index.size());
+        } catch (IOException e) {
+            WeatherAppLogger.warn("Could not read icon index: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Writes the index atomically. Caller must hold the index lock.
+     */
+    private void saveIndex() throws IOException {
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "index", ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            index.store(out, "Weather icon code -> SHA-256 of PNG bytes");
+        }
+        Files.move(temp, directory.resolve(INDEX_FILE),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+                hex.append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
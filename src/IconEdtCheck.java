@@ -0,0 +1,132 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Checks that icon loading never touches the disk tier or the network on
+ * the EDT. Runs the paths the cards use from the EDT against an empty icon
+ * cache, waits for the background loads, and exits with status 1 if
+ * IconCache or the OpenWeatherMap download was entered on the EDT
+ * ({@link WeatherMetrics#ICON_EDT_LOADS}).
+ *
+ *   - getWeatherIconAsync for every condition, day and night, and
+ *     getMiniWeatherIconAsync, at the card's sizes
+ *   - the synchronous getWeatherIcon, which must fall back to a drawn icon
+ *   - a full paint of WeatherCardOpenWeather, when a display is available
+ *
+ * Usage from the repo root, with compiled classes and assets on the classpath:
+ *   java -cp out:lib/json-simple-1.1.1.jar IconEdtCheck
+ * Add -Djava.awt.headless=true to skip the card paint on machines without a display.
+ */
+public final class IconEdtCheck {
+    
+    private static final String[] CONDITIONS = {
+        "Clear", "Cloudy", "partly cloudy", "Rain", "light rain", "Snow", "Thunderstorm", "Mist", null
+    };
+    private static final int ICON_SIZE = 80;
+    private static final int MINI_ICON_SIZE = 20;
+    private static final long LOAD_TIMEOUT_SECONDS = 60;
+    
+    // Prevent instantiation
+    private IconEdtCheck() {}
+    
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("weatherapp.iconCacheDir") == null) {
+            // Start from an empty disk tier so every icon is a miss
+            System.setProperty("weatherapp.iconCacheDir", Files.createTempDirectory("icon-edt-check").toString());
+        }
+        if (System.getProperty("weatherapp.icons.download") == null
+                && System.getProperty("weatherapp.icons.offline") == null) {
+            // The embedded pack is the default; the check is about the download path
+            System.setProperty("weatherapp.icons.download", "true");
+        }
+        if (OfflineIconPack.isOfflineMode()) {
+            System.out.println("Offline icon mode draws every icon in memory; nothing to check");
+            return;
+        }
+        EdtWatchdog.install();
+        
+        AtomicInteger callbacks = new AtomicInteger();
+        AtomicInteger callbacksOffEdt = new AtomicInteger();
+        Runnable onLoaded = () -> {
+            callbacks.incrementAndGet();
+            if (!SwingUtilities.isEventDispatchThread()) {
+                callbacksOffEdt.incrementAndGet();
+            }
+        };
+        
+        SwingUtilities.invokeAndWait(() -> {
+            for (String condition : CONDITIONS) {
+                for (boolean isDayTime : new boolean[]{true, false}) {
+                    require(OpenWeatherIcon.getWeatherIconAsync(condition, ICON_SIZE, isDayTime, onLoaded) != null,
+                        "getWeatherIconAsync returned null for " + condition);
+                }
+                require(OpenWeatherIcon.getMiniWeatherIconAsync(condition, MINI_ICON_SIZE, onLoaded) != null,
+                    "getMiniWeatherIconAsync returned null for " + condition);
+                require(OpenWeatherIcon.getWeatherIcon(condition, ICON_SIZE) != null,
+                    "getWeatherIcon returned null for " + condition);
+            }
+        });
+        
+        JFrame card = null;
+        if (!GraphicsEnvironment.isHeadless()) {
+            card = onEdt(WeatherCardOpenWeather::new);
+            paint(card);
+        } else {
+            System.out.println("Headless: skipping the WeatherCardOpenWeather paint");
+        }
+        
+        // Let the background loads finish, then let their callbacks and repaints run
+        OpenWeatherIcon.preloadIcons(ICON_SIZE, MINI_ICON_SIZE).get(LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        SwingUtilities.invokeAndWait(() -> {});
+        if (card != null) {
+            paint(card);
+            JFrame frame = card;
+            SwingUtilities.invokeAndWait(frame::dispose);
+        }
+        SwingUtilities.invokeAndWait(() -> {});
+        
+        long edtLoads = WeatherMetrics.counter(WeatherMetrics.ICON_EDT_LOADS).sum();
+        System.out.println("Callbacks: " + callbacks.get() + " (" + callbacksOffEdt.get() + " off the EDT)");
+        System.out.println("Icon loads entered on the EDT: " + edtLoads);
+        if (edtLoads != 0 || callbacksOffEdt.get() != 0) {
+            System.out.println("FAILED");
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+    
+    private static void paint(JFrame frame) throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            Container content = frame.getContentPane();
+            content.setSize(content.getPreferredSize());
+            content.doLayout();
+            BufferedImage image = new BufferedImage(
+                Math.max(1, content.getWidth()), Math.max(1, content.getHeight()), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = image.createGraphics();
+            try {
+                content.paint(g2d);
+            } finally {
+                g2d.dispose();
+            }
+        });
+    }
+    
+    private static <T> T onEdt(Supplier<T> supplier) throws Exception {
+        Object[] result = new Object[1];
+        SwingUtilities.invokeAndWait(() -> result[0] = supplier.get());
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        return value;
+    }
+    
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
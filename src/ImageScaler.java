@@ -0,0 +1,192 @@
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * High-quality image scaling service for weather icons.
+ * Replaces Image.getScaledInstance with progressive bilinear downscaling
+ * into screen-compatible BufferedImages, and caches every result per
+ * (source image, target size, scale factor).
+ */
+public final class ImageScaler {
+
+    // Scaled results per source image; weak keys let discarded sources be collected
+    private static final Map<Image, Map<String, BufferedImage>> scaledCache =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Prevent instantiation
+    private ImageScaler() {}
+
+    /**
+     * Scales an image to the given logical size at the default screen scale.
+     * @param source the source image
+     * @param width target width in pixels
+     * @param height target height in pixels
+     * @return scaled, screen-compatible image (cached)
+     */
+    public static BufferedImage scale(Image source, int width, int height) {
+        return scale(source, width, height, 1.0);
+    }
+
+    /**
+     * Scales an image to the given logical size multiplied by a device scale factor.
+     * @param source the source image
+     * @param width target logical width
+     * @param height target logical height
+     * @param scaleFactor device scale factor (e.g. 2.0 for HiDPI screens)
+     * @return scaled, screen-compatible image (cached)
+     */
+    public static BufferedImage scale(Image source, int width, int height, double scaleFactor) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source image cannot be null");
+        }
+        if (width <= 0 || height <= 0 || scaleFactor <= 0) {
+            throw new IllegalArgumentException("Target size and scale factor must be positive");
+        }
+
+        Map<String, BufferedImage> sizes;
+        synchronized (scaledCache) {
+            sizes = scaledCache.computeIfAbsent(source, key -> new ConcurrentHashMap<>());
+        }
+
+        String sizeKey = width + "x" + height + "@" + scaleFactor;
+        return sizes.computeIfAbsent(sizeKey, key -> progressiveScale(
+            toBufferedImage(source),
+            (int) Math.round(width * scaleFactor),
+            (int) Math.round(height * scaleFactor)
+        ));
+    }
+
+    /**
+     * Returns the scale factor of the default screen (1.0 when headless).
+     * @return default screen scale factor
+     */
+    public static double getDefaultScaleFactor() {
+        GraphicsConfiguration config = getDefaultConfiguration();
+        if (config == null) {
+            return 1.0;
+        }
+        AffineTransform transform = config.getDefaultTransform();
+        return Math.max(1.0, transform.getScaleX());
+    }
+
+    /**
+     * Creates an empty translucent image compatible with the default screen.
+     * @param width image width
+     * @param height image height
+     * @return new compatible image
+     */
+    public static BufferedImage createCompatibleImage(int width, int height) {
+        GraphicsConfiguration config = getDefaultConfiguration();
+        if (config != null) {
+            return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Converts an image to the default screen's pixel format so drawing it
+     * needs no per-pixel conversion. Images already in that format are
+     * returned as they are.
+     * @param image the image to convert
+     * @return compatible image
+     */
+    public static BufferedImage toCompatibleImage(BufferedImage image) {
+        GraphicsConfiguration config = getDefaultConfiguration();
+        ColorModel target = config != null
+            ? config.getColorModel(Transparency.TRANSLUCENT)
+            : ColorModel.getRGBdefault();
+        if (image.getColorModel().equals(target)) {
+            return image;
+        }
+
+        BufferedImage compatible = createCompatibleImage(image.getWidth(), image.getHeight());
+        Graphics2D g2d = compatible.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return compatible;
+    }
+
+    /**
+     * Clears all cached scaled images.
+     */
+    public static void clearCache() {
+        scaledCache.clear();
+    }
+
+    /**
+     * Get number of source images with cached scaled copies, for debugging.
+     */
+    public static int getCacheSize() {
+        return scaledCache.size();
+    }
+
+    /**
+     * Scales in successive halving steps with bilinear interpolation, which
+     * keeps quality close to SCALE_SMOOTH at a fraction of its cost.
+     */
+    private static BufferedImage progressiveScale(BufferedImage source, int targetWidth, int targetHeight) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        do {
+            // Halve each dimension until one more step would pass the target
+            if (currentWidth > targetWidth) {
+                currentWidth = Math.max(currentWidth / 2, targetWidth);
+            } else {
+                currentWidth = targetWidth;
+            }
+            if (currentHeight > targetHeight) {
+                currentHeight = Math.max(currentHeight / 2, targetHeight);
+            } else {
+                currentHeight = targetHeight;
+            }
+
+            BufferedImage step = createCompatibleImage(currentWidth, currentHeight);
+            Graphics2D g2d = step.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            g2d.dispose();
+
+            current = step;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * Converts any image to a BufferedImage, waiting for toolkit images to load.
+     */
+    private static BufferedImage toBufferedImage(Image image) {
+        if (image instanceof BufferedImage) {
+            return (BufferedImage) image;
+        }
+
+        // Toolkit images load lazily; ImageIcon blocks until the pixels are ready
+        Image loaded = new javax.swing.ImageIcon(image).getImage();
+        BufferedImage buffered = createCompatibleImage(
+            Math.max(1, loaded.getWidth(null)), Math.max(1, loaded.getHeight(null)));
+        Graphics2D g2d = buffered.createGraphics();
+        g2d.drawImage(loaded, 0, 0, null);
+        g2d.dispose();
+        return buffered;
+    }
+
+    private static GraphicsConfiguration getDefaultConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice()
+            .getDefaultConfiguration();
+    }
+}
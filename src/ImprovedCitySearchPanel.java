@@ -9,7 +9,6 @@ import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Enhanced city search panel with autocomplete functionality.
@@ -28,6 +27,8 @@ import java.util.concurrent.CompletableFuture;
  */
 public class ImprovedCitySearchPanel extends JPanel {
     
+    private static final LatencyHistogram SEARCH_TIME = WeatherMetrics.histogram(WeatherMetrics.SEARCH);
+    
     // Components
     private SimpleRoundedTextField searchField;
     private JPopupMenu suggestionPopup;
@@ -59,7 +60,7 @@ public class ImprovedCitySearchPanel extends JPanel {
         setupLayout();
         setupEventListeners();
         
-        WeatherAppLogger.info("City search panel initialized with " + cityDatabase.size() + " cities");
+        WeatherAppLogger.info("City search panel initialized with {} cities", cityDatabase.size());
     }
     
     /**
@@ -186,7 +187,7 @@ public class ImprovedCitySearchPanel extends JPanel {
         lastSearchTerm = currentTerm;
         
         // Perform search asynchronously to avoid blocking UI
-        CompletableFuture.supplyAsync(() -> performSearch(currentTerm))
+        WeatherExecutors.supplyAsync(() -> performSearch(currentTerm), WeatherExecutors.cpu())
                         .thenAccept(this::displaySuggestions)
                         .exceptionally(throwable -> {
                             handleSearchError(throwable);
@@ -205,6 +206,7 @@ public class ImprovedCitySearchPanel extends JPanel {
         }
         
         isSearching = true;
+        long searchStart = System.nanoTime();
         List<String> matches = new ArrayList<>();
         String lowerSearchTerm = searchTerm.toLowerCase();
         
@@ -218,12 +220,13 @@ public class ImprovedCitySearchPanel extends JPanel {
                 }
             }
             
-            WeatherAppLogger.debug("Search for '" + searchTerm + "' found " + matches.size() + " matches");
+            WeatherAppLogger.debug("Search for '{}' found {} matches", searchTerm, matches.size());
             
         } catch (Exception e) {
             WeatherAppLogger.error("Error during city search", e);
         } finally {
             isSearching = false;
+            SEARCH_TIME.recordSince(searchStart);
         }
         
         return matches;
@@ -348,11 +351,11 @@ public class ImprovedCitySearchPanel extends JPanel {
             // Notify listener
             if (listener != null) {
                 listener.onCitySelected(cityName, countryName);
-                WeatherAppLogger.info("City selected: " + cityName + ", " + countryName);
+                WeatherAppLogger.info("City selected: {}, {}", cityName, countryName);
             }
             
         } catch (Exception e) {
-            WeatherAppLogger.error("Error selecting city: " + cityCountry, e);
+            WeatherAppLogger.error("Error selecting city: {}", cityCountry, e);
         }
     }
     
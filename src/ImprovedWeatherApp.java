@@ -1,6 +1,5 @@
 import javax.swing.*;
 import java.awt.*;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Main application class for the Hyper-Detailed Weather Card application.
@@ -22,8 +21,23 @@ public class ImprovedWeatherApp extends JFrame {
     private ImprovedCitySearchPanel searchPanel;
     
     // Application state
-    private EnhancedWeatherData currentWeatherData;
-    private volatile boolean isLoadingWeather = false;
+    private volatile EnhancedWeatherData currentWeatherData;
+    
+    // Loads selections one at a time, keeping only the latest one waiting;
+    // results are delivered in order on a background thread
+    private final WeatherRequestCoordinator.Session weatherRequests =
+        WeatherRequestCoordinator.getShared().openSession(WeatherExecutors.cpu(),
+            new WeatherRequestCoordinator.Listener() {
+                @Override
+                public void onWeatherLoaded(String cityName, String countryName, EnhancedWeatherData weatherData) {
+                    updateWeatherDisplay(weatherData);
+                }
+                
+                @Override
+                public void onWeatherFailed(String cityName, String countryName, Throwable error) {
+                    handleWeatherLoadError(error);
+                }
+            });
     
     /**
      * Creates and initializes the weather application.
@@ -55,7 +69,7 @@ public class ImprovedWeatherApp extends JFrame {
         try {
             // UIManager.setLookAndFeel(UIManager.getSystemLookAndFeel());
         } catch (Exception e) {
-            WeatherAppLogger.warn("Could not set system look and feel: " + e.getMessage());
+            WeatherAppLogger.warn("Could not set system look and feel: {}", e.getMessage());
         }
     }
     
@@ -79,35 +93,8 @@ public class ImprovedWeatherApp extends JFrame {
         setSize(WeatherAppConstants.UI.SCENE_WIDTH, WeatherAppConstants.UI.SCENE_HEIGHT);
         setLocationRelativeTo(null);
         
-        // Create scene background with gradient
-        JPanel backgroundPanel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                paintSceneBackground(g);
-            }
-        };
-        backgroundPanel.setLayout(new BorderLayout());
-        setContentPane(backgroundPanel);
-    }
-    
-    /**
-     * Paints the scene background with gradient.
-     * @param g Graphics context
-     */
-    private void paintSceneBackground(Graphics g) {
-        Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-        
-        Color sceneStart = ColorUtils.fromRGB(WeatherAppConstants.Colors.SCENE_START_RGB);
-        Color sceneEnd = ColorUtils.fromRGB(WeatherAppConstants.Colors.SCENE_END_RGB);
-        
-        GradientPaint sceneGradient = new GradientPaint(
-            0, 0, sceneStart,
-            getWidth(), getHeight(), sceneEnd
-        );
-        g2d.setPaint(sceneGradient);
-        g2d.fillRect(0, 0, getWidth(), getHeight());
+        // Create scene background with cached gradient
+        setContentPane(new GradientBackgroundPanel(BackgroundThemeCache.SCENE, new BorderLayout()));
     }
     
     /**
@@ -169,92 +156,67 @@ public class ImprovedWeatherApp extends JFrame {
      * @param countryName selected country name
      */
     private void handleCitySelection(String cityName, String countryName) {
-        if (isLoadingWeather) {
-            WeatherAppLogger.debug("Weather loading already in progress, ignoring selection");
-            return;
-        }
-        
-        WeatherAppLogger.info("User selected city: " + cityName + ", " + countryName);
-        loadWeatherForLocation(cityName, countryName);
-    }
-    
-    /**
-     * Loads weather data for the specified location.
-     * @param cityName city name
-     * @param countryName country name
-     */
-    private void loadWeatherForLocation(String cityName, String countryName) {
-        isLoadingWeather = true;
-        
-        // Show loading state (optional - could add progress indicator)
-        WeatherAppLogger.debug("Loading weather data for " + cityName + ", " + countryName);
+        WeatherAppLogger.info("User selected city: {}, {}", cityName, countryName);
         
-        CompletableFuture<EnhancedWeatherData> weatherFuture = 
-            WeatherService.getWeatherForLocation(cityName, countryName);
-        
-        weatherFuture
-            .thenAccept(this::updateWeatherDisplay)
-            .exceptionally(this::handleWeatherLoadError)
-            .whenComplete((result, throwable) -> {
-                isLoadingWeather = false;
-            });
+        // Queued behind a load in progress instead of being ignored
+        weatherRequests.select(cityName, countryName);
     }
     
     /**
      * Updates the weather display with new data.
+     * Runs on the calling thread: the card composes its next frame in the
+     * background and only hands the finished image to the EDT.
      * @param weatherData the new weather data
      */
     private void updateWeatherDisplay(EnhancedWeatherData weatherData) {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                if (WeatherService.isValidWeatherData(weatherData)) {
-                    currentWeatherData = weatherData;
-                    
-                    // Update weather card
-                    weatherCard.updateWeatherData(
-                        weatherData.getDate(),
-                        weatherData.getTime(),
-                        weatherData.getLocation(),
-                        weatherData.getTemperatureString(),
-                        weatherData.getDay()
+        try {
+            if (WeatherService.isValidWeatherData(weatherData)) {
+                currentWeatherData = weatherData;
+                
+                // Update weather card
+                weatherCard.updateWeatherData(
+                    weatherData.getDate(),
+                    weatherData.getTime(),
+                    weatherData.getLocation(),
+                    weatherData.getTemperatureString(),
+                    weatherData.getDay()
+                );
+                weatherCard.updateWeatherCondition(weatherData.getWeatherCondition());
+                
+                // Update hourly forecast if available
+                if (weatherData.hasHourlyForecast()) {
+                    weatherCard.updateHourlyForecast(
+                        weatherData.getHourlyTimes(),
+                        weatherData.getHourlyTemperatures()
                     );
-                    
-                    // Update hourly forecast if available
-                    if (weatherData.hasHourlyForecast()) {
-                        weatherCard.updateHourlyForecast(
-                            weatherData.getHourlyTimes(),
-                            weatherData.getHourlyTemperatures()
-                        );
-                    }
-                    
-                    WeatherAppLogger.info("Weather display updated successfully");
-                    
-                } else {
-                    WeatherAppLogger.error("Received invalid weather data");
-                    showErrorDialog("Data Error", "Received invalid weather data. Please try again.");
                 }
                 
-            } catch (Exception e) {
-                WeatherAppLogger.error("Error updating weather display", e);
-                showErrorDialog("Display Error", "Failed to update weather display. Please try again.");
+                WeatherAppLogger.info("Weather display updated successfully");
+                
+            } else {
+                WeatherAppLogger.error("Received invalid weather data");
+                SwingUtilities.invokeLater(() ->
+                    showErrorDialog("Data Error", "Received invalid weather data. Please try again."));
             }
-        });
+            
+        } catch (Exception e) {
+            WeatherAppLogger.error("Error updating weather display", e);
+            SwingUtilities.invokeLater(() ->
+                showErrorDialog("Display Error", "Failed to update weather display. Please try again."));
+        }
     }
     
     /**
      * Handles errors during weather data loading.
      * @param throwable the error that occurred
-     * @return null (required by CompletableFuture)
      */
-    private Void handleWeatherLoadError(Throwable throwable) {
+    private void handleWeatherLoadError(Throwable throwable) {
         WeatherAppLogger.error("Failed to load weather data", throwable);
         
         SwingUtilities.invokeLater(() -> {
             showErrorDialog("Weather Data Error", 
                           "Failed to load weather data. Please check your connection and try again.");
         });
-        
-        return null;
     }
     
     /**
@@ -313,7 +275,7 @@ public class ImprovedWeatherApp extends JFrame {
      * @return true if loading, false otherwise
      */
     public boolean isLoadingWeather() {
-        return isLoadingWeather;
+        return weatherRequests.isBusy();
     }
     
     /**
@@ -328,6 +290,9 @@ public class ImprovedWeatherApp extends JFrame {
      * @param args command line arguments
      */
     public static void main(String[] args) {
+        // Report UI freezes before any window exists
+        EdtWatchdog.install();
+        
         // Ensure UI updates happen on EDT
         SwingUtilities.invokeLater(() -> {
             try {
@@ -1,46 +1,181 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.*;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Hyper-detailed weather card component that displays weather information
  * with precise visual specifications and professional styling.
- * 
+ *
  * Features:
  * - Exact 280x480px dimensions with 20px corner radius
  * - Orange gradient background (#FFB75E to #ED8F03)
  * - Custom sun icon with 12 radiating rays
  * - Typography with exact positioning and font specifications
  * - Hourly forecast display
- * 
+ * - Off-EDT frame composition: new data is rendered into an offscreen
+ *   buffer on a background thread and swapped in atomically, so the
+ *   EDT only blits the finished frame
+ * - Animated transitions: frames crossfade (icon and gradient morph)
+ *   and the temperature counts up to its new value. The crossfade is
+ *   blended and the temperature values are drawn on the render thread;
+ *   each animation frame copies finished images into the regions that
+ *   changed, and nothing else
+ *
  * @author Weather App Team
  * @version 2.0
  */
 public class ImprovedWeatherCard extends JPanel {
     
-    // Weather data fields
-    private String dateText = "Monday, 27th april";
-    private String timeText = "9:43am";
-    private String locationText = "London";
-    private String temperatureText = "17°";
-    private String dayText = "Monday";
-    private String[] hourlyTimes = {"10am", "11am", "12pm", "1pm"};
-    private String[] hourlyTemps = {"15°", "16°", "18°", "19°"};
+    // Shared background renderer; a single thread keeps frame order deterministic
+    private static final ExecutorService RENDER_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "weather-card-renderer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    // Fonts are immutable and therefore safe to share with the render thread
+    private static final Font DATE_FONT = createFont(WeatherAppConstants.Typography.DATE_FONT_SIZE);
+    private static final Font TIME_FONT = createFont(WeatherAppConstants.Typography.TIME_FONT_SIZE);
+    private static final Font LOCATION_FONT = createFont(WeatherAppConstants.Typography.LOCATION_FONT_SIZE);
+    private static final Font TEMPERATURE_FONT = createFont(WeatherAppConstants.Typography.TEMPERATURE_FONT_SIZE);
+    private static final Font DAY_FONT = createFont(WeatherAppConstants.Typography.DAY_FONT_SIZE);
+    private static final Font HOURLY_TIME_FONT = createFont(WeatherAppConstants.Typography.HOURLY_TIME_FONT_SIZE);
+    private static final Font HOURLY_TEMP_FONT = createFont(WeatherAppConstants.Typography.HOURLY_TEMP_FONT_SIZE);
+    private static final Color DIVIDER_COLOR = new Color(255, 255, 255, 77); // 0.3 alpha
+    
+    // Transition timings and the regions they repaint
+    private static final int CROSSFADE_DURATION_MS = 300;
+    // Room around the temperature text for antialiased glyph edges
+    private static final int TEXT_PADDING = 4;
+    private static final int COUNT_UP_DURATION_MS = 600;
+    private static final Pattern LEADING_DEGREES = Pattern.compile("^-?\\d+");
+    private static final LatencyHistogram PAINT_TIME = WeatherMetrics.paintHistogram(ImprovedWeatherCard.class);
+    private static final Rectangle CARD_REGION = new Rectangle(
+        0, 0, WeatherAppConstants.UI.CARD_WIDTH, WeatherAppConstants.UI.CARD_HEIGHT);
+    private static final Rectangle TEMPERATURE_REGION = new Rectangle(
+        0, WeatherAppConstants.Layout.TEMPERATURE_Y_POSITION, WeatherAppConstants.UI.CARD_WIDTH, 100);
+    
+    // Weather data, replaced as a whole so the render thread always sees a consistent snapshot
+    private final AtomicReference<CardState> state = new AtomicReference<>(new CardState(
+        "Monday, 27th april", "9:43am", "London", "17°", "Monday", "sunny",
+        new String[]{"10am", "11am", "12pm", "1pm"},
+        new String[]{"15°", "16°", "18°", "19°"}
+    ));
+    
+    // Last composed frame; written on the EDT, read by paintComponent
+    private volatile BufferedImage frame;
+    private final AtomicBoolean renderPending = new AtomicBoolean(false);
+    
+    // Last frame, temperature and temperature texts composed, confined to the render thread
+    private BufferedImage lastRendered;
+    private String lastRenderedTemperature;
+    private Map<String, TextSprite> lastTemperatureSprites = Collections.emptyMap();
+    private double lastSpriteScale;
+    
+    // Transition state, confined to the EDT
+    private double frameScale = 1.0;
+    private BufferedImage previousFrame;
+    private Rectangle crossfadeRegion;
+    private int crossfadeGeneration = 0;
+    private double crossfadeProgress = 1.0;
+    private BufferedImage blendedRegion;
+    private BufferedImage spareBlendBuffer;
+    private boolean blendPending = false;
+    private Map<String, TextSprite> temperatureSprites = Collections.emptyMap();
+    private TextSprite displayedSprite;
+    // Written on the EDT; the render thread reads it to know where a count-up starts
+    private volatile String displayedTemperature;
+    private AnimationScheduler.Animation crossfadeAnimation;
+    private AnimationScheduler.Animation temperatureAnimation;
     
     // Color instances (created once for performance)
-    private Color gradientStart;
-    private Color gradientEnd;
     private Color primaryText;
     private Color secondaryText;
     private Color tertiaryText;
     private Color quaternaryText;
     
+    /**
+     * Immutable snapshot of everything the card displays.
+     */
+    private static final class CardState {
+        final String dateText;
+        final String timeText;
+        final String locationText;
+        final String temperatureText;
+        final String dayText;
+        final String weatherCondition;
+        final String[] hourlyTimes;
+        final String[] hourlyTemps;
+        
+        CardState(String dateText, String timeText, String locationText, String temperatureText,
+                  String dayText, String weatherCondition, String[] hourlyTimes, String[] hourlyTemps) {
+            this.dateText = dateText;
+            this.timeText = timeText;
+            this.locationText = locationText;
+            this.temperatureText = temperatureText;
+            this.dayText = dayText;
+            this.weatherCondition = weatherCondition;
+            this.hourlyTimes = hourlyTimes;
+            this.hourlyTemps = hourlyTemps;
+        }
+    }
+    
+    /**
+     * A frame finished on the render thread, with what the EDT needs to
+     * animate to it.
+     */
+    private static final class RenderedFrame {
+        final CardState snapshot;
+        final BufferedImage image;
+        final double scale;
+        // Frame the changed region was measured against, and that region in card coordinates
+        final BufferedImage base;
+        final Rectangle changedRegion;
+        // Temperature texts the count-up can show, from the previous value to the new one
+        final Map<String, TextSprite> temperatures;
+        
+        RenderedFrame(CardState snapshot, BufferedImage image, double scale, BufferedImage base,
+                      Rectangle changedRegion, Map<String, TextSprite> temperatures) {
+            this.snapshot = snapshot;
+            this.image = image;
+            this.scale = scale;
+            this.base = base;
+            this.changedRegion = changedRegion;
+            this.temperatures = temperatures;
+        }
+    }
+    
+    /**
+     * Pre-rendered text and where it goes on the card.
+     */
+    private static final class TextSprite {
+        final BufferedImage image;
+        final Rectangle bounds;
+        
+        TextSprite(BufferedImage image, Rectangle bounds) {
+            this.image = image;
+            this.bounds = bounds;
+        }
+    }
+    
     /**
      * Creates a new weather card with default styling and data.
      */
     public ImprovedWeatherCard() {
         initializeColors();
         setupComponent();
+        displayedTemperature = state.get().temperatureText;
+        scheduleRender();
         WeatherAppLogger.info("Weather card component initialized");
     }
     
@@ -48,8 +183,6 @@ public class ImprovedWeatherCard extends JPanel {
      * Initialize color instances from constants.
      */
     private void initializeColors() {
-        this.gradientStart = ColorUtils.fromRGB(WeatherAppConstants.Colors.GRADIENT_START_RGB);
-        this.gradientEnd = ColorUtils.fromRGB(WeatherAppConstants.Colors.GRADIENT_END_RGB);
         this.primaryText = ColorUtils.fromRGBA(WeatherAppConstants.Colors.PRIMARY_TEXT);
         this.secondaryText = ColorUtils.fromRGBA(WeatherAppConstants.Colors.SECONDARY_TEXT);
         this.tertiaryText = ColorUtils.fromRGBA(WeatherAppConstants.Colors.TERTIARY_TEXT);
@@ -61,7 +194,7 @@ public class ImprovedWeatherCard extends JPanel {
      */
     private void setupComponent() {
         setPreferredSize(new Dimension(
-            WeatherAppConstants.UI.CARD_WIDTH, 
+            WeatherAppConstants.UI.CARD_WIDTH,
             WeatherAppConstants.UI.CARD_HEIGHT
         ));
         setSize(WeatherAppConstants.UI.CARD_WIDTH, WeatherAppConstants.UI.CARD_HEIGHT);
@@ -70,24 +203,507 @@ public class ImprovedWeatherCard extends JPanel {
     
     @Override
     protected void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
         super.paintComponent(g);
         
         try {
             Graphics2D g2d = (Graphics2D) g.create();
-            enableHighQualityRendering(g2d);
-            
-            drawDropShadow(g2d);
-            drawCardBackground(g2d);
-            drawAllTextElements(g2d);
-            drawWeatherIcon(g2d);
-            drawDividerLine(g2d);
-            drawHourlyForecast(g2d);
-            
+            BufferedImage currentFrame = frame;
+            if (currentFrame != null) {
+                // Fast path: only copies of finished images, crossfading inside the changed region
+                if (previousFrame != null && crossfadeProgress < 1.0) {
+                    drawFrameAround(g2d, currentFrame, crossfadeRegion);
+                    drawCrossfadeRegion(g2d);
+                } else {
+                    drawFrame(g2d, currentFrame);
+                }
+                if (displayedSprite != null) {
+                    drawSprite(g2d, displayedSprite);
+                }
+            } else {
+                // First paint can arrive before the renderer has produced a frame
+                renderCard(g2d, state.get());
+                enableHighQualityRendering(g2d);
+                drawCenteredText(g2d, displayedTemperature, TEMPERATURE_FONT, primaryText,
+                    WeatherAppConstants.Layout.TEMPERATURE_Y_POSITION);
+            }
             g2d.dispose();
-            
+        
         } catch (Exception e) {
             WeatherAppLogger.error("Error painting weather card", e);
         }
+        PAINT_TIME.recordSince(paintStart);
+    }
+    
+    /**
+     * Schedules composition of the current state on the render thread.
+     * Requests made while a render is still queued are coalesced into it.
+     */
+    private void scheduleRender() {
+        if (!renderPending.compareAndSet(false, true)) {
+            return;
+        }
+        
+        RENDER_EXECUTOR.execute(() -> {
+            renderPending.set(false);
+            CardState snapshot = state.get();
+            
+            try {
+                double scale = ImageScaler.getDefaultScaleFactor();
+                BufferedImage rendered = renderFrame(snapshot, scale);
+                Rectangle changed = lastRendered != null
+                    ? findChangedRegion(lastRendered, rendered, scale)
+                    : new Rectangle(CARD_REGION);
+                Map<String, TextSprite> temperatures = renderTemperatures(snapshot.temperatureText, scale);
+                RenderedFrame result = new RenderedFrame(snapshot, rendered, scale, lastRendered, changed, temperatures);
+                lastRendered = rendered;
+                lastRenderedTemperature = snapshot.temperatureText;
+                SwingUtilities.invokeLater(() -> swapFrame(result));
+            } catch (Exception e) {
+                WeatherAppLogger.error("Error rendering weather card frame", e);
+            }
+        });
+    }
+    
+    /**
+     * Installs a finished frame on the EDT unless newer data has arrived meanwhile,
+     * in which case the render that newer data scheduled will replace it.
+     * @param rendered the composed frame and its transition data
+     */
+    private void swapFrame(RenderedFrame rendered) {
+        if (state.get() != rendered.snapshot) {
+            return;
+        }
+        
+        BufferedImage outgoing = frame;
+        frame = rendered.image;
+        frameScale = rendered.scale;
+        temperatureSprites = rendered.temperatures;
+        
+        if (outgoing == null) {
+            repaint();
+        } else {
+            // A frame the EDT never showed was in between: the difference is unknown
+            Rectangle changed = outgoing == rendered.base ? rendered.changedRegion : new Rectangle(CARD_REGION);
+            if (!changed.isEmpty()) {
+                startCrossfade(outgoing, changed);
+            }
+        }
+        animateTemperature(rendered.snapshot.temperatureText);
+    }
+    
+    /**
+     * Fades from the outgoing frame to the current one inside the region
+     * where they differ, which morphs the gradient and crossfades the icon.
+     * The blended pixels are produced on the render thread.
+     * @param outgoing frame being replaced
+     * @param changed region where the frames differ
+     */
+    private void startCrossfade(BufferedImage outgoing, Rectangle changed) {
+        Rectangle region = new Rectangle(changed);
+        if (crossfadeAnimation != null) {
+            crossfadeAnimation.cancel();
+            // The interrupted crossfade's region still shows a blend
+            if (previousFrame != null) {
+                region.add(crossfadeRegion);
+            }
+        }
+        
+        previousFrame = outgoing;
+        crossfadeRegion = region;
+        crossfadeGeneration++;
+        crossfadeProgress = 0.0;
+        blendedRegion = null;
+        spareBlendBuffer = null;
+        crossfadeAnimation = AnimationScheduler.animate(this, region, CROSSFADE_DURATION_MS, progress -> {
+            crossfadeProgress = progress;
+            if (progress >= 1.0) {
+                previousFrame = null;
+                blendedRegion = null;
+                spareBlendBuffer = null;
+            } else {
+                requestBlend();
+            }
+        });
+    }
+    
+    /**
+     * Asks the render thread to blend the crossfade region at the current
+     * progress. One blend is in flight at a time; it writes into the buffer
+     * the EDT is not drawing.
+     */
+    private void requestBlend() {
+        if (blendPending) {
+            return;
+        }
+        blendPending = true;
+        
+        int generation = crossfadeGeneration;
+        double progress = crossfadeProgress;
+        BufferedImage from = previousFrame;
+        BufferedImage to = frame;
+        BufferedImage reuse = spareBlendBuffer;
+        Rectangle deviceRegion = toDevice(crossfadeRegion, frameScale);
+        spareBlendBuffer = null;
+        
+        RENDER_EXECUTOR.execute(() -> {
+            BufferedImage blended = null;
+            try {
+                blended = blend(from, to, deviceRegion, (float) progress, reuse);
+            } catch (Exception e) {
+                WeatherAppLogger.error("Error blending weather card crossfade", e);
+            }
+            BufferedImage result = blended;
+            SwingUtilities.invokeLater(() -> installBlend(generation, progress, result));
+        });
+    }
+    
+    /**
+     * Takes a finished blend on the EDT; the next animation frame copies it.
+     * @param generation crossfade the blend belongs to
+     * @param progress progress it was blended at
+     * @param blended blended region, or null if blending failed
+     */
+    private void installBlend(int generation, double progress, BufferedImage blended) {
+        blendPending = false;
+        if (generation != crossfadeGeneration || previousFrame == null || blended == null) {
+            return;
+        }
+        
+        spareBlendBuffer = blendedRegion;
+        blendedRegion = blended;
+        if (progress != crossfadeProgress) {
+            requestBlend();
+        }
+    }
+    
+    /**
+     * Counts the displayed temperature up (or down) to the new value,
+     * using the texts the render thread drew for the values in between.
+     * Falls back to an immediate switch when either value is not numeric.
+     * @param target new temperature text, e.g. "21°"
+     */
+    private void animateTemperature(String target) {
+        TextSprite targetSprite = temperatureSprites.get(target);
+        if (temperatureAnimation != null) {
+            temperatureAnimation.cancel();
+        }
+        if (target.equals(displayedTemperature)) {
+            showTemperature(target, targetSprite);
+            return;
+        }
+        
+        Integer from = parseDegrees(displayedTemperature);
+        Integer to = parseDegrees(target);
+        Rectangle region = spriteRegion();
+        if (from == null || to == null) {
+            showTemperature(target, targetSprite);
+            repaint(region);
+            return;
+        }
+        
+        // Start from the nearest value the render thread drew if the display was mid-count
+        String suffix = LEADING_DEGREES.matcher(target).replaceFirst("");
+        int start = from;
+        while (start != to && !temperatureSprites.containsKey(start + suffix)) {
+            start += Integer.signum(to - start);
+        }
+        int first = start;
+        temperatureAnimation = AnimationScheduler.animate(this, region, COUNT_UP_DURATION_MS, progress -> {
+            String text = progress >= 1.0
+                ? target
+                : Math.round(AnimationScheduler.interpolate(first, to, progress)) + suffix;
+            TextSprite sprite = temperatureSprites.get(text);
+            showTemperature(text, sprite != null ? sprite : targetSprite);
+        });
+    }
+    
+    private void showTemperature(String text, TextSprite sprite) {
+        displayedTemperature = text;
+        displayedSprite = sprite;
+    }
+    
+    /**
+     * Union of the areas the current and the upcoming temperature texts cover.
+     */
+    private Rectangle spriteRegion() {
+        Rectangle region = displayedSprite != null ? new Rectangle(displayedSprite.bounds) : null;
+        for (TextSprite sprite : temperatureSprites.values()) {
+            if (region == null) {
+                region = new Rectangle(sprite.bounds);
+            } else {
+                region.add(sprite.bounds);
+            }
+        }
+        return region != null ? region : new Rectangle(TEMPERATURE_REGION);
+    }
+    
+    /**
+     * Parses the leading whole number of a temperature string.
+     * @param text temperature text
+     * @return the number, or null if the text does not start with one
+     */
+    private static Integer parseDegrees(String text) {
+        Matcher matcher = LEADING_DEGREES.matcher(text);
+        return matcher.find() ? Integer.valueOf(matcher.group()) : null;
+    }
+    
+    /**
+     * Blits a composed frame at the card's logical size.
+     * @param g2d Graphics2D context
+     * @param image frame to draw
+     */
+    private void drawFrame(Graphics2D g2d, BufferedImage image) {
+        g2d.drawImage(image, 0, 0,
+            WeatherAppConstants.UI.CARD_WIDTH, WeatherAppConstants.UI.CARD_HEIGHT, null);
+    }
+    
+    /**
+     * Blits a composed frame everywhere except a hole, which the caller fills.
+     * @param g2d Graphics2D context
+     * @param image frame to draw
+     * @param hole region to leave out
+     */
+    private void drawFrameAround(Graphics2D g2d, BufferedImage image, Rectangle hole) {
+        int width = WeatherAppConstants.UI.CARD_WIDTH;
+        int height = WeatherAppConstants.UI.CARD_HEIGHT;
+        Rectangle[] parts = {
+            new Rectangle(0, 0, width, hole.y),
+            new Rectangle(0, hole.y + hole.height, width, height - hole.y - hole.height),
+            new Rectangle(0, hole.y, hole.x, hole.height),
+            new Rectangle(hole.x + hole.width, hole.y, width - hole.x - hole.width, hole.height)
+        };
+        Rectangle clip = g2d.getClipBounds();
+        for (Rectangle part : parts) {
+            if (part.isEmpty() || (clip != null && !clip.intersects(part))) {
+                continue;
+            }
+            Graphics2D partGraphics = (Graphics2D) g2d.create();
+            partGraphics.clipRect(part.x, part.y, part.width, part.height);
+            drawFrame(partGraphics, image);
+            partGraphics.dispose();
+        }
+    }
+    
+    /**
+     * Blits the crossfade region: the latest blend, or the outgoing frame
+     * until the first blend arrives.
+     * @param g2d Graphics2D context
+     */
+    private void drawCrossfadeRegion(Graphics2D g2d) {
+        Rectangle region = crossfadeRegion;
+        if (blendedRegion != null) {
+            g2d.drawImage(blendedRegion, region.x, region.y, region.width, region.height, null);
+        } else {
+            Graphics2D regionGraphics = (Graphics2D) g2d.create();
+            regionGraphics.clipRect(region.x, region.y, region.width, region.height);
+            drawFrame(regionGraphics, previousFrame);
+            regionGraphics.dispose();
+        }
+    }
+    
+    /**
+     * Blits pre-rendered text at its place on the card.
+     * @param g2d Graphics2D context
+     * @param sprite text to draw
+     */
+    private void drawSprite(Graphics2D g2d, TextSprite sprite) {
+        Rectangle bounds = sprite.bounds;
+        g2d.drawImage(sprite.image, bounds.x, bounds.y, bounds.width, bounds.height, null);
+    }
+    
+    /**
+     * Blends two frames inside a region: the outgoing one, with the incoming
+     * one drawn over it at the given opacity. Runs on the render thread.
+     * @param from outgoing frame
+     * @param to incoming frame
+     * @param deviceRegion region in frame pixels
+     * @param alpha opacity of the incoming frame
+     * @param reuse buffer to draw into if it has the region's size, or null
+     * @return blended region
+     */
+    private static BufferedImage blend(BufferedImage from, BufferedImage to, Rectangle deviceRegion, float alpha,
+                                       BufferedImage reuse) {
+        BufferedImage blended = reuse != null
+                && reuse.getWidth() == deviceRegion.width && reuse.getHeight() == deviceRegion.height
+            ? reuse
+            : ImageScaler.createCompatibleImage(deviceRegion.width, deviceRegion.height);
+        
+        Graphics2D g2d = blended.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(from, -deviceRegion.x, -deviceRegion.y, null);
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        g2d.drawImage(to, -deviceRegion.x, -deviceRegion.y, null);
+        g2d.dispose();
+        return blended;
+    }
+    
+    /**
+     * Finds the bounding box of the pixels that differ between two frames.
+     * Runs on the render thread.
+     * @param before previous frame
+     * @param after new frame
+     * @param scale device pixels per card unit
+     * @return changed region in card coordinates, empty if the frames are identical
+     */
+    private static Rectangle findChangedRegion(BufferedImage before, BufferedImage after, double scale) {
+        int width = after.getWidth();
+        int height = after.getHeight();
+        if (before.getWidth() != width || before.getHeight() != height) {
+            return new Rectangle(CARD_REGION);
+        }
+        
+        int[] beforeRow = new int[width];
+        int[] afterRow = new int[width];
+        int minX = width;
+        int minY = height;
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0; y < height; y++) {
+            before.getRGB(0, y, width, 1, beforeRow, 0, width);
+            after.getRGB(0, y, width, 1, afterRow, 0, width);
+            for (int x = 0; x < width; x++) {
+                if (beforeRow[x] != afterRow[x]) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = y;
+                }
+            }
+        }
+        if (maxX < 0) {
+            return new Rectangle();
+        }
+        
+        int left = (int) Math.floor(minX / scale);
+        int top = (int) Math.floor(minY / scale);
+        int right = (int) Math.ceil((maxX + 1) / scale);
+        int bottom = (int) Math.ceil((maxY + 1) / scale);
+        return new Rectangle(left, top, right - left, bottom - top).intersection(CARD_REGION);
+    }
+    
+    /**
+     * Converts a card region to frame pixels, rounding outwards.
+     */
+    private static Rectangle toDevice(Rectangle region, double scale) {
+        int left = (int) Math.floor(region.x * scale);
+        int top = (int) Math.floor(region.y * scale);
+        int right = (int) Math.ceil((region.x + region.width) * scale);
+        int bottom = (int) Math.ceil((region.y + region.height) * scale);
+        return new Rectangle(left, top, right - left, bottom - top);
+    }
+    
+    /**
+     * Draws the temperature texts a count-up to a new value can show: every
+     * value from the one on screen, or the one rendered last, to the new one.
+     * Texts drawn for the previous frame are reused. Runs on the render thread.
+     * @param to new temperature text
+     * @param scale device pixels per card unit
+     * @return text to sprite, always including the new text
+     */
+    private Map<String, TextSprite> renderTemperatures(String to, double scale) {
+        Map<String, TextSprite> previous = scale == lastSpriteScale ? lastTemperatureSprites : Collections.emptyMap();
+        Map<String, TextSprite> sprites = new HashMap<>();
+        sprites.put(to, reuseOrRender(previous, to, scale));
+        
+        Integer end = parseDegrees(to);
+        if (end != null) {
+            int low = end;
+            int high = end;
+            for (String from : new String[]{displayedTemperature, lastRenderedTemperature}) {
+                Integer value = from != null ? parseDegrees(from) : null;
+                if (value != null) {
+                    low = Math.min(low, value);
+                    high = Math.max(high, value);
+                }
+            }
+            String suffix = LEADING_DEGREES.matcher(to).replaceFirst("");
+            for (int value = low; value <= high; value++) {
+                String text = value + suffix;
+                if (!sprites.containsKey(text)) {
+                    sprites.put(text, reuseOrRender(previous, text, scale));
+                }
+            }
+        }
+        
+        lastTemperatureSprites = sprites;
+        lastSpriteScale = scale;
+        return sprites;
+    }
+    
+    private TextSprite reuseOrRender(Map<String, TextSprite> previous, String text, double scale) {
+        TextSprite sprite = previous.get(text);
+        return sprite != null ? sprite : renderTemperature(text, scale);
+    }
+    
+    /**
+     * Draws one temperature text, centered as on the card, into its own image.
+     * @param text temperature text
+     * @param scale device pixels per card unit
+     * @return the text and its place on the card
+     */
+    private TextSprite renderTemperature(String text, double scale) {
+        BufferedImage measure = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D measureGraphics = measure.createGraphics();
+        enableHighQualityRendering(measureGraphics);
+        FontMetrics fm = measureGraphics.getFontMetrics(TEMPERATURE_FONT);
+        int textWidth = fm.stringWidth(text);
+        int textHeight = fm.getAscent() + fm.getDescent();
+        measureGraphics.dispose();
+        
+        Rectangle bounds = new Rectangle(
+            (WeatherAppConstants.UI.CARD_WIDTH - textWidth) / 2 - TEXT_PADDING,
+            WeatherAppConstants.Layout.TEMPERATURE_Y_POSITION - TEXT_PADDING,
+            textWidth + TEXT_PADDING * 2,
+            textHeight + TEXT_PADDING * 2);
+        Rectangle deviceBounds = toDevice(new Rectangle(0, 0, bounds.width, bounds.height), scale);
+        BufferedImage image = ImageScaler.createCompatibleImage(deviceBounds.width, deviceBounds.height);
+        
+        Graphics2D g2d = image.createGraphics();
+        g2d.scale(scale, scale);
+        g2d.translate(-bounds.x, -bounds.y);
+        enableHighQualityRendering(g2d);
+        drawCenteredText(g2d, text, TEMPERATURE_FONT, primaryText, WeatherAppConstants.Layout.TEMPERATURE_Y_POSITION);
+        g2d.dispose();
+        return new TextSprite(image, bounds);
+    }
+    
+    /**
+     * Composes the complete card into a new offscreen image.
+     * Runs on the render thread; touches only the snapshot and immutable resources.
+     * @param snapshot state to render
+     * @param scale device pixels per card unit
+     * @return composed frame at device resolution
+     */
+    private BufferedImage renderFrame(CardState snapshot, double scale) {
+        BufferedImage image = ImageScaler.createCompatibleImage(
+            (int) Math.ceil(WeatherAppConstants.UI.CARD_WIDTH * scale),
+            (int) Math.ceil(WeatherAppConstants.UI.CARD_HEIGHT * scale)
+        );
+        
+        Graphics2D g2d = image.createGraphics();
+        g2d.scale(scale, scale);
+        renderCard(g2d, snapshot);
+        g2d.dispose();
+        
+        return image;
+    }
+    
+    /**
+     * Draws every card layer for the given state except the temperature,
+     * which is drawn separately so it can count up between frames.
+     * @param g2d Graphics2D context owned by the caller
+     * @param snapshot state to draw
+     */
+    private void renderCard(Graphics2D g2d, CardState snapshot) {
+        enableHighQualityRendering(g2d);
+        
+        drawDropShadow(g2d);
+        drawCardBackground(g2d, snapshot.weatherCondition);
+        drawAllTextElements(g2d, snapshot);
+        drawWeatherIcon(g2d, snapshot.weatherCondition);
+        drawDividerLine(g2d);
+        drawHourlyForecast(g2d, snapshot);
     }
     
     /**
@@ -114,11 +730,11 @@ public class ImprovedWeatherCard extends JPanel {
             g2d.setColor(new Color(0, 0, 0, (int) (alpha * 255)));
             
             RoundRectangle2D shadow = new RoundRectangle2D.Double(
-                i - shadowSize, 
-                i - shadowSize + shadowOffset, 
-                WeatherAppConstants.UI.CARD_WIDTH + (shadowSize - i) * 2, 
-                WeatherAppConstants.UI.CARD_HEIGHT + (shadowSize - i) * 2, 
-                WeatherAppConstants.UI.CORNER_RADIUS + i, 
+                i - shadowSize,
+                i - shadowSize + shadowOffset,
+                WeatherAppConstants.UI.CARD_WIDTH + (shadowSize - i) * 2,
+                WeatherAppConstants.UI.CARD_HEIGHT + (shadowSize - i) * 2,
+                WeatherAppConstants.UI.CORNER_RADIUS + i,
                 WeatherAppConstants.UI.CORNER_RADIUS + i
             );
             g2d.fill(shadow);
@@ -128,20 +744,17 @@ public class ImprovedWeatherCard extends JPanel {
     /**
      * Draws the card background with gradient.
      * @param g2d Graphics2D context
+     * @param weatherCondition condition selecting the gradient
      */
-    private void drawCardBackground(Graphics2D g2d) {
-        GradientPaint gradient = new GradientPaint(
-            0, 0, gradientStart,
-            WeatherAppConstants.UI.CARD_WIDTH, WeatherAppConstants.UI.CARD_HEIGHT, gradientEnd
-        );
-        
-        g2d.setPaint(gradient);
+    private void drawCardBackground(Graphics2D g2d, String weatherCondition) {
+        g2d.setPaint(BackgroundThemeCache.getPaint(
+            weatherCondition, WeatherAppConstants.UI.CARD_WIDTH, WeatherAppConstants.UI.CARD_HEIGHT));
         
         RoundRectangle2D card = new RoundRectangle2D.Double(
-            0, 0, 
-            WeatherAppConstants.UI.CARD_WIDTH, 
-            WeatherAppConstants.UI.CARD_HEIGHT, 
-            WeatherAppConstants.UI.CORNER_RADIUS, 
+            0, 0,
+            WeatherAppConstants.UI.CARD_WIDTH,
+            WeatherAppConstants.UI.CARD_HEIGHT,
+            WeatherAppConstants.UI.CORNER_RADIUS,
             WeatherAppConstants.UI.CORNER_RADIUS
         );
         g2d.fill(card);
@@ -150,77 +763,16 @@ public class ImprovedWeatherCard extends JPanel {
     /**
      * Draws all text elements with exact positioning.
      * @param g2d Graphics2D context
+     * @param snapshot state to draw
      */
-    private void drawAllTextElements(Graphics2D g2d) {
-        drawDateText(g2d);
-        drawTimeText(g2d);
-        drawLocationText(g2d);
-        drawTemperatureText(g2d);
-        drawDayText(g2d);
-    }
-    
-    /**
-     * Draws the date text at the specified position.
-     * @param g2d Graphics2D context
-     */
-    private void drawDateText(Graphics2D g2d) {
-        drawCenteredText(g2d, dateText, 
-            WeatherAppConstants.Typography.FONT_FAMILY,
-            Font.PLAIN,
-            WeatherAppConstants.Typography.DATE_FONT_SIZE,
-            secondaryText,
+    private void drawAllTextElements(Graphics2D g2d, CardState snapshot) {
+        drawCenteredText(g2d, snapshot.dateText, DATE_FONT, secondaryText,
             WeatherAppConstants.Layout.DATE_Y_POSITION);
-    }
-    
-    /**
-     * Draws the time text at the specified position.
-     * @param g2d Graphics2D context
-     */
-    private void drawTimeText(Graphics2D g2d) {
-        drawCenteredText(g2d, timeText,
-            WeatherAppConstants.Typography.FONT_FAMILY,
-            Font.PLAIN,
-            WeatherAppConstants.Typography.TIME_FONT_SIZE,
-            primaryText,
+        drawCenteredText(g2d, snapshot.timeText, TIME_FONT, primaryText,
             WeatherAppConstants.Layout.TIME_Y_POSITION);
-    }
-    
-    /**
-     * Draws the location text at the specified position.
-     * @param g2d Graphics2D context
-     */
-    private void drawLocationText(Graphics2D g2d) {
-        drawCenteredText(g2d, locationText,
-            WeatherAppConstants.Typography.FONT_FAMILY,
-            Font.PLAIN,
-            WeatherAppConstants.Typography.LOCATION_FONT_SIZE,
-            quaternaryText,
+        drawCenteredText(g2d, snapshot.locationText, LOCATION_FONT, quaternaryText,
             WeatherAppConstants.Layout.LOCATION_Y_POSITION);
-    }
-    
-    /**
-     * Draws the temperature text at the specified position.
-     * @param g2d Graphics2D context
-     */
-    private void drawTemperatureText(Graphics2D g2d) {
-        drawCenteredText(g2d, temperatureText,
-            WeatherAppConstants.Typography.FONT_FAMILY,
-            Font.PLAIN,
-            WeatherAppConstants.Typography.TEMPERATURE_FONT_SIZE,
-            primaryText,
-            WeatherAppConstants.Layout.TEMPERATURE_Y_POSITION);
-    }
-    
-    /**
-     * Draws the day text at the specified position.
-     * @param g2d Graphics2D context
-     */
-    private void drawDayText(Graphics2D g2d) {
-        drawCenteredText(g2d, dayText,
-            WeatherAppConstants.Typography.FONT_FAMILY,
-            Font.PLAIN,
-            WeatherAppConstants.Typography.DAY_FONT_SIZE,
-            quaternaryText,
+        drawCenteredText(g2d, snapshot.dayText, DAY_FONT, quaternaryText,
             WeatherAppConstants.Layout.DAY_Y_POSITION);
     }
     
@@ -228,15 +780,11 @@ public class ImprovedWeatherCard extends JPanel {
      * Helper method to draw centered text.
      * @param g2d Graphics2D context
      * @param text text to draw
-     * @param fontFamily font family name
-     * @param fontStyle font style
-     * @param fontSize font size
+     * @param font font to draw with
      * @param color text color
      * @param yPosition Y position from top
      */
-    private void drawCenteredText(Graphics2D g2d, String text, String fontFamily, 
-                                 int fontStyle, int fontSize, Color color, int yPosition) {
-        Font font = new Font(fontFamily, fontStyle, fontSize);
+    private void drawCenteredText(Graphics2D g2d, String text, Font font, Color color, int yPosition) {
         g2d.setFont(font);
         g2d.setColor(color);
         
@@ -249,10 +797,47 @@ public class ImprovedWeatherCard extends JPanel {
     }
     
     /**
-     * Draws the weather icon (sun symbol with rays).
+     * Draws the weather icon for the current condition.
+     * @param g2d Graphics2D context
+     * @param weatherCondition condition selecting the icon
+     */
+    private void drawWeatherIcon(Graphics2D g2d, String weatherCondition) {
+        int centerX = WeatherAppConstants.UI.CARD_WIDTH / 2;
+        int centerY = WeatherAppConstants.Layout.WEATHER_ICON_Y_POSITION + WeatherAppConstants.WeatherIcon.ICON_SIZE / 2;
+        int size = WeatherAppConstants.WeatherIcon.ICON_SIZE;
+        
+        switch (weatherCondition.toLowerCase()) {
+            case "cloudy":
+            case "partly_cloudy":
+            case "partly cloudy":
+                WeatherIcon.drawCloudIcon(g2d, centerX, centerY, size, primaryText);
+                break;
+            case "rain":
+            case "rainy":
+                WeatherIcon.drawRainIcon(g2d, centerX, centerY, size, primaryText);
+                break;
+            case "snow":
+            case "snowy":
+                WeatherIcon.drawSnowIcon(g2d, centerX, centerY, size, primaryText);
+                break;
+            case "fog":
+            case "foggy":
+                WeatherIcon.drawFogIcon(g2d, centerX, centerY, size, primaryText);
+                break;
+            case "thunderstorm":
+                WeatherIcon.drawThunderstormIcon(g2d, centerX, centerY, size, primaryText);
+                break;
+            default:
+                drawSunIcon(g2d);
+                break;
+        }
+    }
+    
+    /**
+     * Draws the sun symbol with rays.
      * @param g2d Graphics2D context
      */
-    private void drawWeatherIcon(Graphics2D g2d) {
+    private void drawSunIcon(Graphics2D g2d) {
         int iconX = (WeatherAppConstants.UI.CARD_WIDTH - WeatherAppConstants.WeatherIcon.ICON_SIZE) / 2;
         int iconY = WeatherAppConstants.Layout.WEATHER_ICON_Y_POSITION;
         int centerX = iconX + WeatherAppConstants.WeatherIcon.ICON_SIZE / 2;
@@ -260,8 +845,8 @@ public class ImprovedWeatherCard extends JPanel {
         
         g2d.setColor(primaryText);
         g2d.setStroke(new BasicStroke(
-            WeatherAppConstants.WeatherIcon.STROKE_WIDTH, 
-            BasicStroke.CAP_ROUND, 
+            WeatherAppConstants.WeatherIcon.STROKE_WIDTH,
+            BasicStroke.CAP_ROUND,
             BasicStroke.JOIN_ROUND
         ));
         
@@ -281,9 +866,9 @@ public class ImprovedWeatherCard extends JPanel {
         
         // Draw center circle
         g2d.drawOval(
-            centerX - WeatherAppConstants.WeatherIcon.CENTER_RADIUS, 
-            centerY - WeatherAppConstants.WeatherIcon.CENTER_RADIUS, 
-            WeatherAppConstants.WeatherIcon.CENTER_RADIUS * 2, 
+            centerX - WeatherAppConstants.WeatherIcon.CENTER_RADIUS,
+            centerY - WeatherAppConstants.WeatherIcon.CENTER_RADIUS,
+            WeatherAppConstants.WeatherIcon.CENTER_RADIUS * 2,
             WeatherAppConstants.WeatherIcon.CENTER_RADIUS * 2
         );
     }
@@ -293,12 +878,12 @@ public class ImprovedWeatherCard extends JPanel {
      * @param g2d Graphics2D context
      */
     private void drawDividerLine(Graphics2D g2d) {
-        g2d.setColor(new Color(255, 255, 255, 77)); // 0.3 alpha
+        g2d.setColor(DIVIDER_COLOR);
         g2d.setStroke(new BasicStroke(1));
         g2d.drawLine(
-            WeatherAppConstants.UI.CARD_PADDING, 
-            WeatherAppConstants.Layout.DIVIDER_Y_POSITION, 
-            WeatherAppConstants.UI.CARD_WIDTH - WeatherAppConstants.UI.CARD_PADDING, 
+            WeatherAppConstants.UI.CARD_PADDING,
+            WeatherAppConstants.Layout.DIVIDER_Y_POSITION,
+            WeatherAppConstants.UI.CARD_WIDTH - WeatherAppConstants.UI.CARD_PADDING,
             WeatherAppConstants.Layout.DIVIDER_Y_POSITION
         );
     }
@@ -306,13 +891,16 @@ public class ImprovedWeatherCard extends JPanel {
     /**
      * Draws the hourly forecast mini-cards.
      * @param g2d Graphics2D context
+     * @param snapshot state to draw
      */
-    private void drawHourlyForecast(Graphics2D g2d) {
+    private void drawHourlyForecast(Graphics2D g2d, CardState snapshot) {
         int forecastY = WeatherAppConstants.Layout.HOURLY_FORECAST_Y_POSITION;
         int cardWidth = 50;
         int totalWidth = WeatherAppConstants.UI.CARD_WIDTH - (WeatherAppConstants.UI.CARD_PADDING * 2);
         int spacing = (totalWidth - (cardWidth * 4)) / 3;
         
+        String[] hourlyTimes = snapshot.hourlyTimes;
+        String[] hourlyTemps = snapshot.hourlyTemps;
         for (int i = 0; i < 4 && i < hourlyTimes.length && i < hourlyTemps.length; i++) {
             int cardX = WeatherAppConstants.UI.CARD_PADDING + (i * (cardWidth + spacing));
             drawMiniWeatherCard(g2d, cardX, forecastY, hourlyTimes[i], hourlyTemps[i]);
@@ -329,9 +917,7 @@ public class ImprovedWeatherCard extends JPanel {
      */
     private void drawMiniWeatherCard(Graphics2D g2d, int x, int y, String time, String temp) {
         // Time text
-        Font timeFont = new Font(WeatherAppConstants.Typography.FONT_FAMILY, Font.PLAIN, 
-                                WeatherAppConstants.Typography.HOURLY_TIME_FONT_SIZE);
-        g2d.setFont(timeFont);
+        g2d.setFont(HOURLY_TIME_FONT);
         g2d.setColor(tertiaryText);
         
         FontMetrics timeFm = g2d.getFontMetrics();
@@ -348,9 +934,7 @@ public class ImprovedWeatherCard extends JPanel {
         g2d.drawOval(iconX, iconY, 20, 20);
         
         // Temperature text
-        Font tempFont = new Font(WeatherAppConstants.Typography.FONT_FAMILY, Font.PLAIN, 
-                                WeatherAppConstants.Typography.HOURLY_TEMP_FONT_SIZE);
-        g2d.setFont(tempFont);
+        g2d.setFont(HOURLY_TEMP_FONT);
         g2d.setColor(primaryText);
         
         FontMetrics tempFm = g2d.getFontMetrics();
@@ -360,50 +944,86 @@ public class ImprovedWeatherCard extends JPanel {
         g2d.drawString(temp, tempX, tempY);
     }
     
+    /**
+     * Creates a card font from the configured family.
+     * @param size font size
+     * @return plain font of the given size
+     */
+    private static Font createFont(int size) {
+        return new Font(WeatherAppConstants.Typography.FONT_FAMILY, Font.PLAIN, size);
+    }
+    
     // === PUBLIC API METHODS ===
     
     /**
      * Updates the weather data displayed on the card.
+     * Safe to call from any thread; the new frame is composed off the EDT.
      * @param date date string
      * @param time time string
      * @param location location string
      * @param temperature temperature string
      * @param day day string
      */
-    public void updateWeatherData(String date, String time, String location, 
+    public void updateWeatherData(String date, String time, String location,
                                  String temperature, String day) {
-        if (date != null) this.dateText = date;
-        if (time != null) this.timeText = time;
-        if (location != null) this.locationText = location;
-        if (temperature != null) this.temperatureText = temperature;
-        if (day != null) this.dayText = day;
+        state.updateAndGet(current -> new CardState(
+            date != null ? date : current.dateText,
+            time != null ? time : current.timeText,
+            location != null ? location : current.locationText,
+            temperature != null ? temperature : current.temperatureText,
+            day != null ? day : current.dayText,
+            current.weatherCondition,
+            current.hourlyTimes,
+            current.hourlyTemps
+        ));
         
-        SwingUtilities.invokeLater(this::repaint);
-        WeatherAppLogger.debug("Weather data updated for location: " + location);
+        scheduleRender();
+        WeatherAppLogger.debug("Weather data updated for location: {}", location);
     }
     
     /**
      * Updates the hourly forecast data.
+     * Safe to call from any thread; the new frame is composed off the EDT.
      * @param times array of time strings
      * @param temps array of temperature strings
      */
     public void updateHourlyForecast(String[] times, String[] temps) {
         if (times != null && times.length == 4 && temps != null && temps.length == 4) {
-            this.hourlyTimes = times.clone();
-            this.hourlyTemps = temps.clone();
-            SwingUtilities.invokeLater(this::repaint);
+            String[] hourlyTimes = times.clone();
+            String[] hourlyTemps = temps.clone();
+            state.updateAndGet(current -> new CardState(
+                current.dateText, current.timeText, current.locationText,
+                current.temperatureText, current.dayText, current.weatherCondition, hourlyTimes, hourlyTemps
+            ));
+            scheduleRender();
             WeatherAppLogger.debug("Hourly forecast updated");
         } else {
             WeatherAppLogger.warn("Invalid hourly forecast data provided");
         }
     }
     
+    /**
+     * Updates the weather condition, which selects the icon and gradient.
+     * Safe to call from any thread; the change crossfades in with the next frame.
+     * @param weatherCondition condition name, e.g. "sunny" or "rainy"
+     */
+    public void updateWeatherCondition(String weatherCondition) {
+        if (weatherCondition == null) {
+            return;
+        }
+        state.updateAndGet(current -> new CardState(
+            current.dateText, current.timeText, current.locationText, current.temperatureText,
+            current.dayText, weatherCondition, current.hourlyTimes, current.hourlyTemps
+        ));
+        scheduleRender();
+    }
+    
     /**
      * Gets the current location text.
      * @return current location
      */
     public String getCurrentLocation() {
-        return locationText;
+        return state.get().locationText;
     }
     
     /**
@@ -411,6 +1031,6 @@ public class ImprovedWeatherCard extends JPanel {
      * @return current temperature
      */
     public String getCurrentTemperature() {
-        return temperatureText;
+        return state.get().temperatureText;
     }
 }
@@ -0,0 +1,235 @@
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the spirit of
+ * HdrHistogram: every power of two is split into 16 linear sub-buckets, so
+ * any recorded value is reported within about 6% while the whole range
+ * from 1 ns to about half an hour fits in 608 counters. Recording is a few
+ * atomic increments and never allocates, so it is safe on the EDT.
+ */
+public final class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    
+    // Values from 2^41 ns (~36 min) up land in the last bucket
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+    
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    
+    /**
+     * @param name metric name, e.g. "weather.fetch"
+     */
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * Immutable summary of a histogram at one point in time.
+     */
+    public static final class Snapshot {
+        private final long count;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p90Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+        
+        private Snapshot(long count, double meanMillis, double p50Millis, double p90Millis,
+                         double p99Millis, double maxMillis) {
+            this.count = count;
+            this.meanMillis = meanMillis;
+            this.p50Millis = p50Millis;
+            this.p90Millis = p90Millis;
+            this.p99Millis = p99Millis;
+            this.maxMillis = maxMillis;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        public double getMeanMillis() {
+            return meanMillis;
+        }
+        
+        public double getP50Millis() {
+            return p50Millis;
+        }
+        
+        public double getP90Millis() {
+            return p90Millis;
+        }
+        
+        public double getP99Millis() {
+            return p99Millis;
+        }
+        
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Record one latency.
+     * @param nanos duration in nanoseconds; negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+    
+    /**
+     * Record the time elapsed since a System.nanoTime() reading.
+     * @param startNanos value of System.nanoTime() when the operation started
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+    
+    /**
+     * Get number of recorded values.
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+    
+    /**
+     * Get the sum of all recorded values, for rate and mean calculations.
+     * @return total in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+    
+    /**
+     * Get a percentile of the recorded values.
+     * @param percentile percentile between 0 and 100, e.g. 99
+     * @return value in milliseconds, or 0 if nothing was recorded
+     */
+    public double getPercentileMillis(double percentile) {
+        return toMillis(valueAtPercentile(percentile, copyCounts()));
+    }
+    
+    /**
+     * Count the recorded values at or below a bound, e.g. for
+     * Prometheus-style cumulative buckets. Exact up to bucket resolution.
+     * @param nanos upper bound in nanoseconds
+     * @return number of values recorded in buckets that end at or below the bound
+     */
+    public long getCountAtOrBelow(long nanos) {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT && bucketUpperBound(i) <= nanos; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+    
+    /**
+     * Take a consistent summary of the histogram.
+     * @return count, mean, p50, p90, p99 and max
+     */
+    public Snapshot snapshot() {
+        long[] copy = copyCounts();
+        long count = 0;
+        for (long bucketCount : copy) {
+            count += bucketCount;
+        }
+        double mean = count == 0 ? 0 : toMillis(totalNanos.sum()) / count;
+        return new Snapshot(count, mean,
+            toMillis(valueAtPercentile(50, copy)),
+            toMillis(valueAtPercentile(90, copy)),
+            toMillis(valueAtPercentile(99, copy)),
+            toMillis(maxNanos.get()));
+    }
+    
+    /**
+     * Clear all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+    
+    private long[] copyCounts() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+    
+    private long valueAtPercentile(double percentile, long[] bucketCounts) {
+        long count = 0;
+        for (long bucketCount : bucketCounts) {
+            count += bucketCount;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                // Middle of the bucket, but never above the largest value seen
+                long middle = (bucketLowerBound(i) + bucketUpperBound(i)) / 2;
+                return Math.min(middle, maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+    
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        int index = (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+    
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        return (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+    }
+    
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+    
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
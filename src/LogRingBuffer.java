@@ -0,0 +1,111 @@
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ *
+ * Each slot carries a sequence number telling producers and the consumer
+ * whose turn it is, so an offer is one compare-and-set on the tail and never
+ * waits for another thread. When the buffer is full, offer fails instead of
+ * blocking; callers decide what to drop.
+ *
+ * @param <T> element type
+ */
+public final class LogRingBuffer<T> {
+    
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong tail = new AtomicLong();
+    
+    // Only the consumer thread touches head
+    private long head = 0;
+    
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public LogRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        
+        mask = size - 1;
+        sequences = new AtomicLongArray(size);
+        slots = new AtomicReferenceArray<>(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    /**
+     * Adds an element if there is room. Safe to call from any thread.
+     * @param element element to add, not null
+     * @return false if the buffer is full
+     */
+    public boolean offer(T element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            
+            if (difference == 0) {
+                // Slot is free for this position; claim it
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // Consumer has not freed this slot yet
+                return false;
+            }
+            // Another producer claimed the position first; retry
+        }
+    }
+    
+    /**
+     * Moves up to maxElements published elements into the given list.
+     * Must only be called from the single consumer thread.
+     * @param target list to append to
+     * @param maxElements upper bound on elements moved
+     * @return number of elements moved
+     */
+    public int drainTo(List<? super T> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                // Empty, or the producer of this slot has not finished writing
+                break;
+            }
+            
+            target.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, head + mask + 1);
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+    
+    /**
+     * Checks whether any element is waiting. Consumer thread only.
+     * @return true if nothing is published
+     */
+    public boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+    
+    /**
+     * @return number of slots
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
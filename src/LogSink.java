@@ -0,0 +1,23 @@
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination for log events written by WeatherAppLogger's writer thread.
+ * Sinks are only called from that thread, one batch at a time, so an
+ * implementation may keep unsynchronized buffers.
+ */
+public interface LogSink {
+    
+    /**
+     * Write a batch of events in order.
+     * @param batch events drained from the log buffer; do not keep the list
+     * @throws IOException if the events could not be written
+     */
+    void write(List<WeatherAppLogger.LogEvent> batch) throws IOException;
+    
+    /**
+     * Release files or other resources. Called at shutdown or on removal.
+     * @throws IOException if closing fails
+     */
+    void close() throws IOException;
+}
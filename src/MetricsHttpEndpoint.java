@@ -0,0 +1,246 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional embedded HTTP endpoint for headless monitoring of kiosks.
+ *
+ * Off unless -Dweatherapp.metrics.port is set; when off nothing is bound and
+ * no HTTP server classes are loaded. When on, it binds to 127.0.0.1 (or
+ * -Dweatherapp.metrics.host) and serves:
+ *   /metrics  Prometheus text format: counters, gauges, icon cache hit ratio,
+ *             latency histograms, EDT stalls, dropped log events and heap use
+ *   /health   JSON with the age of the last successful forecast; 503 once it
+ *             is older than -Dweatherapp.health.maxAgeSeconds (default 1800)
+ *
+ * Requests are served one at a time on a daemon thread, so a slow scraper
+ * can never hold the app open or compete with the UI for threads.
+ */
+public final class MetricsHttpEndpoint {
+    
+    private static final String PREFIX = "weatherapp_";
+    private static final String CONTENT_TYPE_PROMETHEUS = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String CONTENT_TYPE_JSON = "application/json; charset=utf-8";
+    
+    // Histogram bucket bounds in seconds, from a fast paint up to a slow fetch
+    private static final double[] BUCKET_SECONDS = {
+        0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+    
+    private static final long DEFAULT_MAX_AGE_SECONDS = 1800;
+    private static final long START_MILLIS = System.currentTimeMillis();
+    
+    private static volatile HttpServer server;
+    
+    // Prevent instantiation
+    private MetricsHttpEndpoint() {}
+    
+    /**
+     * Start the endpoint if -Dweatherapp.metrics.port is set. Safe to call
+     * more than once; only the first call with the property set binds.
+     */
+    public static synchronized void startIfEnabled() {
+        Integer port = Integer.getInteger("weatherapp.metrics.port");
+        if (port == null || server != null) {
+            return;
+        }
+        String host = System.getProperty("weatherapp.metrics.host", "127.0.0.1");
+        
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress(host, port), 0);
+            httpServer.createContext("/metrics", MetricsHttpEndpoint::handleMetrics);
+            httpServer.createContext("/health", MetricsHttpEndpoint::handleHealth);
+            httpServer.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "weather-metrics-http");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            startOnDaemonThread(httpServer);
+            server = httpServer;
+            WeatherAppLogger.event(WeatherAppLogger.Level.INFO, "metrics.endpoint.started",
+                "host", host, "port", httpServer.getAddress().getPort());
+        } catch (IOException | InterruptedException e) {
+            WeatherAppLogger.error("Could not start metrics endpoint on {}:{}", host, port, e);
+        }
+    }
+    
+    /**
+     * Stop the endpoint if it is running.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+    
+    /**
+     * Get the bound port, useful when started with port 0.
+     * @return port, or -1 if the endpoint is not running
+     */
+    public static int getPort() {
+        HttpServer current = server;
+        return current == null ? -1 : current.getAddress().getPort();
+    }
+    
+    /**
+     * The server's dispatcher thread inherits daemon status from the thread
+     * that starts it; start it from a daemon so it cannot keep the JVM alive.
+     */
+    private static void startOnDaemonThread(HttpServer httpServer) throws InterruptedException {
+        Thread starter = new Thread(httpServer::start, "weather-metrics-http-start");
+        starter.setDaemon(true);
+        starter.start();
+        starter.join();
+    }
+    
+    private static void handleMetrics(HttpExchange exchange) throws IOException {
+        send(exchange, 200, CONTENT_TYPE_PROMETHEUS, renderMetrics());
+    }
+    
+    private static void handleHealth(HttpExchange exchange) throws IOException {
+        long maxAgeSeconds = Long.getLong("weatherapp.health.maxAgeSeconds", DEFAULT_MAX_AGE_SECONDS);
+        long now = System.currentTimeMillis();
+        long lastSuccess = WeatherMetrics.getLastForecastMillis();
+        
+        String status;
+        int code;
+        StringBuilder body = new StringBuilder(128).append('{');
+        if (lastSuccess == 0) {
+            // Give a freshly started kiosk one full interval to fetch its first forecast
+            boolean starting = now - START_MILLIS <= TimeUnit.SECONDS.toMillis(maxAgeSeconds);
+            status = starting ? "STARTING" : "NO_DATA";
+            code = starting ? 200 : 503;
+            body.append("\"status\":\"").append(status).append("\",\"lastForecastAgeSeconds\":null");
+        } else {
+            long ageSeconds = TimeUnit.MILLISECONDS.toSeconds(now - lastSuccess);
+            status = ageSeconds <= maxAgeSeconds ? "UP" : "STALE";
+            code = ageSeconds <= maxAgeSeconds ? 200 : 503;
+            body.append("\"status\":\"").append(status).append("\",\"lastForecastAgeSeconds\":").append(ageSeconds);
+        }
+        body.append(",\"maxAgeSeconds\":").append(maxAgeSeconds).append("}\n");
+        
+        send(exchange, code, CONTENT_TYPE_JSON, body.toString());
+    }
+    
+    private static void send(HttpExchange exchange, int code, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(code, -1);
+            exchange.close();
+            return;
+        }
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    /**
+     * Render the whole registry in Prometheus text exposition format.
+     * @return metrics text
+     */
+    static String renderMetrics() {
+        StringBuilder out = new StringBuilder(8192);
+        
+        // Always export stalls so alerts see 0 rather than a missing series
+        WeatherMetrics.counter(WeatherMetrics.EDT_STALLS);
+        Map<String, Long> counters = WeatherMetrics.getCounters();
+        counters.forEach((name, value) -> {
+            String metric = PREFIX + sanitize(name) + "_total";
+            out.append("# TYPE ").append(metric).append(" counter\n");
+            out.append(metric).append(' ').append(value).append('\n');
+        });
+        
+        hitRatio(out, PREFIX + "icon_cache_hit_ratio", counters,
+            WeatherMetrics.ICON_CACHE_HITS, WeatherMetrics.ICON_CACHE_MISSES);
+        hitRatio(out, PREFIX + "weather_cache_hit_ratio", counters,
+            WeatherMetrics.WEATHER_CACHE_HITS, WeatherMetrics.WEATHER_CACHE_MISSES);
+        
+        WeatherMetrics.getGauges().forEach((name, value) -> gauge(out, PREFIX + sanitize(name), value));
+        
+        // Paint histograms share one metric family with the card as a label
+        String paintMetric = PREFIX + "paint_seconds";
+        boolean paintTypeWritten = false;
+        for (Map.Entry<String, LatencyHistogram> entry : WeatherMetrics.getHistograms().entrySet()) {
+            String name = entry.getKey();
+            if (name.startsWith(WeatherMetrics.PAINT_PREFIX)) {
+                if (!paintTypeWritten) {
+                    out.append("# TYPE ").append(paintMetric).append(" histogram\n");
+                    paintTypeWritten = true;
+                }
+                String label = "component=\"" + name.substring(WeatherMetrics.PAINT_PREFIX.length()) + "\"";
+                histogram(out, paintMetric, label, entry.getValue());
+            } else {
+                String metric = PREFIX + sanitize(name) + "_seconds";
+                out.append("# TYPE ").append(metric).append(" histogram\n");
+                histogram(out, metric, null, entry.getValue());
+            }
+        }
+        
+        long lastSuccess = WeatherMetrics.getLastForecastMillis();
+        if (lastSuccess != 0) {
+            gauge(out, PREFIX + "last_forecast_age_seconds", (System.currentTimeMillis() - lastSuccess) / 1000.0);
+        }
+        
+        out.append("# TYPE ").append(PREFIX).append("log_dropped_total counter\n");
+        out.append(PREFIX).append("log_dropped_total ").append(WeatherAppLogger.getDroppedCount()).append('\n');
+        
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        gauge(out, "jvm_memory_heap_used_bytes", heap.getUsed());
+        gauge(out, "jvm_memory_heap_committed_bytes", heap.getCommitted());
+        if (heap.getMax() >= 0) {
+            gauge(out, "jvm_memory_heap_max_bytes", heap.getMax());
+        }
+        
+        return out.toString();
+    }
+    
+    private static void histogram(StringBuilder out, String metric, String label, LatencyHistogram histogram) {
+        String labelPrefix = label == null ? "{" : "{" + label + ",";
+        String labels = label == null ? "" : "{" + label + "}";
+        
+        // Read the total first so no bucket can exceed +Inf while values are recorded
+        long count = histogram.getCount();
+        long sumNanos = histogram.getTotalNanos();
+        for (double bound : BUCKET_SECONDS) {
+            long bucketCount = Math.min(count, histogram.getCountAtOrBelow((long) (bound * 1e9)));
+            out.append(metric).append("_bucket").append(labelPrefix)
+                .append("le=\"").append(bound).append("\"} ").append(bucketCount).append('\n');
+        }
+        out.append(metric).append("_bucket").append(labelPrefix).append("le=\"+Inf\"} ").append(count).append('\n');
+        out.append(metric).append("_sum").append(labels).append(' ').append(sumNanos / 1e9).append('\n');
+        out.append(metric).append("_count").append(labels).append(' ').append(count).append('\n');
+    }
+    
+    private static void hitRatio(StringBuilder out, String metric, Map<String, Long> counters,
+                                 String hitsName, String missesName) {
+        long hits = counters.getOrDefault(hitsName, 0L);
+        long misses = counters.getOrDefault(missesName, 0L);
+        gauge(out, metric, hits + misses == 0 ? 0 : hits / (double) (hits + misses));
+    }
+    
+    private static void gauge(StringBuilder out, String metric, double value) {
+        out.append("# TYPE ").append(metric).append(" gauge\n");
+        out.append(metric).append(' ').append(value).append('\n');
+    }
+    
+    private static void gauge(StringBuilder out, String metric, long value) {
+        out.append("# TYPE ").append(metric).append(" gauge\n");
+        out.append(metric).append(' ').append(value).append('\n');
+    }
+    
+    private static String sanitize(String name) {
+        return name.replace('.', '_').replace('-', '_');
+    }
+}
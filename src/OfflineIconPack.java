@@ -0,0 +1,284 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Embedded weather icon pack drawn from WeatherIcon's vector routines.
+ *
+ * Covers every WMO weather code reported by Open-Meteo, by day and by night,
+ * and every OpenWeatherMap icon code, so the app can show correct icons
+ * without any network traffic. It is where icons come from unless downloads
+ * are switched on with -Dweatherapp.icons.download=true. Each icon is rendered once per kind and size
+ * on first use and cached; rendering is in-memory, so any thread including
+ * the EDT may call in.
+ */
+public final class OfflineIconPack {
+    
+    /**
+     * Icon artwork; several weather codes share one kind.
+     */
+    public enum IconKind {
+        CLEAR(true),
+        PARTLY_CLOUDY(true),
+        OVERCAST(false),
+        FOG(false),
+        DRIZZLE(false),
+        FREEZING_RAIN(false),
+        RAIN(false),
+        RAIN_SHOWERS(true),
+        SNOW(false),
+        SNOW_SHOWERS(true),
+        THUNDERSTORM(false);
+        
+        private final boolean dayNightVariants;
+        
+        IconKind(boolean dayNightVariants) {
+            this.dayNightVariants = dayNightVariants;
+        }
+        
+        /**
+         * @return true if the night icon differs from the day icon
+         */
+        public boolean hasDayNightVariants() {
+            return dayNightVariants;
+        }
+    }
+    
+    // Every code in the Open-Meteo / WMO 4677 subset the forecast API returns
+    public static final int[] WMO_CODES = {
+        0, 1, 2, 3, 45, 48, 51, 53, 55, 56, 57, 61, 63, 65, 66, 67,
+        71, 73, 75, 77, 80, 81, 82, 85, 86, 95, 96, 99
+    };
+    
+    private static final Color ICON_COLOR = Color.WHITE;
+    
+    private static final Map<String, ImageIcon> cache = new ConcurrentHashMap<>();
+    
+    // Prevent instantiation
+    private OfflineIconPack() {}
+    
+    /**
+     * Checks whether icons come from this pack, which is the default. Icons
+     * are downloaded from OpenWeatherMap only with -Dweatherapp.icons.download=true
+     * (or -Dweatherapp.icons.offline=false).
+     * @return true if icons must not be fetched over the network
+     */
+    public static boolean isOfflineMode() {
+        if (Boolean.getBoolean("weatherapp.icons.download")) {
+            return false;
+        }
+        return !"false".equalsIgnoreCase(System.getProperty("weatherapp.icons.offline"));
+    }
+    
+    /**
+     * Map a WMO weather code to its icon kind. Unknown codes get the overcast icon.
+     * @param wmoCode weather code as returned by Open-Meteo
+     * @return icon kind
+     */
+    public static IconKind kindForWmoCode(int wmoCode) {
+        switch (wmoCode) {
+            case 0:
+                return IconKind.CLEAR;
+            case 1:
+            case 2:
+                return IconKind.PARTLY_CLOUDY;
+            case 3:
+                return IconKind.OVERCAST;
+            case 45:
+            case 48:
+                return IconKind.FOG;
+            case 51:
+            case 53:
+            case 55:
+                return IconKind.DRIZZLE;
+            case 56:
+            case 57:
+            case 66:
+            case 67:
+                return IconKind.FREEZING_RAIN;
+            case 61:
+            case 63:
+            case 65:
+                return IconKind.RAIN;
+            case 71:
+            case 73:
+            case 75:
+            case 77:
+                return IconKind.SNOW;
+            case 80:
+            case 81:
+            case 82:
+                return IconKind.RAIN_SHOWERS;
+            case 85:
+            case 86:
+                return IconKind.SNOW_SHOWERS;
+            case 95:
+            case 96:
+            case 99:
+                return IconKind.THUNDERSTORM;
+            default:
+                return IconKind.OVERCAST;
+        }
+    }
+    
+    /**
+     * Map an OpenWeatherMap icon code such as "10n" to its icon kind.
+     * Unknown codes get the overcast icon.
+     * @param iconCode OpenWeatherMap icon code
+     * @return icon kind
+     */
+    public static IconKind kindForIconCode(String iconCode) {
+        String group = iconCode != null && iconCode.length() >= 2 ? iconCode.substring(0, 2) : "";
+        switch (group) {
+            case "01":
+                return IconKind.CLEAR;
+            case "02":
+            case "03":
+                return IconKind.PARTLY_CLOUDY;
+            case "04":
+                return IconKind.OVERCAST;
+            case "09":
+                return IconKind.RAIN;
+            case "10":
+                return IconKind.RAIN_SHOWERS;
+            case "11":
+                return IconKind.THUNDERSTORM;
+            case "13":
+                return IconKind.SNOW;
+            case "50":
+                return IconKind.FOG;
+            default:
+                return IconKind.OVERCAST;
+        }
+    }
+    
+    /**
+     * Get the icon for a WMO weather code.
+     * @param wmoCode weather code as returned by Open-Meteo
+     * @param isDayTime true for the day variant, false for night
+     * @param size icon width and height in pixels
+     * @return cached icon image
+     */
+    public static BufferedImage getImageForWmoCode(int wmoCode, boolean isDayTime, int size) {
+        return getImage(kindForWmoCode(wmoCode), isDayTime, size);
+    }
+    
+    /**
+     * Get the icon for an OpenWeatherMap icon code; day or night is taken
+     * from the code's "d" or "n" suffix.
+     * @param iconCode OpenWeatherMap icon code such as "01d"
+     * @param size icon width and height in pixels
+     * @return cached icon
+     */
+    public static ImageIcon getIcon(String iconCode, int size) {
+        boolean isDayTime = iconCode == null || !iconCode.endsWith("n");
+        return getCachedIcon(kindForIconCode(iconCode), isDayTime, size);
+    }
+    
+    /**
+     * Get an icon, rendering it on first use.
+     * @param kind icon artwork
+     * @param isDayTime true for the day variant, false for night
+     * @param size icon width and height in pixels
+     * @return cached icon image
+     */
+    public static BufferedImage getImage(IconKind kind, boolean isDayTime, int size) {
+        return (BufferedImage) getCachedIcon(kind, isDayTime, size).getImage();
+    }
+    
+    /**
+     * Rendered icons are cached as ImageIcons so Swing callers can share them.
+     */
+    private static ImageIcon getCachedIcon(IconKind kind, boolean isDayTime, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Icon size must be positive: " + size);
+        }
+        
+        // Kinds without a night variant share one raster
+        boolean day = isDayTime || !kind.hasDayNightVariants();
+        String key = kind + (day ? "_d_" : "_n_") + size;
+        return cache.computeIfAbsent(key, k -> new ImageIcon(render(kind, day, size)));
+    }
+    
+    /**
+     * Render every WMO code, day and night, at the given sizes.
+     * @param sizes icon sizes in pixels
+     * @return number of distinct icons now cached
+     */
+    public static int preload(int... sizes) {
+        for (int size : sizes) {
+            for (int wmoCode : WMO_CODES) {
+                getImageForWmoCode(wmoCode, true, size);
+                getImageForWmoCode(wmoCode, false, size);
+            }
+        }
+        return cache.size();
+    }
+    
+    /**
+     * Clear all rendered icons.
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+    
+    /**
+     * Get number of rendered icons, for debugging.
+     */
+    public static int getCacheSize() {
+        return cache.size();
+    }
+    
+    private static BufferedImage render(IconKind kind, boolean isDayTime, int size) {
+        BufferedImage image = ImageScaler.createCompatibleImage(size, size);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        
+        int center = size / 2;
+        switch (kind) {
+            case CLEAR:
+                if (isDayTime) {
+                    WeatherIcon.drawSunIcon(g2d, center, center, size, ICON_COLOR);
+                } else {
+                    WeatherIcon.drawMoonIcon(g2d, center, center, size, ICON_COLOR);
+                }
+                break;
+            case PARTLY_CLOUDY:
+                WeatherIcon.drawPartlyCloudyIcon(g2d, center, center, size, isDayTime, ICON_COLOR);
+                break;
+            case OVERCAST:
+                WeatherIcon.drawCloudIcon(g2d, center, center, size, ICON_COLOR);
+                break;
+            case FOG:
+                WeatherIcon.drawFogIcon(g2d, center, center, size, ICON_COLOR);
+                break;
+            case DRIZZLE:
+                WeatherIcon.drawDrizzleIcon(g2d, center, center, size, ICON_COLOR);
+                break;
+            case FREEZING_RAIN:
+                WeatherIcon.drawSleetIcon(g2d, center, center, size, ICON_COLOR);
+                break;
+            case RAIN:
+                WeatherIcon.drawRainIcon(g2d, center, center, size, ICON_COLOR);
+                break;
+            case RAIN_SHOWERS:
+                WeatherIcon.drawShowersIcon(g2d, center, center, size, isDayTime, false, ICON_COLOR);
+                break;
+            case SNOW:
+                WeatherIcon.drawSnowIcon(g2d, center, center, size, ICON_COLOR);
+                break;
+            case SNOW_SHOWERS:
+                WeatherIcon.drawShowersIcon(g2d, center, center, size, isDayTime, true, ICON_COLOR);
+                break;
+            case THUNDERSTORM:
+                WeatherIcon.drawThunderstormIcon(g2d, center, center, size, ICON_COLOR);
+                break;
+        }
+        
+        g2d.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,31 @@
+import org.json.simple.JSONObject;
+
+import java.util.Set;
+
+/**
+ * Forecasts from the Open-Meteo APIs through {@link WeatherApp#getWeatherData}.
+ * The endpoints can be pointed at a {@link SyntheticWeatherServer} with
+ * -Dweatherapp.api.forecastUrl and -Dweatherapp.api.geocodingUrl.
+ */
+public final class OpenMeteoWeatherProvider implements WeatherProvider {
+    
+    public static final String NAME = "open-meteo";
+    
+    private static final Set<Capability> CAPABILITIES =
+        WeatherProvider.capabilities(Capability.REMOTE, Capability.DAILY_FORECAST);
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public Set<Capability> getCapabilities() {
+        return CAPABILITIES;
+    }
+    
+    @Override
+    public JSONObject load(String cityName) {
+        return WeatherApp.getWeatherData(cityName);
+    }
+}
@@ -1,17 +1,24 @@
-import javax.imageio.ImageIO;
 import javax.swing.*;
-import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * OpenWeatherMap icon integration for weather cards
- * Downloads and caches weather icons from OpenWeatherMap API
+ * By default every icon comes from OfflineIconPack and nothing is downloaded.
+ * With -Dweatherapp.icons.download=true icons are downloaded from
+ * OpenWeatherMap instead and cached in memory and on disk
  */
 public class OpenWeatherIcon {
     
@@ -19,8 +26,31 @@ public class OpenWeatherIcon {
     private static final String ICON_BASE_URL = "https://openweathermap.org/img/wn/";
     private static final String ICON_SIZE_SUFFIX = "@2x.png"; // High resolution icons
     
-    // Icon cache to avoid repeated downloads
-    private static final Map<String, ImageIcon> iconCache = new HashMap<>();
+    // Scaled icons kept in memory (about 18 codes at two sizes each)
+    private static final int MAX_MEMORY_ICONS = 64;
+    
+    // The embedded pack, unless downloads were switched on
+    private static final boolean OFFLINE = OfflineIconPack.isOfflineMode();
+    
+    // Memory + disk cache; icons seen in an earlier run are never downloaded again
+    private static final IconCache iconCache =
+        new IconCache(IconCache.defaultDirectory(), MAX_MEMORY_ICONS, OpenWeatherIcon::downloadIconBytes);
+    
+    // Background loads for the async API and the preloader, so paint code never waits on I/O;
+    // at most four downloads at once, on the shared I/O executor
+    private static final int MAX_CONCURRENT_LOADS = 4;
+    private static final int LOAD_QUEUE_CAPACITY = 64;
+    private static final Executor LOAD_EXECUTOR =
+        WeatherExecutors.boundedIo("icons", MAX_CONCURRENT_LOADS, LOAD_QUEUE_CAPACITY);
+    
+    // Callbacks waiting for an icon that is already loading
+    private static final Map<String, Runnable> pendingLoads = new ConcurrentHashMap<>();
+    
+    private static final LatencyHistogram DOWNLOAD_TIME = WeatherMetrics.histogram(WeatherMetrics.ICON_DOWNLOAD);
+    private static final LongAdder DOWNLOAD_ERRORS = WeatherMetrics.counter(WeatherMetrics.ICON_DOWNLOAD_ERRORS);
+    private static final LongAdder CACHE_HITS = WeatherMetrics.counter(WeatherMetrics.ICON_CACHE_HITS);
+    private static final LongAdder CACHE_MISSES = WeatherMetrics.counter(WeatherMetrics.ICON_CACHE_MISSES);
+    private static final LongAdder EDT_LOADS = WeatherMetrics.counter(WeatherMetrics.ICON_EDT_LOADS);
     
     // Weather condition to OpenWeatherMap icon code mapping
     private static final Map<String, String> CONDITION_TO_ICON = new HashMap<>();
@@ -71,6 +101,67 @@ public class OpenWeatherIcon {
      * @return ImageIcon or null if not found
      */
     public static ImageIcon getWeatherIcon(String weatherCondition, int size, boolean isDayTime) {
+        return loadIcon(resolveIconCode(weatherCondition, isDayTime), size);
+    }
+    
+    /**
+     * Get weather icon without blocking. Returns the cached icon if present;
+     * otherwise returns a locally drawn placeholder, loads the real icon in the
+     * background and runs onLoaded on the EDT once it is available.
+     * Safe to call from paint code.
+     * @param weatherCondition Weather condition string
+     * @param size Desired icon size (will be scaled)
+     * @param isDayTime true for day icons, false for night icons
+     * @param onLoaded run on the EDT when the real icon arrives, e.g. a targeted repaint
+     * @return cached icon or placeholder, never null
+     */
+    public static ImageIcon getWeatherIconAsync(String weatherCondition, int size, boolean isDayTime, Runnable onLoaded) {
+        String iconCode = resolveIconCode(weatherCondition, isDayTime);
+        if (OFFLINE) {
+            // The pack renders in memory, so the final icon is available right away
+            return OfflineIconPack.getIcon(iconCode, size);
+        }
+        
+        ImageIcon cached = iconCache.getIfPresent(iconCode, size);
+        if (cached != null) {
+            CACHE_HITS.increment();
+            return cached;
+        }
+        CACHE_MISSES.increment();
+        
+        String cacheKey = iconCode + "_" + size;
+        
+        // Several paints may ask before the load finishes; chain their callbacks onto one load
+        boolean alreadyLoading = pendingLoads.merge(cacheKey, onLoaded, (first, next) -> () -> {
+            first.run();
+            next.run();
+        }) != onLoaded;
+        if (!alreadyLoading) {
+            try {
+                LOAD_EXECUTOR.execute(() -> {
+                    try {
+                        loadIcon(iconCode, size);
+                    } finally {
+                        Runnable callbacks = pendingLoads.remove(cacheKey);
+                        if (callbacks != null) {
+                            SwingUtilities.invokeLater(callbacks);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Too many loads queued; a later paint asks again
+                pendingLoads.remove(cacheKey);
+                WeatherAppLogger.debug("Icon load for {} not queued: {}", cacheKey, e.getMessage());
+            }
+        }
+        
+        return createFallbackIcon(iconCode, size);
+    }
+    
+    /**
+     * Map a weather condition to its icon code, adjusted for day or night
+     */
+    private static String resolveIconCode(String weatherCondition, boolean isDayTime) {
         if (weatherCondition == null) {
             weatherCondition = "Clear";
         }
@@ -85,83 +176,83 @@ public class OpenWeatherIcon {
         if (!isDayTime && iconCode.endsWith("d")) {
             iconCode = iconCode.replace("d", "n");
         }
+        return iconCode;
+    }
+    
+    /**
+     * Load an icon through the cache, falling back to a drawn icon. May block on I/O.
+     */
+    private static ImageIcon loadIcon(String iconCode, int size) {
+        if (OFFLINE) {
+            return OfflineIconPack.getIcon(iconCode, size);
+        }
         
-        String cacheKey = iconCode + "_" + size;
-        
-        // Check cache first
-        if (iconCache.containsKey(cacheKey)) {
-            return iconCache.get(cacheKey);
+        // Not cached and called on the EDT: draw it rather than block on I/O,
+        // and keep the drawn icon out of the cache so a later load can replace it
+        if (SwingUtilities.isEventDispatchThread() && !iconCache.contains(iconCode, size)) {
+            WeatherAppLogger.warn("Weather icon {} requested on the EDT before it was loaded; using a drawn icon", iconCode);
+            return createFallbackIcon(iconCode, size);
         }
         
-        // Download and cache the icon
-        ImageIcon icon = downloadIcon(iconCode, size);
-        if (icon != null) {
-            iconCache.put(cacheKey, icon);
+        // Memory, then disk, then a single shared download
+        ImageIcon icon = iconCache.get(iconCode, size);
+        if (icon == null) {
+            // Use fallback custom icon if download fails; kept in memory only
+            icon = createFallbackIcon(iconCode, size);
+            iconCache.put(iconCode, size, icon);
         }
         
         return icon;
     }
     
     /**
-     * Download icon from OpenWeatherMap
+     * Download original icon bytes from OpenWeatherMap
      */
-    private static ImageIcon downloadIcon(String iconCode, int size) {
+    private static byte[] downloadIconBytes(String iconCode) throws IOException {
+        // A blocking download on the EDT would freeze the UI for up to the timeouts below
+        if (SwingUtilities.isEventDispatchThread()) {
+            EDT_LOADS.increment();
+            WeatherAppLogger.warn("Weather icon download attempted on the EDT: {}", iconCode);
+            return null;
+        }
+        
+        long downloadStart = System.nanoTime();
+        String iconUrl = ICON_BASE_URL + iconCode + ICON_SIZE_SUFFIX;
+        URL url = new URL(iconUrl);
+        
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
         try {
-            String iconUrl = ICON_BASE_URL + iconCode + ICON_SIZE_SUFFIX;
-            URL url = new URL(iconUrl);
-            
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
             connection.setRequestMethod("GET");
             connection.setConnectTimeout(5000); // 5 second timeout
             connection.setReadTimeout(5000);
             connection.setRequestProperty("User-Agent", "WeatherApp/1.0");
             
             int responseCode = connection.getResponseCode();
-            if (responseCode == HttpURLConnection.HTTP_OK) {
-                InputStream inputStream = connection.getInputStream();
-                BufferedImage image = ImageIO.read(inputStream);
-                inputStream.close();
-                
-                if (image != null) {
-                    // Scale the image to desired size
-                    Image scaledImage = image.getScaledInstance(size, size, Image.SCALE_SMOOTH);
-                    return new ImageIcon(scaledImage);
-                }
+            if (responseCode != HttpURLConnection.HTTP_OK) {
+                DOWNLOAD_ERRORS.increment();
+                WeatherAppLogger.warn("Weather icon {} returned HTTP {}", iconCode, responseCode);
+                return null;
             }
             
-            connection.disconnect();
-            
+            try (InputStream inputStream = connection.getInputStream()) {
+                byte[] bytes = inputStream.readAllBytes();
+                DOWNLOAD_TIME.recordSince(downloadStart);
+                return bytes;
+            }
         } catch (IOException e) {
-            System.err.println("Failed to download weather icon: " + iconCode);
-            e.printStackTrace();
+            DOWNLOAD_ERRORS.increment();
+            throw e;
+        } finally {
+            connection.disconnect();
         }
-        
-        // Return fallback custom icon if download fails
-        return createFallbackIcon(iconCode, size);
     }
     
     /**
-     * Create a fallback icon if download fails
+     * Create a fallback icon if download fails, drawn for the icon code's
+     * condition and day or night. Rendered icons are cached by the pack.
      */
     private static ImageIcon createFallbackIcon(String iconCode, int size) {
-        BufferedImage fallbackImage = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = fallbackImage.createGraphics();
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        // Determine weather type from icon code
-        String weatherType = "Clear";
-        if (iconCode.startsWith("01")) weatherType = "Clear";
-        else if (iconCode.startsWith("02") || iconCode.startsWith("03") || iconCode.startsWith("04")) weatherType = "Cloudy";
-        else if (iconCode.startsWith("09") || iconCode.startsWith("10")) weatherType = "Rain";
-        else if (iconCode.startsWith("11")) weatherType = "Thunderstorm";
-        else if (iconCode.startsWith("13")) weatherType = "Snow";
-        else if (iconCode.startsWith("50")) weatherType = "Mist";
-        
-        // Use custom weather icon as fallback
-        WeatherIcon.drawSunIcon(g2d, size/2, size/2, size, Color.WHITE);
-        
-        g2d.dispose();
-        return new ImageIcon(fallbackImage);
+        return OfflineIconPack.getIcon(iconCode, size);
     }
     
     /**
@@ -172,21 +263,55 @@ public class OpenWeatherIcon {
     }
     
     /**
-     * Preload common weather icons
+     * Get mini weather icon for hourly forecast without blocking
+     * @see #getWeatherIconAsync(String, int, boolean, Runnable)
      */
-    public static void preloadIcons() {
-        SwingUtilities.invokeLater(() -> {
-            // Preload common weather icons in background
-            String[] commonConditions = {"Clear", "Cloudy", "Rain", "Snow"};
-            for (String condition : commonConditions) {
-                getWeatherIcon(condition, 80, true);
-                getWeatherIcon(condition, 20, true);
-            }
-        });
+    public static ImageIcon getMiniWeatherIconAsync(String weatherCondition, int size, Runnable onLoaded) {
+        return getWeatherIconAsync(weatherCondition, size, true, onLoaded);
+    }
+    
+    /**
+     * Preload the full day and night icon set in the background. Each icon is
+     * fetched concurrently on the bounded loader pool, decoded once and scaled
+     * to every requested size. Icons that fail to load are left to the
+     * on-demand path.
+     * @param sizes every icon size the calling card draws
+     * @return completes when all loads have finished; the UI may await or ignore it
+     */
+    public static CompletableFuture<Void> preloadIcons(int... sizes) {
+        long start = System.nanoTime();
+        
+        if (OFFLINE) {
+            int rendered = OfflineIconPack.preload(sizes);
+            WeatherAppLogger.event(WeatherAppLogger.Level.INFO, "icons.rendered",
+                "count", rendered, "durationMs", (System.nanoTime() - start) / 1_000_000);
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        Set<String> iconCodes = new LinkedHashSet<>();
+        for (String dayCode : CONDITION_TO_ICON.values()) {
+            iconCodes.add(dayCode);
+            iconCodes.add(dayCode.replace("d", "n"));
+        }
+        
+        AtomicInteger loaded = new AtomicInteger();
+        CompletableFuture<?>[] loads = iconCodes.stream()
+            .map(iconCode -> WeatherExecutors.supplyAsync(() -> {
+                if (iconCache.preload(iconCode, sizes)) {
+                    loaded.incrementAndGet();
+                }
+                return null;
+            }, LOAD_EXECUTOR))
+            .toArray(CompletableFuture[]::new);
+        
+        return CompletableFuture.allOf(loads).whenComplete((ignored, error) ->
+            WeatherAppLogger.event(WeatherAppLogger.Level.INFO, "icons.preloaded",
+                "loaded", loaded.get(), "total", iconCodes.size(),
+                "durationMs", (System.nanoTime() - start) / 1_000_000));
     }
     
     /**
-     * Clear the icon cache
+     * Clear the in-memory icon cache (icons on disk are kept)
      */
     public static void clearCache() {
         iconCache.clear();
@@ -210,8 +335,10 @@ public class OpenWeatherIcon {
      * Check if icon is available in cache
      */
     public static boolean isIconCached(String weatherCondition, int size) {
+        if (OFFLINE) {
+            return true;
+        }
         String iconCode = getIconCode(weatherCondition);
-        String cacheKey = iconCode + "_" + size;
-        return iconCache.containsKey(cacheKey);
+        return iconCache.contains(iconCode, size);
     }
 }
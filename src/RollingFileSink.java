@@ -0,0 +1,469 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Log file sink writing one JSON object per line:
+ * {"timestamp":"...","level":"INFO","thread":"main","event":"...","fields":{...}}
+ *
+ * Lines are encoded into a 64 KB buffer and handed to a FileChannel once per
+ * batch (or whenever the buffer fills), so a burst of events costs a single
+ * write call. The file is rolled when it reaches a size limit or has been
+ * open for the roll interval; rolled files are renamed with a timestamp,
+ * optionally gzipped on a background thread, and the oldest are deleted
+ * beyond a retention count.
+ */
+public class RollingFileSink implements LogSink {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String ARCHIVE_SUFFIX = ".gz";
+    
+    private static final DateTimeFormatter ARCHIVE_STAMP =
+        DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.systemDefault());
+    // What roll() puts between the base name and the extension: ARCHIVE_STAMP, then "-N" on a clash
+    private static final Pattern ARCHIVE_STAMP_PATTERN = Pattern.compile("\\d{8}-\\d{6}(-\\d+)?");
+    
+    // Rolled files are compressed off the log writer thread
+    private static ExecutorService compressor;
+    
+    private final Path file;
+    private final String baseName;
+    private final String extension;
+    private final long maxBytes;
+    private final long rollIntervalMillis;
+    private final int maxArchives;
+    private final boolean compress;
+    
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final StringBuilder line = new StringBuilder(512);
+    
+    private FileChannel channel;
+    private long size;
+    private long rollAtMillis;
+    private boolean closed = false;
+    private boolean recovered = false;
+    
+    private final DateTimeFormatter timestampFormatter =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss").withZone(ZoneId.systemDefault());
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedSecondText;
+    private String cachedOffset;
+    
+    /**
+     * Creates a sink; the file is opened (appending) on the first write.
+     * @param file active log file, e.g. logs/weatherapp.log
+     * @param maxBytes roll once the file reaches this size
+     * @param rollIntervalMillis roll once the file has been open this long, or 0 for size only
+     * @param maxArchives number of rolled files to keep
+     * @param compress true to gzip rolled files
+     */
+    public RollingFileSink(Path file, long maxBytes, long rollIntervalMillis, int maxArchives, boolean compress) {
+        if (maxBytes <= 0 || rollIntervalMillis < 0 || maxArchives < 0) {
+            throw new IllegalArgumentException("Invalid log rolling limits");
+        }
+        this.file = file.toAbsolutePath();
+        this.maxBytes = maxBytes;
+        this.rollIntervalMillis = rollIntervalMillis;
+        this.maxArchives = maxArchives;
+        this.compress = compress;
+        
+        String name = this.file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        this.baseName = dot > 0 ? name.substring(0, dot) : name;
+        this.extension = dot > 0 ? name.substring(dot) : "";
+    }
+    
+    /**
+     * Creates a sink configured by system properties:
+     * weatherapp.log.maxBytes (default 10 MB), weatherapp.log.rollHours
+     * (default 24, 0 for size only), weatherapp.log.maxArchives (default 10)
+     * and weatherapp.log.compress (default true).
+     * @param file active log file
+     * @return configured sink
+     */
+    public static RollingFileSink fromSystemProperties(Path file) {
+        long maxBytes = Long.getLong("weatherapp.log.maxBytes", 10L * 1024 * 1024);
+        long rollHours = Long.getLong("weatherapp.log.rollHours", 24L);
+        int maxArchives = Integer.getInteger("weatherapp.log.maxArchives", 10);
+        boolean compress = !"false".equalsIgnoreCase(System.getProperty("weatherapp.log.compress"));
+        return new RollingFileSink(file, maxBytes, TimeUnit.HOURS.toMillis(rollHours), maxArchives, compress);
+    }
+    
+    @Override
+    public synchronized void write(List<WeatherAppLogger.LogEvent> batch) throws IOException {
+        if (closed) {
+            return;
+        }
+        
+        try {
+            if (channel == null) {
+                open();
+            }
+            
+            for (WeatherAppLogger.LogEvent event : batch) {
+                if (size + bytes.position() >= maxBytes
+                        || (rollIntervalMillis > 0 && event.getTimeMillis() >= rollAtMillis)) {
+                    roll();
+                }
+                
+                line.setLength(0);
+                appendJson(event);
+                line.append('\n');
+                encodeLine();
+            }
+            
+            // One write per batch instead of one per event
+            writeBuffer();
+        } catch (IOException e) {
+            // Reopen on the next batch rather than keep writing to a broken channel
+            bytes.clear();
+            closeChannel();
+            throw e;
+        }
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (channel != null) {
+            writeBuffer();
+            closeChannel();
+        }
+    }
+    
+    /**
+     * @return the active log file
+     */
+    public Path getFile() {
+        return file;
+    }
+    
+    private void open() throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+        rollAtMillis = System.currentTimeMillis() + rollIntervalMillis;
+        
+        // Archives left uncompressed by an earlier run that exited mid-roll
+        if (compress && !recovered) {
+            recovered = true;
+            for (Path archive : listArchives()) {
+                if (!archive.getFileName().toString().endsWith(ARCHIVE_SUFFIX)) {
+                    scheduleCompression(archive);
+                }
+            }
+        }
+    }
+    
+    private void roll() throws IOException {
+        writeBuffer();
+        closeChannel();
+        
+        if (Files.exists(file) && Files.size(file) > 0) {
+            String stamp = ARCHIVE_STAMP.format(Instant.now());
+            Path archive = file.resolveSibling(baseName + "-" + stamp + extension);
+            for (int i = 1; Files.exists(archive) || Files.exists(gzipPath(archive)); i++) {
+                archive = file.resolveSibling(baseName + "-" + stamp + "-" + i + extension);
+            }
+            Files.move(file, archive);
+            
+            if (compress) {
+                scheduleCompression(archive);
+            } else {
+                pruneArchives();
+            }
+        }
+        open();
+    }
+    
+    private void encodeLine() throws IOException {
+        CharBuffer chars = CharBuffer.wrap(line);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, true);
+            if (result.isOverflow()) {
+                writeBuffer();
+            } else if (result.isUnderflow()) {
+                break;
+            } else {
+                result.throwException();
+            }
+        }
+        while (encoder.flush(bytes).isOverflow()) {
+            writeBuffer();
+        }
+    }
+    
+    private void writeBuffer() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            size += channel.write(bytes);
+        }
+        bytes.clear();
+    }
+    
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Could not close log file " + file + ": " + e.getMessage());
+        }
+        channel = null;
+    }
+    
+    private void appendJson(WeatherAppLogger.LogEvent event) {
+        line.append("{\"timestamp\":\"");
+        appendTimestamp(event.getTimeMillis());
+        line.append("\",\"level\":\"").append(event.getLevel());
+        line.append("\",\"thread\":");
+        appendString(event.getThreadName());
+        line.append(",\"event\":\"");
+        int start = line.length();
+        event.appendMessage(line);
+        escapeFrom(start);
+        line.append('"');
+        
+        if (event.getFieldCount() > 0) {
+            line.append(",\"fields\":{");
+            for (int i = 0; i < event.getFieldCount(); i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                appendString(event.getFieldName(i));
+                line.append(':');
+                appendValue(event.getFieldValue(i));
+            }
+            line.append('}');
+        }
+        
+        Throwable throwable = event.getThrowable();
+        if (throwable != null) {
+            line.append(",\"exception\":");
+            appendString(throwable.toString());
+            StringWriter stack = new StringWriter();
+            throwable.printStackTrace(new PrintWriter(stack));
+            line.append(",\"stack\":");
+            appendString(stack.toString());
+        }
+        line.append('}');
+    }
+    
+    private void appendValue(Object value) {
+        if (value == null) {
+            line.append("null");
+        } else if (value instanceof Boolean
+                || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            line.append(value);
+        } else if (value instanceof Number && Double.isFinite(((Number) value).doubleValue())) {
+            line.append(((Number) value).doubleValue());
+        } else {
+            appendString(String.valueOf(value));
+        }
+    }
+    
+    private void appendString(String value) {
+        line.append('"');
+        int start = line.length();
+        line.append(value);
+        escapeFrom(start);
+        line.append('"');
+    }
+    
+    /**
+     * JSON-escapes the characters appended since start, in place.
+     */
+    private void escapeFrom(int start) {
+        for (int i = start; i < line.length(); i++) {
+            char c = line.charAt(i);
+            String replacement;
+            switch (c) {
+                case '"': replacement = "\\\""; break;
+                case '\\': replacement = "\\\\"; break;
+                case '\n': replacement = "\\n"; break;
+                case '\r': replacement = "\\r"; break;
+                case '\t': replacement = "\\t"; break;
+                default:
+                    if (c >= 0x20) {
+                        continue;
+                    }
+                    replacement = String.format("\\u%04x", (int) c);
+            }
+            line.replace(i, i + 1, replacement);
+            i += replacement.length() - 1;
+        }
+    }
+    
+    /**
+     * ISO-8601 local time with milliseconds and offset; the part up to the
+     * second is reused for every event within that second.
+     */
+    private void appendTimestamp(long timeMillis) {
+        long second = Math.floorDiv(timeMillis, 1000);
+        if (second != cachedSecond) {
+            Instant instant = Instant.ofEpochSecond(second);
+            cachedSecondText = timestampFormatter.format(instant);
+            cachedOffset = ZoneId.systemDefault().getRules().getOffset(instant).getId();
+            cachedSecond = second;
+        }
+        
+        int millis = (int) Math.floorMod(timeMillis, 1000L);
+        line.append(cachedSecondText).append('.');
+        if (millis < 100) {
+            line.append('0');
+        }
+        if (millis < 10) {
+            line.append('0');
+        }
+        line.append(millis).append(cachedOffset);
+    }
+    
+    private void scheduleCompression(Path archive) {
+        getCompressor().execute(() -> {
+            Path target = gzipPath(archive);
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try (InputStream in = Files.newInputStream(archive);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)) {
+                in.transferTo(out);
+            } catch (IOException e) {
+                System.err.println("Could not compress log file " + archive + ": " + e.getMessage());
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Left for the next attempt to overwrite
+                }
+                return;
+            }
+            
+            try {
+                Files.move(temp, target);
+                Files.delete(archive);
+            } catch (IOException e) {
+                System.err.println("Could not finish compressing " + archive + ": " + e.getMessage());
+            }
+            pruneArchives();
+        });
+    }
+    
+    private static synchronized ExecutorService getCompressor() {
+        if (compressor == null) {
+            compressor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "weather-log-compressor");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        return compressor;
+    }
+    
+    private Path gzipPath(Path archive) {
+        return archive.resolveSibling(archive.getFileName() + ARCHIVE_SUFFIX);
+    }
+    
+    /**
+     * Rolled files, oldest first: by timestamp, then by the counter added
+     * when several rolls happen within one second.
+     */
+    private List<Path> listArchives() {
+        List<Path> archives = new ArrayList<>();
+        Path directory = file.getParent();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, baseName + "-*" + extension + "*")) {
+            for (Path candidate : stream) {
+                // The glob also matches siblings such as weatherapp-debug.log; only take our own archives
+                if (isArchive(candidate.getFileName().toString())) {
+                    archives.add(candidate);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not list log archives: " + e.getMessage());
+        }
+        archives.sort(Comparator.comparing(this::archiveStamp).thenComparingInt(this::archiveCounter));
+        return archives;
+    }
+    
+    /**
+     * Check that a file name is one roll() produced: base name, "-", archive
+     * stamp, extension and, once compressed, ".gz".
+     */
+    private boolean isArchive(String name) {
+        if (name.endsWith(ARCHIVE_SUFFIX)) {
+            name = name.substring(0, name.length() - ARCHIVE_SUFFIX.length());
+        }
+        int stampStart = baseName.length() + 1;
+        int stampEnd = name.length() - extension.length();
+        return name.startsWith(baseName + "-") && name.endsWith(extension) && stampEnd > stampStart
+            && ARCHIVE_STAMP_PATTERN.matcher(name.substring(stampStart, stampEnd)).matches();
+    }
+    
+    /**
+     * "yyyyMMdd-HHmmss" or "yyyyMMdd-HHmmss-N" part of an archive name.
+     */
+    private String archiveSuffix(Path archive) {
+        String name = archive.getFileName().toString();
+        if (name.endsWith(ARCHIVE_SUFFIX)) {
+            name = name.substring(0, name.length() - ARCHIVE_SUFFIX.length());
+        }
+        return name.substring(baseName.length() + 1, name.length() - extension.length());
+    }
+    
+    private String archiveStamp(Path archive) {
+        String suffix = archiveSuffix(archive);
+        int counter = suffix.indexOf('-', suffix.indexOf('-') + 1);
+        return counter < 0 ? suffix : suffix.substring(0, counter);
+    }
+    
+    private int archiveCounter(Path archive) {
+        String suffix = archiveSuffix(archive);
+        int counter = suffix.indexOf('-', suffix.indexOf('-') + 1);
+        try {
+            return counter < 0 ? 0 : Integer.parseInt(suffix.substring(counter + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+    
+    private void pruneArchives() {
+        List<Path> archives = listArchives();
+        for (int i = 0; i < archives.size() - maxArchives; i++) {
+            try {
+                Files.deleteIfExists(archives.get(i));
+            } catch (IOException e) {
+                System.err.println("Could not delete old log file " + archives.get(i) + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Build-time tool that packs every PNG in the assets folder into the binary
+ * sprite sheet read by AssetManager. Pixels are stored as raw ARGB behind a
+ * deflate stream, so loading them needs no PNG decoding. Each entry also
+ * records the size and CRC-32 of its source PNG, so AssetManager can tell
+ * when the sheet is out of date.
+ *
+ * Usage: java SpriteSheetPacker [assetDir] [outputFile]
+ * Defaults to src/assets and src/assets/icons.sprite. Re-run after changing
+ * any asset; until then AssetManager decodes the changed PNGs instead of
+ * their stale entries, and falls back to the PNGs for names not in the sheet.
+ */
+public final class SpriteSheetPacker {
+    
+    // Prevent instantiation
+    private SpriteSheetPacker() {}
+    
+    public static void main(String[] args) throws IOException {
+        File assetDir = new File(args.length > 0 ? args[0] : "src/assets");
+        File output = new File(args.length > 1 ? args[1] : new File(assetDir, AssetManager.SPRITE_SHEET).getPath());
+        
+        File[] pngs = assetDir.listFiles((dir, name) -> name.endsWith(".png"));
+        if (pngs == null || pngs.length == 0) {
+            throw new IOException("No PNG assets found in " + assetDir.getAbsolutePath());
+        }
+        Arrays.sort(pngs);
+        
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(
+                new BufferedOutputStream(new FileOutputStream(output)), deflater))) {
+            out.writeInt(AssetManager.SPRITE_MAGIC);
+            out.writeInt(AssetManager.SPRITE_VERSION);
+            out.writeInt(pngs.length);
+            
+            for (File png : pngs) {
+                byte[] source = Files.readAllBytes(png.toPath());
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(source));
+                int width = image.getWidth();
+                int height = image.getHeight();
+                
+                // getRGB always yields non-premultiplied ARGB, whatever the PNG's color type
+                int[] argb = image.getRGB(0, 0, width, height, null, 0, width);
+                ByteBuffer pixels = ByteBuffer.allocate(argb.length * 4);
+                pixels.asIntBuffer().put(argb);
+                
+                out.writeUTF(png.getName());
+                out.writeInt(source.length);
+                out.writeInt(AssetManager.checksum(source));
+                out.writeInt(width);
+                out.writeInt(height);
+                out.write(pixels.array());
+            }
+        } finally {
+            deflater.end();
+        }
+        
+        System.out.println("Packed " + pngs.length + " assets into " + output.getPath()
+            + " (" + output.length() + " bytes)");
+    }
+}
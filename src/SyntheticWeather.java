@@ -0,0 +1,663 @@
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deterministic synthetic weather for offline load tests and UI benchmarks.
+ *
+ * Every value is a pure function of the seed, the coordinate (snapped to a
+ * 0.1 degree cell) and the absolute UTC hour, so the same request always
+ * gets the same forecast, overlapping windows agree, and two runs with the
+ * same seed are comparable. The model layers:
+ *   - a climate from latitude and season (hemisphere aware)
+ *   - a diurnal cycle peaking mid-afternoon, damped by cloud
+ *   - fronts every few days that shift the air mass temperature and bring
+ *     wind, humidity and cloud
+ *   - precipitation events of one to eight hours, likelier near fronts;
+ *     rain, snow below freezing, thunder in warm downpours
+ *
+ * Output follows Open-Meteo's JSON, both for the forecast and the geocoding
+ * search, so it can be served by {@link SyntheticWeatherServer} or used
+ * in-process. Simulated latency is log-normal with a configurable median
+ * and 99th percentile.
+ *
+ * Defaults come from system properties: weatherapp.synthetic.seed (42),
+ * .latencyMedianMillis (80), .latencyP99Millis (400), .errorRate (0) and
+ * .forecastDays (7, at most 16).
+ */
+public final class SyntheticWeather {
+    
+    public static final int MAX_FORECAST_DAYS = 16;
+    
+    private static final long DEFAULT_SEED = 42;
+    private static final long DEFAULT_LATENCY_MEDIAN_MILLIS = 80;
+    private static final long DEFAULT_LATENCY_P99_MILLIS = 400;
+    private static final int DEFAULT_FORECAST_DAYS = 7;
+    
+    private static final double CELL_DEGREES = 0.1;
+    private static final int FRONT_BLOCK_HOURS = 72;
+    private static final int SHOWER_SLOT_HOURS = 6;
+    private static final int CLOUD_SLOT_HOURS = 3;
+    private static final int MAX_SHOWER_HOURS = 8;
+    private static final double Z_99 = 2.326;
+    
+    // Salts so each random quantity has its own stream
+    private static final long SALT_FRONT_TIME = 0x1F;
+    private static final long SALT_AIR_MASS = 0x2E;
+    private static final long SALT_FRONT_STRENGTH = 0x3D;
+    private static final long SALT_SHOWER = 0x4C;
+    private static final long SALT_CLOUD = 0x5B;
+    private static final long SALT_NOISE = 0x6A;
+    private static final long SALT_CELL = 0x79;
+    
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+    
+    // Real coordinates for the usual demo cities; anything else is placed by name
+    private static final Object[][] KNOWN_PLACES = {
+        {"London", 51.50853, -0.12574, "United Kingdom", "GB"},
+        {"Paris", 48.85341, 2.3488, "France", "FR"},
+        {"Berlin", 52.52437, 13.41053, "Germany", "DE"},
+        {"Madrid", 40.4165, -3.70256, "Spain", "ES"},
+        {"Rome", 41.89193, 12.51133, "Italy", "IT"},
+        {"Oslo", 59.91273, 10.74609, "Norway", "NO"},
+        {"Helsinki", 60.16952, 24.93545, "Finland", "FI"},
+        {"Reykjavik", 64.13548, -21.89541, "Iceland", "IS"},
+        {"Moscow", 55.75222, 37.61556, "Russia", "RU"},
+        {"Cairo", 30.06263, 31.24967, "Egypt", "EG"},
+        {"Dubai", 25.07725, 55.30927, "United Arab Emirates", "AE"},
+        {"Riyadh", 24.68773, 46.72185, "Saudi Arabia", "SA"},
+        {"Singapore", 1.28967, 103.85007, "Singapore", "SG"},
+        {"Bangkok", 13.75398, 100.50144, "Thailand", "TH"},
+        {"Tokyo", 35.6895, 139.69171, "Japan", "JP"},
+        {"Sydney", -33.86785, 151.20732, "Australia", "AU"},
+        {"New York", 40.71427, -74.00597, "United States", "US"},
+        {"Los Angeles", 34.05223, -118.24368, "United States", "US"},
+        {"Toronto", 43.70011, -79.4163, "Canada", "CA"},
+        {"Rio de Janeiro", -22.90642, -43.18223, "Brazil", "BR"},
+        {"Cape Town", -33.92584, 18.42322, "South Africa", "ZA"},
+        {"Mumbai", 19.07283, 72.88261, "India", "IN"},
+    };
+    
+    private static volatile SyntheticWeather defaultInstance;
+    
+    private final long seed;
+    private final long latencyMedianMillis;
+    private final long latencyP99Millis;
+    private final double errorRate;
+    private final int forecastDays;
+    
+    /**
+     * One hour of weather at one place.
+     */
+    public static final class Hour {
+        private final double temperature;    // °C at 2 m
+        private final int humidity;          // percent
+        private final double windSpeedKmh;   // at 10 m
+        private final double precipitation;  // mm over the hour
+        private final int cloudCover;        // percent
+        private final int weatherCode;       // WMO code, as Open-Meteo reports it
+        
+        private Hour(double temperature, int humidity, double windSpeedKmh, double precipitation,
+                     int cloudCover, int weatherCode) {
+            this.temperature = temperature;
+            this.humidity = humidity;
+            this.windSpeedKmh = windSpeedKmh;
+            this.precipitation = precipitation;
+            this.cloudCover = cloudCover;
+            this.weatherCode = weatherCode;
+        }
+        
+        public double getTemperature() {
+            return temperature;
+        }
+        
+        public int getHumidity() {
+            return humidity;
+        }
+        
+        public double getWindSpeedKmh() {
+            return windSpeedKmh;
+        }
+        
+        public double getPrecipitation() {
+            return precipitation;
+        }
+        
+        public int getCloudCover() {
+            return cloudCover;
+        }
+        
+        public int getWeatherCode() {
+            return weatherCode;
+        }
+    }
+    
+    /**
+     * @param seed base of every random stream
+     * @param latencyMedianMillis median simulated latency, 0 for none
+     * @param latencyP99Millis 99th percentile simulated latency
+     * @param errorRate share of requests that should fail, 0 to 1
+     * @param forecastDays days served when a request does not say
+     */
+    public SyntheticWeather(long seed, long latencyMedianMillis, long latencyP99Millis,
+                            double errorRate, int forecastDays) {
+        this.seed = seed;
+        this.latencyMedianMillis = Math.max(0, latencyMedianMillis);
+        this.latencyP99Millis = Math.max(this.latencyMedianMillis, latencyP99Millis);
+        this.errorRate = Math.max(0, Math.min(1, errorRate));
+        this.forecastDays = clampDays(forecastDays);
+    }
+    
+    /**
+     * Get the instance configured by the weatherapp.synthetic.* properties.
+     * @return shared default instance
+     */
+    public static SyntheticWeather getDefault() {
+        SyntheticWeather instance = defaultInstance;
+        if (instance == null) {
+            instance = new SyntheticWeather(
+                Long.getLong("weatherapp.synthetic.seed", DEFAULT_SEED),
+                Long.getLong("weatherapp.synthetic.latencyMedianMillis", DEFAULT_LATENCY_MEDIAN_MILLIS),
+                Long.getLong("weatherapp.synthetic.latencyP99Millis", DEFAULT_LATENCY_P99_MILLIS),
+                Double.parseDouble(System.getProperty("weatherapp.synthetic.errorRate", "0")),
+                Integer.getInteger("weatherapp.synthetic.forecastDays", DEFAULT_FORECAST_DAYS));
+            defaultInstance = instance;
+        }
+        return instance;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    public int getForecastDays() {
+        return forecastDays;
+    }
+    
+    // === LATENCY AND FAILURES ===
+    
+    /**
+     * Draw one latency from the log-normal distribution.
+     * @return latency in milliseconds
+     */
+    public long sampleLatencyMillis() {
+        if (latencyMedianMillis == 0) {
+            return 0;
+        }
+        double sigma = Math.log((double) latencyP99Millis / latencyMedianMillis) / Z_99;
+        return Math.round(latencyMedianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+    
+    /**
+     * Sleep for one sampled latency, like a network round trip would.
+     * @throws InterruptedException if interrupted while sleeping
+     */
+    public void simulateLatency() throws InterruptedException {
+        long millis = sampleLatencyMillis();
+        if (millis > 0) {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        }
+    }
+    
+    /**
+     * Decide whether this request should fail, at the configured error rate.
+     * @return true to fail
+     */
+    public boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+    
+    // === MODEL ===
+    
+    /**
+     * Current UTC hour, for callers building their own series.
+     * @return hours since 1970-01-01T00:00Z
+     */
+    public static long currentEpochHour() {
+        return TimeUnit.SECONDS.toHours(Instant.now().getEpochSecond());
+    }
+    
+    /**
+     * Get the weather for one hour. Pure: the same arguments always give
+     * the same result.
+     * @param latitude degrees north
+     * @param longitude degrees east
+     * @param epochHour hours since 1970-01-01T00:00Z
+     * @return weather for that hour
+     */
+    public Hour hour(double latitude, double longitude, long epochHour) {
+        long cell = cellSeed(latitude, longitude);
+        long localHour = epochHour + utcOffsetHours(longitude);
+        int hourOfDay = (int) Math.floorMod(localHour, 24L);
+        int dayOfYear = LocalDate.ofEpochDay(Math.floorDiv(localHour, 24L)).getDayOfYear();
+        
+        // Climate: warm at the equator, seasons grow with latitude
+        double absLatitude = Math.min(90, Math.abs(latitude));
+        double annualMean = 29 - 0.35 * absLatitude;
+        double seasonPeak = latitude >= 0 ? 200 : 17;
+        double season = 0.14 * absLatitude * Math.cos(2 * Math.PI * (dayOfYear - seasonPeak) / 365.25);
+        
+        double frontal = frontProximity(cell, epochHour);
+        double precipitation = precipitation(cell, epochHour);
+        
+        double cloud = 25 + 60 * frontal + 40 * (unit(cell, SALT_CLOUD, Math.floorDiv(epochHour, CLOUD_SLOT_HOURS)) - 0.5);
+        if (precipitation > 0) {
+            cloud = Math.max(cloud, 85 + Math.min(15, precipitation * 3));
+        }
+        cloud = clamp(cloud, 0, 100);
+        
+        double diurnal = (3 + 3 * (1 - cloud / 100)) * Math.cos(2 * Math.PI * (hourOfDay - 15) / 24.0);
+        // Air masses differ far less in the tropics than at mid-latitudes
+        double airMassScale = 0.3 + 0.7 * Math.min(1, absLatitude / 50);
+        double temperature = annualMean + season + diurnal + airMassScale * airMass(cell, epochHour)
+            - (precipitation > 0 ? 1.5 : 0)
+            + 0.3 * gaussian(cell, SALT_NOISE, epochHour);
+        
+        double humidity = 60 + 28 * frontal + 12 * Math.cos(2 * Math.PI * (hourOfDay - 5) / 24.0)
+            - 0.4 * Math.max(0, temperature - 25);
+        if (precipitation > 0) {
+            humidity = Math.max(humidity, 88 + Math.min(10, precipitation * 2));
+        }
+        
+        double cellWind = 6 * unit(cell, SALT_CELL, 0);
+        double wind = 8 + cellWind + 30 * frontal + 3 * Math.cos(2 * Math.PI * (hourOfDay - 14) / 24.0)
+            + 2 * Math.abs(gaussian(cell, SALT_NOISE + 1, epochHour));
+        
+        return new Hour(round1(temperature), (int) Math.round(clamp(humidity, 15, 100)),
+            round1(Math.max(0, wind)), round1(precipitation), (int) Math.round(cloud),
+            weatherCode(temperature, precipitation, cloud));
+    }
+    
+    /**
+     * Air mass temperature anomaly. Each 72 h block has its own anomaly and
+     * a front somewhere inside it where the previous block's air gives way,
+     * over a few hours.
+     */
+    private double airMass(long cell, long epochHour) {
+        long block = Math.floorDiv(epochHour, FRONT_BLOCK_HOURS);
+        double value = 3.5 * gaussian(cell, SALT_AIR_MASS, block - 3);
+        for (long j = block - 2; j <= block + 2; j++) {
+            double step = 3.5 * (gaussian(cell, SALT_AIR_MASS, j) - gaussian(cell, SALT_AIR_MASS, j - 1));
+            value += step * logistic((epochHour - frontTime(cell, j)) / 3.0);
+        }
+        return value;
+    }
+    
+    /**
+     * How close the nearest front is, weighted by its strength: 1 while one
+     * passes overhead, falling to 0 about a day away.
+     */
+    private double frontProximity(long cell, long epochHour) {
+        long block = Math.floorDiv(epochHour, FRONT_BLOCK_HOURS);
+        double proximity = 0;
+        for (long j = block - 1; j <= block + 1; j++) {
+            double hours = (epochHour - frontTime(cell, j)) / 8.0;
+            double strength = 0.4 + 0.6 * unit(cell, SALT_FRONT_STRENGTH, j);
+            proximity = Math.max(proximity, strength * Math.exp(-hours * hours));
+        }
+        return proximity;
+    }
+    
+    private double frontTime(long cell, long block) {
+        return block * FRONT_BLOCK_HOURS + 12 + 48 * unit(cell, SALT_FRONT_TIME, block);
+    }
+    
+    /**
+     * Precipitation in mm for the hour. Each 6 h slot may start one event
+     * whose chance rises near fronts.
+     */
+    private double precipitation(long cell, long epochHour) {
+        long slot = Math.floorDiv(epochHour, SHOWER_SLOT_HOURS);
+        long slotsBack = (MAX_SHOWER_HOURS + SHOWER_SLOT_HOURS - 1) / SHOWER_SLOT_HOURS;
+        double total = 0;
+        for (long s = slot - slotsBack; s <= slot; s++) {
+            long slotStart = s * SHOWER_SLOT_HOURS;
+            double chance = 0.08 + 0.55 * frontProximity(cell, slotStart + SHOWER_SLOT_HOURS / 2);
+            if (unit(cell, SALT_SHOWER, s * 4) >= chance) {
+                continue;
+            }
+            long start = slotStart + (long) (SHOWER_SLOT_HOURS * unit(cell, SALT_SHOWER, s * 4 + 1));
+            long duration = 1 + (long) (MAX_SHOWER_HOURS * unit(cell, SALT_SHOWER, s * 4 + 2));
+            if (epochHour >= start && epochHour < start + duration) {
+                // Exponential intensity with a mean of about 1.5 mm/h
+                total += 0.1 - 1.5 * Math.log(1 - 0.98 * unit(cell, SALT_SHOWER, s * 4 + 3));
+            }
+        }
+        return total;
+    }
+    
+    private static int weatherCode(double temperature, double precipitation, double cloud) {
+        if (precipitation > 0) {
+            if (temperature <= 0.5) {
+                return precipitation < 1 ? 71 : precipitation < 3 ? 73 : 75;
+            }
+            if (precipitation >= 4 && temperature >= 18) {
+                return 95;
+            }
+            return precipitation < 1 ? 61 : precipitation < 3 ? 63 : 65;
+        }
+        if (cloud < 20) {
+            return 0;
+        }
+        return cloud < 45 ? 1 : cloud < 75 ? 2 : 3;
+    }
+    
+    // === OPEN-METEO JSON ===
+    
+    /**
+     * Build a forecast shaped like Open-Meteo's, starting at local midnight
+     * today with timezone=auto semantics. Supported hourly variables:
+     * temperature_2m, relative_humidity_2m, weather_code, wind_speed_10m,
+     * precipitation, cloud_cover; daily: weather_code, temperature_2m_max,
+     * temperature_2m_min, precipitation_sum.
+     * @param latitude degrees north
+     * @param longitude degrees east
+     * @param hourly comma-separated hourly variables, may be empty
+     * @param daily comma-separated daily variables, may be empty
+     * @param days number of days, 1 to 16
+     * @param windSpeedUnit "kmh", "mph", "ms" or "kn"
+     * @return forecast JSON
+     * @throws IllegalArgumentException for an unknown variable or unit
+     */
+    public JSONObject forecastJson(double latitude, double longitude, String hourly, String daily,
+                                   int days, String windSpeedUnit) {
+        long offsetHours = utcOffsetHours(longitude);
+        LocalDate today = LocalDate.ofEpochDay(Math.floorDiv(currentEpochHour() + offsetHours, 24L));
+        return forecastJson(latitude, longitude, today, hourly, daily, days, windSpeedUnit);
+    }
+    
+    /**
+     * Like {@link #forecastJson(double, double, String, String, int, String)}
+     * but from a given local day, so the whole document is reproducible.
+     * @param latitude degrees north
+     * @param longitude degrees east
+     * @param firstDay first local day of the series
+     * @param hourly comma-separated hourly variables, may be empty
+     * @param daily comma-separated daily variables, may be empty
+     * @param days number of days, 1 to 16
+     * @param windSpeedUnit "kmh", "mph", "ms" or "kn"
+     * @return forecast JSON
+     */
+    @SuppressWarnings("unchecked")
+    public JSONObject forecastJson(double latitude, double longitude, LocalDate firstDay, String hourly,
+                                   String daily, int days, String windSpeedUnit) {
+        double windFactor = windFactor(windSpeedUnit);
+        String[] hourlyVariables = variables(hourly);
+        String[] dailyVariables = variables(daily);
+        days = clampDays(days);
+        
+        long offsetHours = utcOffsetHours(longitude);
+        long firstHour = firstDay.toEpochDay() * 24 - offsetHours;
+        int hours = days * 24;
+        Hour[] series = new Hour[hours];
+        for (int i = 0; i < hours; i++) {
+            series[i] = hour(latitude, longitude, firstHour + i);
+        }
+        
+        JSONObject result = new JSONObject();
+        result.put("latitude", snap(latitude));
+        result.put("longitude", snap(longitude));
+        result.put("generationtime_ms", 0.1);
+        result.put("utc_offset_seconds", offsetHours * 3600);
+        result.put("timezone", timezoneName(offsetHours));
+        result.put("timezone_abbreviation", timezoneName(offsetHours));
+        result.put("elevation", 0.0);
+        
+        if (hourlyVariables.length > 0) {
+            JSONObject units = new JSONObject();
+            JSONObject values = new JSONObject();
+            JSONArray times = new JSONArray();
+            for (int i = 0; i < hours; i++) {
+                times.add(LocalDateTime.ofEpochSecond((firstHour + offsetHours + i) * 3600, 0, ZoneOffset.UTC)
+                    .format(HOUR_FORMAT));
+            }
+            units.put("time", "iso8601");
+            values.put("time", times);
+            for (String variable : hourlyVariables) {
+                JSONArray column = new JSONArray();
+                for (Hour hour : series) {
+                    column.add(hourlyValue(hour, variable, windFactor));
+                }
+                units.put(variable, unit(variable, windSpeedUnit));
+                values.put(variable, column);
+            }
+            result.put("hourly_units", units);
+            result.put("hourly", values);
+        }
+        
+        if (dailyVariables.length > 0) {
+            JSONObject units = new JSONObject();
+            JSONObject values = new JSONObject();
+            JSONArray times = new JSONArray();
+            for (int d = 0; d < days; d++) {
+                times.add(firstDay.plusDays(d).toString());
+            }
+            units.put("time", "iso8601");
+            values.put("time", times);
+            for (String variable : dailyVariables) {
+                JSONArray column = new JSONArray();
+                for (int d = 0; d < days; d++) {
+                    column.add(dailyValue(series, d * 24, variable));
+                }
+                units.put(variable, unit(variable, windSpeedUnit));
+                values.put(variable, column);
+            }
+            result.put("daily_units", units);
+            result.put("daily", values);
+        }
+        return result;
+    }
+    
+    /**
+     * Search places like Open-Meteo's geocoding API. Known demo cities match
+     * by name prefix; any other name becomes one place at coordinates derived
+     * from the name, so every search succeeds.
+     * @param name place name or prefix
+     * @param count maximum number of results
+     * @return geocoding JSON with a "results" array, or without one for a blank name
+     */
+    @SuppressWarnings("unchecked")
+    public JSONObject searchJson(String name, int count) {
+        JSONObject result = new JSONObject();
+        result.put("generationtime_ms", 0.1);
+        String query = name == null ? "" : name.trim().replace('+', ' ');
+        if (query.isEmpty() || count <= 0) {
+            return result;
+        }
+        
+        JSONArray places = new JSONArray();
+        String prefix = query.toLowerCase(Locale.ROOT);
+        for (Object[] place : KNOWN_PLACES) {
+            if (places.size() < count && ((String) place[0]).toLowerCase(Locale.ROOT).startsWith(prefix)) {
+                places.add(place((String) place[0], (double) place[1], (double) place[2], (String) place[3],
+                    (String) place[4]));
+            }
+        }
+        if (places.isEmpty()) {
+            long hash = mix(seed ^ prefix.hashCode());
+            double latitude = round5(-55 + 125 * unitOf(hash));
+            double longitude = round5(-180 + 360 * unitOf(mix(hash)));
+            String displayName = Character.toUpperCase(query.charAt(0)) + query.substring(1);
+            places.add(place(displayName, latitude, longitude, "Synthetia", "XS"));
+        }
+        result.put("results", places);
+        return result;
+    }
+    
+    /**
+     * Get the coordinates {@link #searchJson} would return first for a name.
+     * @param name place name or prefix
+     * @return latitude and longitude
+     */
+    public double[] locate(String name) {
+        JSONObject result = searchJson(name == null || name.isBlank() ? "London" : name, 1);
+        JSONObject place = (JSONObject) ((JSONArray) result.get("results")).get(0);
+        return new double[] {(double) place.get("latitude"), (double) place.get("longitude")};
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static JSONObject place(String name, double latitude, double longitude, String country, String code) {
+        JSONObject place = new JSONObject();
+        place.put("id", (long) Math.abs(name.hashCode()));
+        place.put("name", name);
+        place.put("latitude", latitude);
+        place.put("longitude", longitude);
+        place.put("elevation", 0.0);
+        place.put("country_code", code);
+        place.put("timezone", timezoneName(utcOffsetHours(longitude)));
+        place.put("country", country);
+        return place;
+    }
+    
+    private static Object hourlyValue(Hour hour, String variable, double windFactor) {
+        switch (variable) {
+            case "temperature_2m":
+                return hour.temperature;
+            case "relative_humidity_2m":
+                return (long) hour.humidity;
+            case "weather_code":
+                return (long) hour.weatherCode;
+            case "wind_speed_10m":
+                return round1(hour.windSpeedKmh * windFactor);
+            case "precipitation":
+                return hour.precipitation;
+            case "cloud_cover":
+                return (long) hour.cloudCover;
+            default:
+                throw new IllegalArgumentException("Cannot initialize WeatherVariable from invalid String value " + variable);
+        }
+    }
+    
+    private static Object dailyValue(Hour[] series, int from, String variable) {
+        double max = Double.NEGATIVE_INFINITY;
+        double min = Double.POSITIVE_INFINITY;
+        double precipitation = 0;
+        int worstCode = 0;
+        for (int i = from; i < from + 24; i++) {
+            max = Math.max(max, series[i].temperature);
+            min = Math.min(min, series[i].temperature);
+            precipitation += series[i].precipitation;
+            worstCode = Math.max(worstCode, series[i].weatherCode);
+        }
+        switch (variable) {
+            case "weather_code":
+                return (long) worstCode;
+            case "temperature_2m_max":
+                return max;
+            case "temperature_2m_min":
+                return min;
+            case "precipitation_sum":
+                return round1(precipitation);
+            default:
+                throw new IllegalArgumentException("Cannot initialize WeatherVariable from invalid String value " + variable);
+        }
+    }
+    
+    private static String unit(String variable, String windSpeedUnit) {
+        if (variable.startsWith("temperature")) {
+            return "°C";
+        }
+        if (variable.startsWith("wind_speed")) {
+            return windSpeedUnit == null || "kmh".equals(windSpeedUnit) ? "km/h" : windSpeedUnit;
+        }
+        if (variable.startsWith("precipitation")) {
+            return "mm";
+        }
+        return variable.equals("weather_code") ? "wmo code" : "%";
+    }
+    
+    private static double windFactor(String unit) {
+        if (unit == null || unit.isEmpty() || "kmh".equals(unit)) {
+            return 1;
+        }
+        switch (unit) {
+            case "mph":
+                return 0.621371;
+            case "ms":
+                return 1 / 3.6;
+            case "kn":
+                return 0.539957;
+            default:
+                throw new IllegalArgumentException("Invalid wind speed unit " + unit);
+        }
+    }
+    
+    private static String[] variables(String list) {
+        return list == null || list.isBlank() ? new String[0] : list.trim().split("\\s*,\\s*");
+    }
+    
+    // === HELPERS ===
+    
+    private static int clampDays(int days) {
+        return Math.max(1, Math.min(MAX_FORECAST_DAYS, days));
+    }
+    
+    /**
+     * Whole-hour offset from longitude, standing in for a real time zone.
+     */
+    private static long utcOffsetHours(double longitude) {
+        return Math.round(clamp(longitude, -180, 180) / 15);
+    }
+    
+    private static String timezoneName(long offsetHours) {
+        return offsetHours == 0 ? "GMT" : String.format(Locale.ROOT, "GMT%+d", offsetHours);
+    }
+    
+    private long cellSeed(double latitude, double longitude) {
+        long latitudeCell = Math.round(latitude / CELL_DEGREES);
+        long longitudeCell = Math.round(longitude / CELL_DEGREES);
+        return mix(seed ^ mix(latitudeCell * 0x9E3779B97F4A7C15L + longitudeCell));
+    }
+    
+    private static double snap(double degrees) {
+        return Math.round(degrees / CELL_DEGREES) / (1 / CELL_DEGREES);
+    }
+    
+    /** Uniform in [0, 1) for one (stream, index) pair. */
+    private static double unit(long cell, long salt, long index) {
+        return unitOf(mix(cell ^ mix(salt * 0xD1B54A32D192ED03L + index)));
+    }
+    
+    /** Standard normal for one (stream, index) pair. */
+    private static double gaussian(long cell, long salt, long index) {
+        double u1 = Math.max(1e-12, unit(cell, salt, index * 2));
+        double u2 = unit(cell, salt, index * 2 + 1);
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+    
+    private static double unitOf(long bits) {
+        return (bits >>> 11) * 0x1.0p-53;
+    }
+    
+    /** SplitMix64 finaliser. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    private static double logistic(double x) {
+        return 1 / (1 + Math.exp(-x));
+    }
+    
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+    
+    private static double round1(double value) {
+        double rounded = Math.round(value * 10) / 10.0;
+        return rounded == 0 ? 0.0 : rounded;
+    }
+    
+    private static double round5(double value) {
+        return Math.round(value * 100000) / 100000.0;
+    }
+}
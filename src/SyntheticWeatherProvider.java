@@ -0,0 +1,72 @@
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
+
+import java.util.Set;
+
+/**
+ * Mock forecasts from {@link SyntheticWeather}, with its simulated latency
+ * and error rate but without HTTP. The generated document goes through
+ * the same {@link WeatherApp#parseForecast(String)} as a real response, so
+ * the whole UI path can be exercised offline.
+ */
+public final class SyntheticWeatherProvider implements WeatherProvider {
+    
+    public static final String NAME = "synthetic";
+    
+    private static final Set<Capability> CAPABILITIES =
+        WeatherProvider.capabilities(Capability.DETERMINISTIC, Capability.DAILY_FORECAST);
+    private static final LatencyHistogram FETCH_TIME = WeatherMetrics.histogram(WeatherMetrics.WEATHER_FETCH);
+    
+    private final SyntheticWeather weather;
+    
+    /**
+     * Create a provider over the generator configured by -Dweatherapp.synthetic.*.
+     */
+    public SyntheticWeatherProvider() {
+        this(SyntheticWeather.getDefault());
+    }
+    
+    /**
+     * Create a provider over a given generator.
+     * @param weather generator to serve
+     */
+    public SyntheticWeatherProvider(SyntheticWeather weather) {
+        this.weather = weather;
+    }
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public Set<Capability> getCapabilities() {
+        return CAPABILITIES;
+    }
+    
+    @Override
+    public JSONObject load(String cityName) {
+        // Latency and generation stand in for the HTTP round trip
+        long fetchStart = System.nanoTime();
+        try {
+            weather.simulateLatency();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted loading " + cityName, e);
+        }
+        if (weather.shouldFail()) {
+            throw new IllegalStateException("Synthetic failure loading " + cityName);
+        }
+        
+        double[] coordinates = weather.locate(cityName);
+        String forecast = weather.forecastJson(coordinates[0], coordinates[1], WeatherApp.HOURLY_VARIABLES,
+            WeatherApp.DAILY_VARIABLES, WeatherApp.FORECAST_DAYS, "mph").toJSONString();
+        FETCH_TIME.recordSince(fetchStart);
+        
+        try {
+            return WeatherApp.parseForecast(forecast);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Synthetic forecast for " + cityName + " did not parse", e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the Open-Meteo forecast and geocoding APIs, serving
+ * {@link SyntheticWeather} data for offline load tests.
+ *
+ *   /v1/forecast  latitude, longitude, hourly, daily, forecast_days, wind_speed_unit
+ *   /v1/search    name, count
+ *
+ * Each request waits for a latency drawn from the generator's distribution
+ * and fails with 503 at its error rate. Requests are served on a pool of
+ * daemon threads (-Dweatherapp.synthetic.threads, default 32) so the
+ * simulated latency overlaps the way real round trips do.
+ *
+ * Run standalone with
+ *   java -cp out:lib/json-simple-1.1.1.jar SyntheticWeatherServer [port]
+ * and point the app at it with the two properties it prints, or start it
+ * in-process from a benchmark with {@link #start(String, int, SyntheticWeather)}.
+ */
+public final class SyntheticWeatherServer {
+    
+    private static final int DEFAULT_PORT = 8089;
+    private static final int DEFAULT_THREADS = 32;
+    private static final String CONTENT_TYPE_JSON = "application/json; charset=utf-8";
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    
+    private SyntheticWeatherServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+    
+    /**
+     * Bind and start a stub server.
+     * @param host address to bind, e.g. 127.0.0.1
+     * @param port port to bind, 0 for any free port
+     * @param weather generator to serve
+     * @return running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static SyntheticWeatherServer start(String host, int port, SyntheticWeather weather) throws IOException {
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(host, port), 0);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, Integer.getInteger("weatherapp.synthetic.threads", DEFAULT_THREADS)), runnable -> {
+                Thread thread = new Thread(runnable, "synthetic-weather-http-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        httpServer.createContext("/v1/forecast", exchange -> handleForecast(exchange, weather));
+        httpServer.createContext("/v1/search", exchange -> handleSearch(exchange, weather));
+        httpServer.setExecutor(executor);
+        
+        // The dispatcher thread inherits daemon status from the thread that starts it
+        Thread starter = new Thread(httpServer::start, "synthetic-weather-http-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        WeatherAppLogger.event(WeatherAppLogger.Level.INFO, "synthetic.server.started",
+            "host", host, "port", httpServer.getAddress().getPort(), "seed", weather.getSeed());
+        return new SyntheticWeatherServer(httpServer, executor);
+    }
+    
+    /**
+     * Stop serving and release the port.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Get the bound port, useful when started with port 0.
+     * @return port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    /**
+     * @return URL to use as -Dweatherapp.api.forecastUrl
+     */
+    public String getForecastUrl() {
+        return baseUrl() + "/v1/forecast";
+    }
+    
+    /**
+     * @return URL to use as -Dweatherapp.api.geocodingUrl
+     */
+    public String getGeocodingUrl() {
+        return baseUrl() + "/v1/search";
+    }
+    
+    private String baseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+    
+    private static void handleForecast(HttpExchange exchange, SyntheticWeather weather) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        if (!delayOrFail(exchange, weather)) {
+            return;
+        }
+        try {
+            double latitude = Double.parseDouble(required(query, "latitude"));
+            double longitude = Double.parseDouble(required(query, "longitude"));
+            int days = Integer.parseInt(query.getOrDefault("forecast_days", String.valueOf(weather.getForecastDays())));
+            if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+                throw new IllegalArgumentException("Latitude must be in range of -90 to 90°. Longitude must be in range of -180 to 180°.");
+            }
+            if (days < 1 || days > SyntheticWeather.MAX_FORECAST_DAYS) {
+                throw new IllegalArgumentException("Forecast days is invalid. Allowed range 1 to " + SyntheticWeather.MAX_FORECAST_DAYS + ".");
+            }
+            JSONObject forecast = weather.forecastJson(latitude, longitude, query.get("hourly"), query.get("daily"),
+                days, query.get("wind_speed_unit"));
+            send(exchange, 200, forecast.toJSONString());
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        }
+    }
+    
+    private static void handleSearch(HttpExchange exchange, SyntheticWeather weather) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        if (!delayOrFail(exchange, weather)) {
+            return;
+        }
+        try {
+            int count = Integer.parseInt(query.getOrDefault("count", "10"));
+            send(exchange, 200, weather.searchJson(query.get("name"), count).toJSONString());
+        } catch (NumberFormatException e) {
+            sendError(exchange, 400, e.getMessage());
+        }
+    }
+    
+    /**
+     * Apply the simulated latency and error rate.
+     * @return true if the request should be answered normally
+     */
+    private static boolean delayOrFail(HttpExchange exchange, SyntheticWeather weather) throws IOException {
+        try {
+            weather.simulateLatency();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+            return false;
+        }
+        if (weather.shouldFail()) {
+            sendError(exchange, 503, "Synthetic failure");
+            return false;
+        }
+        return true;
+    }
+    
+    private static String required(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Parameter '" + name + "' is missing");
+        }
+        return value;
+    }
+    
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static void sendError(HttpExchange exchange, int code, String reason) throws IOException {
+        // Same shape as Open-Meteo's error responses
+        JSONObject error = new JSONObject();
+        error.put("error", true);
+        error.put("reason", reason);
+        send(exchange, code, error.toJSONString());
+    }
+    
+    private static void send(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE_JSON);
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Integer.getInteger("weatherapp.synthetic.port", DEFAULT_PORT);
+        String host = System.getProperty("weatherapp.synthetic.host", "127.0.0.1");
+        SyntheticWeatherServer server = start(host, port, SyntheticWeather.getDefault());
+        
+        System.out.println("Synthetic Open-Meteo serving on " + server.baseUrl());
+        System.out.println("Start the app with:");
+        System.out.println("  -Dweatherapp.api.forecastUrl=" + server.getForecastUrl()
+            + " -Dweatherapp.api.geocodingUrl=" + server.getGeocodingUrl());
+        
+        // The server threads are daemons; keep the JVM alive until killed
+        new CountDownLatch(1).await();
+    }
+}
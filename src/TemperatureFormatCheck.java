@@ -0,0 +1,45 @@
+/**
+ * Checks {@link WeatherAppGui#formatDegrees}, which the current temperature
+ * and the hourly strip share. Negative halves must round away from zero as
+ * the old "%.0f" format did, and nothing may print as "-0°". Exits with
+ * status 1 on the first mismatch.
+ *
+ * Usage from the repo root, with compiled classes on the classpath:
+ *   java -cp out:lib/json-simple-1.1.1.jar TemperatureFormatCheck
+ */
+public final class TemperatureFormatCheck {
+    
+    private static final double[] VALUES = {
+        21.4, 21.5, 0.4, 0.0, -0.0, -0.4, -0.5, -1.5, -2.5, -2.6, -17.49, -40.0
+    };
+    private static final String[] EXPECTED = {
+        "21°", "22°", "0°", "0°", "0°", "0°", "-1°", "-2°", "-3°", "-3°", "-17°", "-40°"
+    };
+    
+    // Prevent instantiation
+    private TemperatureFormatCheck() {}
+    
+    public static void main(String[] args) {
+        boolean failed = false;
+        for (int i = 0; i < VALUES.length; i++) {
+            String actual = WeatherAppGui.formatDegrees(VALUES[i]);
+            if (!EXPECTED[i].equals(actual)) {
+                System.out.println(VALUES[i] + " -> " + actual + ", expected " + EXPECTED[i]);
+                failed = true;
+            }
+        }
+        
+        // Fahrenheit values of freezing weather go through the same rounding
+        String belowZeroFahrenheit = WeatherAppGui.formatDegrees((-18.0 * 9 / 5) + 32);
+        if (!"0°".equals(belowZeroFahrenheit)) {
+            System.out.println("-18°C in Fahrenheit -> " + belowZeroFahrenheit + ", expected 0°");
+            failed = true;
+        }
+        
+        if (failed) {
+            System.out.println("FAILED");
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+}
@@ -1,6 +1,7 @@
 import org.json.simple.JSONObject;
 import org.json.simple.JSONArray;
 import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
@@ -9,11 +10,32 @@ import java.time.format.DateTimeFormatter;
 import java.util.Scanner;
 import java.time.LocalDateTime;
 import java.time.DateTimeException;
+import java.util.concurrent.atomic.LongAdder;
 
 // retrieve weather data from API - this backend logical will fetch the latest weather
 // data from the external API and return it.
 // the GUI will display this data to the user
 public class WeatherApp {
+    private static final LatencyHistogram WEATHER_FETCH_TIME = WeatherMetrics.histogram(WeatherMetrics.WEATHER_FETCH);
+    private static final LatencyHistogram WEATHER_PARSE_TIME = WeatherMetrics.histogram(WeatherMetrics.WEATHER_PARSE);
+    private static final LongAdder WEATHER_ERRORS = WeatherMetrics.counter(WeatherMetrics.WEATHER_ERRORS);
+    private static final LatencyHistogram LOCATION_FETCH_TIME = WeatherMetrics.histogram(WeatherMetrics.LOCATION_FETCH);
+    private static final LatencyHistogram LOCATION_PARSE_TIME = WeatherMetrics.histogram(WeatherMetrics.LOCATION_PARSE);
+    private static final LongAdder LOCATION_ERRORS = WeatherMetrics.counter(WeatherMetrics.LOCATION_ERRORS);
+
+    // Open-Meteo endpoints; point them at a SyntheticWeatherServer for offline load tests
+    private static final String FORECAST_URL =
+            System.getProperty("weatherapp.api.forecastUrl", "https://api.open-meteo.com/v1/forecast");
+    private static final String GEOCODING_URL =
+            System.getProperty("weatherapp.api.geocodingUrl", "https://geocoding-api.open-meteo.com/v1/search");
+
+    // variables requested from the forecast API, shared with the offline providers
+    static final String HOURLY_VARIABLES = "temperature_2m,relative_humidity_2m,weather_code,wind_speed_10m";
+    static final String DAILY_VARIABLES = "weather_code,temperature_2m_max,temperature_2m_min";
+    static final int FORECAST_DAYS = 7;
+    // hours listed under "hourly_forecast", starting with the current one
+    static final int HOURLY_FORECAST_HOURS = 4;
+
     // fetch weather data for given location
     public static JSONObject getWeatherData(String locationName){
         // get location coordinates using the geolocation API
@@ -24,15 +46,36 @@ public class WeatherApp {
         double latitude = (double) location.get("latitude");
         double longitude = (double) location.get("longitude");
 
+        // call API and get the raw response
+        String resultJson = getForecastJson(latitude, longitude);
+        if(resultJson == null) {
+            return null;
+        }
+
+        try{
+            // parse through our data
+            return parseForecast(resultJson);
+
+        }catch(Exception e){
+                WEATHER_ERRORS.increment();
+                e.printStackTrace();
+
+        }
+        return null;
+    }
+
+    // fetch the raw forecast response for given coordinates, null if the call failed
+    public static String getForecastJson(double latitude, double longitude){
         // build API request URL with location coordinates
-        String urlString = "https://api.open-meteo.com/v1/forecast?" +
+        String urlString = FORECAST_URL + "?" +
                 "latitude=" + latitude + "&longitude=" + longitude +
-                "&hourly=temperature_2m,relative_humidity_2m,weather_code,wind_speed_10m" +
-                "&daily=weather_code,temperature_2m_max,temperature_2m_min" +
-                "&wind_speed_unit=mph&timezone=auto&forecast_days=7";
+                "&hourly=" + HOURLY_VARIABLES +
+                "&daily=" + DAILY_VARIABLES +
+                "&wind_speed_unit=mph&timezone=auto&forecast_days=" + FORECAST_DAYS;
 
         try{
             // call API and get response
+            long fetchStart = System.nanoTime();
             HttpURLConnection conn = fetchApiResponse(urlString);
 
             // check for response status
@@ -40,6 +83,7 @@ public class WeatherApp {
             assert conn != null;
             if(conn.getResponseCode() != 200) {
                 System.out.println("Error: Could not connect to API");
+                WEATHER_ERRORS.increment();
                 return null;
             }
 
@@ -56,73 +100,99 @@ public class WeatherApp {
 
             // close url connection
             conn.disconnect();
-
-            // parse through our data
-            JSONParser parser = new JSONParser();
-            JSONObject resultJsonObj = (JSONObject) parser.parse(String.valueOf(resultJson));
-
-            //retrieve hourly data
-            JSONObject hourly = (JSONObject) resultJsonObj.get("hourly");
-
-            // need to get index of our current hour
-            JSONArray time = (JSONArray) hourly.get("time");
-            int index = findIndexOfCurrentTime(time);
-
-            // get temperature
-            JSONArray temperatureData = (JSONArray) hourly.get("temperature_2m");
-            double temperature = (double) temperatureData.get(index);
-
-            //get weather code
-            JSONArray weathercodeData = (JSONArray) hourly.get("weather_code");
-            String weatherCondition = convertWeatherCode((long) weathercodeData.get(index));
-
-            // get humidity
-            JSONArray relativeHumidity = (JSONArray) hourly.get("relative_humidity_2m");
-            long humidity = (long) relativeHumidity.get(index);
-
-            // get windspeed
-            JSONArray windspeedData = (JSONArray) hourly.get("wind_speed_10m");
-            double windspeed = (double) windspeedData.get(index);
-
-            // build the weather json data object that we are going to access in our frontend
-            JSONObject weatherData = new JSONObject();
-            weatherData.put("temperature", temperature);
-            weatherData.put("weather_condition", weatherCondition);
-            weatherData.put("humidity", humidity);
-            weatherData.put("windspeed", windspeed);
-
-            // Add forecast data
-            JSONObject daily = (JSONObject) resultJsonObj.get("daily");
-            if (daily != null) {
-                weatherData.put("forecast", daily);
-            }
-
-            return weatherData;
+            WEATHER_FETCH_TIME.recordSince(fetchStart);
+            return resultJson.toString();
 
         }catch(Exception e){
+                WEATHER_ERRORS.increment();
                 e.printStackTrace();
 
         }
         return null;
     }
 
+    // turn a raw forecast response into the weather json data our frontend reads:
+    // temperature, weather_condition (and its weather_code), humidity, windspeed,
+    // the next few hours and the daily forecast
+    public static JSONObject parseForecast(String forecastJson) throws ParseException{
+        long parseStart = System.nanoTime();
+        JSONParser parser = new JSONParser();
+        JSONObject resultJsonObj = (JSONObject) parser.parse(forecastJson);
+
+        //retrieve hourly data
+        JSONObject hourly = (JSONObject) resultJsonObj.get("hourly");
+
+        // need to get index of our current hour
+        JSONArray time = (JSONArray) hourly.get("time");
+        int index = findIndexOfCurrentTime(time);
+
+        // get temperature
+        JSONArray temperatureData = (JSONArray) hourly.get("temperature_2m");
+        double temperature = (double) temperatureData.get(index);
+
+        //get weather code
+        JSONArray weathercodeData = (JSONArray) hourly.get("weather_code");
+        long weatherCode = (long) weathercodeData.get(index);
+        String weatherCondition = convertWeatherCode(weatherCode);
+
+        // get humidity
+        JSONArray relativeHumidity = (JSONArray) hourly.get("relative_humidity_2m");
+        long humidity = (long) relativeHumidity.get(index);
+
+        // get windspeed
+        JSONArray windspeedData = (JSONArray) hourly.get("wind_speed_10m");
+        double windspeed = (double) windspeedData.get(index);
+
+        // build the weather json data object that we are going to access in our frontend
+        JSONObject weatherData = new JSONObject();
+        weatherData.put("temperature", temperature);
+        weatherData.put("weather_condition", weatherCondition);
+        weatherData.put("weather_code", weatherCode);
+        weatherData.put("humidity", humidity);
+        weatherData.put("windspeed", windspeed);
+
+        // the next few hours for the hourly strip
+        JSONArray hourlyTimes = new JSONArray();
+        JSONArray hourlyTemperatures = new JSONArray();
+        for(int i = index; i < Math.min(index + HOURLY_FORECAST_HOURS, time.size()); i++){
+            hourlyTimes.add(time.get(i));
+            hourlyTemperatures.add(temperatureData.get(i));
+        }
+        JSONObject hourlyForecast = new JSONObject();
+        hourlyForecast.put("time", hourlyTimes);
+        hourlyForecast.put("temperature_2m", hourlyTemperatures);
+        weatherData.put("hourly_forecast", hourlyForecast);
+
+        // Add forecast data
+        JSONObject daily = (JSONObject) resultJsonObj.get("daily");
+        if (daily != null) {
+            weatherData.put("forecast", daily);
+        }
+
+        WEATHER_PARSE_TIME.recordSince(parseStart);
+        WeatherMetrics.recordForecastLoaded();
+        return weatherData;
+    }
+
     //retrieves geographic coordinates for given location name
     public static JSONArray getLocationData(String locationName){
         // replace any whitespace in location name to + to adhere to API's request format
         locationName = locationName.replaceAll(" ", "+");
 
         //build API url with location parameter
-        String urlString = "https://geocoding-api.open-meteo.com/v1/search?name=" +
+        String urlString = GEOCODING_URL + "?name=" +
                 locationName + "&count=10&language=en&format=json";
 
         try {
             // call api and get a response
+            long fetchStart = System.nanoTime();
             HttpURLConnection conn = fetchApiResponse(urlString);
 
             // check response status
             // 200 means successful
             if(conn.getResponseCode() != 200) {
                 System.out.print("Error: could not connect to API");
+                LOCATION_ERRORS.increment();
                 return null;
             }else{
                 //store the API results
@@ -139,18 +209,22 @@ public class WeatherApp {
 
                 //close url connection
                 conn.disconnect();
+                LOCATION_FETCH_TIME.recordSince(fetchStart);
 
                 // parse the JSON string into a JSON obj
+                long parseStart = System.nanoTime();
                 JSONParser parser = new JSONParser();
                 JSONObject resultsJsonObj = (JSONObject) parser.parse(String.valueOf(resultJson));
 
                 //get the list of location data the API generated from the location name
                 JSONArray locationData = (JSONArray) resultsJsonObj.get("results");
+                LOCATION_PARSE_TIME.recordSince(parseStart);
                 return locationData;
 
             }
 
         }catch(Exception e){
+            LOCATION_ERRORS.increment();
             e.printStackTrace();
         }
 
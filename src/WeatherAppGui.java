@@ -1,7 +1,6 @@
 import org.json.simple.JSONObject;
 import org.json.simple.JSONArray;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
@@ -10,14 +9,14 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
 
 public class WeatherAppGui extends JFrame {
 
     private JSONObject weatherData;
+
+    // search whose result is still wanted; a newer search replaces it (EDT only)
+    private CompletableFuture<JSONObject> pendingSearch;
     private boolean isCelsius = true;
     private JLabel temperatureText;
     private JLabel weatherConditionDesc;
@@ -31,7 +30,12 @@ public class WeatherAppGui extends JFrame {
     private JPanel cardPanel;
     private JLabel currentTimeLabel;
     private JLabel currentDateLabel;
-    private JPanel hourlyForecastPanel;
+    private HourlyForecastStrip hourlyForecastStrip;
+    private GradientBackgroundPanel backgroundPanel;
+
+    private static final String[] HOURLY_TIMES = {"Now", "+3h", "+6h", "+9h"};
+    private static final String[] EMPTY_HOURLY_TIMES = {"--", "--", "--", "--"};
+    private static final String[] EMPTY_HOURLY_TEMPS = {"--°", "--°", "--°", "--°"};
 
     public WeatherAppGui(){
         // setup gui and add title
@@ -53,14 +57,15 @@ public class WeatherAppGui extends JFrame {
         setResizable(false);
 
         // Set default background (will change based on weather)
+        backgroundPanel = new GradientBackgroundPanel("partlyCloudy", null);
+        setContentPane(backgroundPanel);
         setCurrentWeatherBackground("partlyCloudy");
 
         addGuiComponents();
-        updateDateTime();
+        updateDateTime(ClockService.current());
         
-        // Update date/time every minute
-        Timer timer = new Timer(60000, e -> updateDateTime());
-        timer.start();
+        // Follow the shared minute clock; the labels repaint only themselves
+        ClockService.subscribe(SwingUtilities::invokeLater, this::updateDateTime);
     }
 
     private void addGuiComponents(){
@@ -219,71 +224,22 @@ public class WeatherAppGui extends JFrame {
     }
 
     private void createHourlyForecastPanel() {
-        hourlyForecastPanel = new JPanel();
-        hourlyForecastPanel.setLayout(new GridLayout(1, 4, 16, 0));
-        hourlyForecastPanel.setBounds(20, 24 + 8 + 4 + 32 + 4 + 20 + 32 + 80 + 24 + 70 + 16 + 25 + 20, 240, 60);
-        hourlyForecastPanel.setOpaque(false);
-        cardPanel.add(hourlyForecastPanel);
+        // Slots are built once and updated in place
+        hourlyForecastStrip = new HourlyForecastStrip();
+        hourlyForecastStrip.setBounds(20, 24 + 8 + 4 + 32 + 4 + 20 + 32 + 80 + 24 + 70 + 16 + 25 + 20, 240, 60);
+        cardPanel.add(hourlyForecastStrip);
         
         // Initialize with empty hourly forecast
         updateHourlyForecast(null);
     }
 
     private void setCurrentWeatherBackground(String weatherCondition) {
-        Color[] gradientColors = getGradientColors(weatherCondition);
-        
-        // Create a custom panel for gradient background
-        JPanel backgroundPanel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                GradientPaint gradient = new GradientPaint(
-                    0, 0, gradientColors[0],
-                    getWidth(), getHeight(), gradientColors[1]
-                );
-                g2d.setPaint(gradient);
-                g2d.fillRect(0, 0, getWidth(), getHeight());
-                g2d.dispose();
-            }
-        };
-        
-        setContentPane(backgroundPanel);
-        backgroundPanel.setLayout(null);
+        // Swap the cached gradient in place; the component tree stays as it is
+        BackgroundThemeCache.Theme theme = BackgroundThemeCache.getTheme(weatherCondition);
+        backgroundPanel.setTheme(weatherCondition);
         
         // Update text colors based on weather condition
-        Color textColor = getTextColor(weatherCondition);
-        updateTextColors(textColor);
-    }
-
-    private Color[] getGradientColors(String weatherCondition) {
-        switch(weatherCondition) {
-            case "sunny":
-            case "Clear":
-                return new Color[]{new Color(255, 183, 94), new Color(237, 143, 3)};
-            case "thunderstorm":
-                return new Color[]{new Color(44, 83, 100), new Color(32, 58, 67)};
-            case "rainy":
-            case "Rain":
-                return new Color[]{new Color(83, 105, 118), new Color(41, 46, 73)};
-            case "cloudy":
-            case "Cloudy":
-                return new Color[]{new Color(189, 195, 199), new Color(139, 157, 195)};
-            case "snowy":
-            case "Snow":
-                return new Color[]{new Color(230, 222, 221), new Color(197, 202, 233)};
-            case "partlyCloudy":
-            default:
-                return new Color[]{new Color(78, 205, 196), new Color(68, 160, 141)};
-        }
-    }
-
-    private Color getTextColor(String weatherCondition) {
-        if ("snowy".equals(weatherCondition) || "Snow".equals(weatherCondition)) {
-            return new Color(44, 62, 80); // Dark text for snowy
-        }
-        return Color.WHITE; // White text for all others
+        updateTextColors(theme.getTextColor());
     }
 
     private void updateTextColors(Color textColor) {
@@ -317,14 +273,36 @@ public class WeatherAppGui extends JFrame {
             return;
         }
 
+        // Show loading state
+        temperatureText.setText("Loading...");
+        locationText.setText("Fetching data...");
+
+        // Retrieve weather data off the EDT; a newer search supersedes this one
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+        }
+        CompletableFuture<JSONObject> search = WeatherFetchEngine.fetch(cityName);
+        pendingSearch = search;
+        search.whenComplete((data, error) -> SwingUtilities.invokeLater(() -> {
+            if (search != pendingSearch) {
+                return;
+            }
+            pendingSearch = null;
+            if (error != null) {
+                JOptionPane.showMessageDialog(this, "An error occurred while fetching weather data. Please try again.", "Error", JOptionPane.ERROR_MESSAGE);
+                temperatureText.setText("--°");
+                locationText.setText("Enter a city");
+                WeatherAppLogger.error("Could not load weather for {}", cityName, WeatherExecutors.unwrap(error));
+                return;
+            }
+            showWeather(userInput, cityName, data);
+        }));
+    }
+
+    private void showWeather(String userInput, String cityName, JSONObject data) {
         try {
-            // Show loading state
-            temperatureText.setText("Loading...");
-            locationText.setText("Fetching data...");
-            
-            // Retrieve weather data using the city name
-            weatherData = WeatherApp.getWeatherData(cityName);
-            
+            weatherData = data;
+
             if (weatherData == null) {
                 JOptionPane.showMessageDialog(this, "Could not find weather data for '" + cityName + "'. Please check the city name and try again.", "Location Not Found", JOptionPane.ERROR_MESSAGE);
                 temperatureText.setText("--°");
@@ -340,9 +318,6 @@ public class WeatherAppGui extends JFrame {
             
             // Update background based on weather condition
             setCurrentWeatherBackground(weatherCondition);
-            
-            // Re-add components to new content pane
-            getContentPane().add(cardPanel);
 
             // Update weather icon
             updateWeatherIcon(weatherCondition);
@@ -373,147 +348,83 @@ public class WeatherAppGui extends JFrame {
     }
 
     private void updateWeatherIcon(String weatherCondition) {
-        ImageIcon icon = null;
+        BufferedImage image = null;
         switch(weatherCondition) {
             case "Clear":
-                icon = loadImage("src/assets/clear.png");
+                image = AssetManager.getImage("clear.png");
                 break;
             case "Cloudy":
-                icon = loadImage("src/assets/cloudy.png");
+                image = AssetManager.getImage("cloudy.png");
                 break;
             case "Rain":
-                icon = loadImage("src/assets/rain.png");
+                image = AssetManager.getImage("rain.png");
                 break;
             case "Snow":
-                icon = loadImage("src/assets/snow.png");
+                image = AssetManager.getImage("snow.png");
                 break;
             default:
-                icon = loadImage("src/assets/cloudy.png");
+                image = AssetManager.getImage("cloudy.png");
                 break;
         }
         
-        if (icon != null) {
-            Image img = icon.getImage().getScaledInstance(80, 80, Image.SCALE_SMOOTH);
-            weatherConditionImage.setIcon(new ImageIcon(img));
+        if (image != null) {
+            weatherConditionImage.setIcon(new ImageIcon(ImageScaler.scale(image, 80, 80)));
         }
     }
 
     private void updateHourlyForecast(JSONObject currentWeatherData) {
-        hourlyForecastPanel.removeAll();
-        
         if (currentWeatherData == null) {
             // Show empty hourly cards
-            for (int i = 0; i < 4; i++) {
-                JPanel hourCard = createHourlyCard("--", "--°", "cloudy.png");
-                hourlyForecastPanel.add(hourCard);
-            }
-        } else {
-            try {
-                // Simulate hourly data based on current weather
-                double currentTemp = (double) currentWeatherData.get("temperature");
-                String condition = (String) currentWeatherData.get("weather_condition");
-                
-                String[] times = {"Now", "+3h", "+6h", "+9h"};
-                double[] temps = {currentTemp, currentTemp + 2, currentTemp - 1, currentTemp - 3};
-                
-                for (int i = 0; i < 4; i++) {
-                    String displayTemp;
-                    if (isCelsius) {
-                        displayTemp = String.format("%.0f°", temps[i]);
-                    } else {
-                        double fahrenheit = (temps[i] * 9/5) + 32;
-                        displayTemp = String.format("%.0f°", fahrenheit);
-                    }
-                    
-                    JPanel hourCard = createHourlyCard(times[i], displayTemp, getIconFileName(condition));
-                    hourlyForecastPanel.add(hourCard);
-                }
-            } catch (Exception e) {
-                // Show empty cards on error
-                for (int i = 0; i < 4; i++) {
-                    JPanel hourCard = createHourlyCard("--", "--°", "cloudy.png");
-                    hourlyForecastPanel.add(hourCard);
-                }
+            hourlyForecastStrip.update(EMPTY_HOURLY_TIMES, EMPTY_HOURLY_TEMPS, AssetManager.getImage("cloudy.png"));
+            return;
+        }
+
+        try {
+            // Simulate hourly data based on current weather
+            double currentTemp = (double) currentWeatherData.get("temperature");
+            String condition = (String) currentWeatherData.get("weather_condition");
+
+            double[] temps = {currentTemp, currentTemp + 2, currentTemp - 1, currentTemp - 3};
+            String[] displayTemps = new String[temps.length];
+            for (int i = 0; i < temps.length; i++) {
+                displayTemps[i] = formatTemperature(temps[i]);
             }
+
+            // Unchanged times and icons are no-ops, so a unit toggle only touches the temperatures
+            hourlyForecastStrip.update(HOURLY_TIMES, displayTemps, AssetManager.getImage(getIconFileName(condition)));
+        } catch (Exception e) {
+            // Show empty cards on error
+            hourlyForecastStrip.update(EMPTY_HOURLY_TIMES, EMPTY_HOURLY_TEMPS, AssetManager.getImage("cloudy.png"));
         }
-        
-        hourlyForecastPanel.revalidate();
-        hourlyForecastPanel.repaint();
     }
 
-    private JPanel createHourlyCard(String time, String temp, String iconFileName) {
-        JPanel card = new JPanel();
-        card.setLayout(null);
-        card.setOpaque(false);
-        
-        // Time label (small, opacity 0.7)
-        JLabel timeLabel = new JLabel(time);
-        timeLabel.setBounds(0, 0, 50, 15);
-        timeLabel.setFont(new Font("Helvetica Neue", Font.PLAIN, 12));
-        timeLabel.setForeground(new Color(255, 255, 255, 179)); // 0.7 opacity
-        timeLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        card.add(timeLabel);
-        
-        // Weather icon (small)
-        ImageIcon icon = loadImage("src/assets/" + iconFileName);
-        if (icon != null) {
-            Image img = icon.getImage().getScaledInstance(20, 20, Image.SCALE_SMOOTH);
-            icon = new ImageIcon(img);
-        }
-        JLabel iconLabel = new JLabel(icon);
-        iconLabel.setBounds(15, 20, 20, 20);
-        card.add(iconLabel);
-        
-        // Temperature
-        JLabel tempLabel = new JLabel(temp);
-        tempLabel.setBounds(0, 45, 50, 15);
-        tempLabel.setFont(new Font("Helvetica Neue", Font.PLAIN, 14));
-        tempLabel.setForeground(Color.WHITE);
-        tempLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        card.add(tempLabel);
-        
-        return card;
+    private String formatTemperature(double celsius) {
+        return formatDegrees(isCelsius ? celsius : (celsius * 9/5) + 32);
+    }
+
+    /**
+     * Formats a temperature as whole degrees, such as "-3°". Halves round away
+     * from zero like the "%.0f" format this replaced, so -2.5 shows as "-3°",
+     * and values that round to zero show as "0°", never "-0°".
+     * @param value temperature in the display unit
+     * @return the rounded temperature with a degree sign
+     */
+    static String formatDegrees(double value) {
+        long rounded = value < 0 ? -Math.round(-value) : Math.round(value);
+        return rounded + "°";
     }
 
     private void updateTemperatureDisplay() {
         if (weatherData != null) {
             double temperature = (double) weatherData.get("temperature");
-            if (isCelsius) {
-                temperatureText.setText(String.format("%.0f°", temperature));
-            } else {
-                double fahrenheit = (temperature * 9/5) + 32;
-                temperatureText.setText(String.format("%.0f°", fahrenheit));
-            }
+            temperatureText.setText(formatTemperature(temperature));
         }
     }
 
-    private void updateDateTime() {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Update date (format like "Monday, 27th April")
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("EEEE, d");
-        String day = now.format(dateFormatter);
-        String month = now.format(DateTimeFormatter.ofPattern("MMMM"));
-        int dayOfMonth = now.getDayOfMonth();
-        String dayWithSuffix = dayOfMonth + getDayOfMonthSuffix(dayOfMonth);
-        
-        currentDateLabel.setText(day.replace(String.valueOf(dayOfMonth), dayWithSuffix) + " " + month);
-        
-        // Update time (format like "6:27am")
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("h:mma");
-        currentTimeLabel.setText(now.format(timeFormatter).toLowerCase());
-    }
-    
-    private String getDayOfMonthSuffix(int day) {
-        if (day >= 11 && day <= 13) {
-            return "th";
-        }
-        switch (day % 10) {
-            case 1: return "st";
-            case 2: return "nd";
-            case 3: return "rd";
-            default: return "th";
-        }
+    private void updateDateTime(ClockService.Tick tick) {
+        // Date like "Monday, 27th April", time like "6:27am"
+        currentDateLabel.setText(tick.getCapitalizedDateLine());
+        currentTimeLabel.setText(tick.getTimeLine());
     }
 
 
@@ -540,19 +451,4 @@ public class WeatherAppGui extends JFrame {
         }
         return "Cloudy";
     }
-
-    private ImageIcon loadImage(String resourcePath){
-        try{
-            // read the image file from the path given
-            BufferedImage image = ImageIO.read(new File(resourcePath));
-
-            // returns an image icon so that our component can render it
-            return new ImageIcon(image);
-        }catch(IOException e){
-            e.printStackTrace();
-        }
-
-        System.out.println("Could not find resource");
-        return null;
-    }
 }
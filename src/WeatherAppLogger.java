@@ -1,14 +1,102 @@
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Simple logging utility for the Weather Application.
  * Provides different log levels and formatted output.
+ *
+ * Logging is asynchronous: callers only append an event to a lock-free ring
+ * buffer, and a single background thread formats and prints events in
+ * batches, so logging never blocks the calling thread (in particular the
+ * EDT); messages appear within about 20 ms. If the buffer is full the event
+ * is dropped and counted rather than waiting. Messages take "{}" placeholders which are only filled in when the
+ * level is enabled; arguments are rendered on the writer thread, so pass
+ * values that are safe to read later (strings, numbers).
+ *
+ * Events go to every registered LogSink. By default that is the console;
+ * -Dweatherapp.log.file=path adds a rolling JSON-lines file (see
+ * RollingFileSink) and -Dweatherapp.log.console=false drops the console.
+ * Use event(...) for structured key/value events that tools can ingest.
  */
 public final class WeatherAppLogger {
     
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-    private static boolean debugEnabled = false;
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final int BATCH_SIZE = 256;
+    // Callers never wake the writer for a single message (an unpark is a
+    // syscall that would double the cost of a log call); it polls instead,
+    // and is only woken early when half the buffer is waiting
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final int WAKE_BACKLOG = BUFFER_CAPACITY / 2;
+    
+    // Warnings and errors from background threads wait this long for room
+    // in a full buffer rather than being dropped; the EDT never waits
+    private static final long FULL_BUFFER_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SHUTDOWN_FLUSH_MILLIS = 1000;
+    
+    private static volatile boolean debugEnabled = false;
+    
+    private static final LogRingBuffer<LogEvent> buffer = new LogRingBuffer<>(BUFFER_CAPACITY);
+    private static final AtomicLong published = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static volatile long written = 0;
+    private static volatile boolean stopping = false;
+    private static final List<LogSink> sinks = new CopyOnWriteArrayList<>();
+    private static final Thread writer;
+    
+    static {
+        if (!"false".equalsIgnoreCase(System.getProperty("weatherapp.log.console"))) {
+            sinks.add(new ConsoleLogSink());
+        }
+        String logFile = System.getProperty("weatherapp.log.file");
+        if (logFile != null && !logFile.isEmpty()) {
+            try {
+                sinks.add(RollingFileSink.fromSystemProperties(Paths.get(logFile)));
+            } catch (IllegalArgumentException e) {
+                // A bad path or rolling limit must not stop the app from starting
+                System.err.println("Could not set up log file " + logFile + ", logging to the console: " + e.getMessage());
+                if (sinks.isEmpty()) {
+                    sinks.add(new ConsoleLogSink());
+                }
+            }
+        }
+        
+        writer = new Thread(WeatherAppLogger::runWriter, "weather-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        
+        // Write whatever is still queued when the app exits, then stop the
+        // writer before closing the sinks so none is closed mid-write
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            flush(SHUTDOWN_FLUSH_MILLIS);
+            stopping = true;
+            LockSupport.unpark(writer);
+            try {
+                writer.join(SHUTDOWN_FLUSH_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (writer.isAlive()) {
+                System.err.println("Log writer still busy at exit, leaving log sinks open");
+                return;
+            }
+            for (LogSink sink : sinks) {
+                try {
+                    sink.close();
+                } catch (IOException e) {
+                    System.err.println("Could not close log sink: " + e.getMessage());
+                }
+            }
+        }, "weather-log-flush"));
+    }
     
     // Prevent instantiation
     private WeatherAppLogger() {}
@@ -17,6 +105,107 @@ public final class WeatherAppLogger {
         DEBUG, INFO, WARN, ERROR
     }
     
+    /**
+     * One log call as handed to sinks. The message is formatted on demand
+     * by the writer thread, never by the caller.
+     */
+    public static final class LogEvent {
+        private final long timeMillis;
+        private final Level level;
+        private final String threadName;
+        private final String pattern;
+        private final Object[] args;
+        private final Object[] fields;
+        private final Throwable throwable;
+        private final boolean printStackTrace;
+        
+        private LogEvent(Level level, String pattern, Object[] args, Object[] fields, Throwable throwable) {
+            this.timeMillis = System.currentTimeMillis();
+            this.level = level;
+            this.threadName = Thread.currentThread().getName();
+            this.pattern = pattern;
+            this.args = args;
+            this.fields = fields;
+            this.throwable = throwable;
+            this.printStackTrace = throwable != null && debugEnabled;
+        }
+        
+        public long getTimeMillis() {
+            return timeMillis;
+        }
+        
+        public Level getLevel() {
+            return level;
+        }
+        
+        public String getThreadName() {
+            return threadName;
+        }
+        
+        public Throwable getThrowable() {
+            return throwable;
+        }
+        
+        /**
+         * @return true if the exception was logged while debug logging was on
+         */
+        public boolean isStackTraceRequested() {
+            return printStackTrace;
+        }
+        
+        /**
+         * Appends the message, or the event name of a structured event,
+         * with "{}" placeholders filled in; extra placeholders stay as they are.
+         * @param target builder to append to
+         */
+        public void appendMessage(StringBuilder target) {
+            if (pattern == null) {
+                target.append("null");
+                return;
+            }
+            if (args == null) {
+                target.append(pattern);
+                return;
+            }
+            
+            int start = 0;
+            for (Object arg : args) {
+                int placeholder = pattern.indexOf("{}", start);
+                if (placeholder < 0) {
+                    break;
+                }
+                target.append(pattern, start, placeholder).append(arg);
+                start = placeholder + 2;
+            }
+            target.append(pattern, start, pattern.length());
+        }
+        
+        /**
+         * @return message with placeholders filled in
+         */
+        public String getMessage() {
+            StringBuilder message = new StringBuilder();
+            appendMessage(message);
+            return message.toString();
+        }
+        
+        /**
+         * @return number of key/value pairs of a structured event
+         */
+        public int getFieldCount() {
+            return fields == null ? 0 : (fields.length + 1) / 2;
+        }
+        
+        public String getFieldName(int index) {
+            return String.valueOf(fields[index * 2]);
+        }
+        
+        public Object getFieldValue(int index) {
+            int valueIndex = index * 2 + 1;
+            return valueIndex < fields.length ? fields[valueIndex] : null;
+        }
+    }
+    
     /**
      * Enable or disable debug logging.
      * @param enabled true to enable debug logs
@@ -25,13 +214,55 @@ public final class WeatherAppLogger {
         debugEnabled = enabled;
     }
     
+    /**
+     * Check whether debug logging is enabled, to skip building expensive arguments.
+     * @return true if debug messages are logged
+     */
+    public static boolean isDebugEnabled() {
+        return debugEnabled;
+    }
+    
     /**
      * Log a debug message (only if debug is enabled).
      * @param message the message to log
      */
     public static void debug(String message) {
         if (debugEnabled) {
-            log(Level.DEBUG, message);
+            log(Level.DEBUG, message, null, null, null);
+        }
+    }
+    
+    /**
+     * Log a debug message with one "{}" argument (only if debug is enabled).
+     * @param pattern message with a placeholder
+     * @param arg placeholder value
+     */
+    public static void debug(String pattern, Object arg) {
+        if (debugEnabled) {
+            log(Level.DEBUG, pattern, new Object[]{arg}, null, null);
+        }
+    }
+    
+    /**
+     * Log a debug message with two "{}" arguments (only if debug is enabled).
+     * @param pattern message with placeholders
+     * @param arg1 first placeholder value
+     * @param arg2 second placeholder value
+     */
+    public static void debug(String pattern, Object arg1, Object arg2) {
+        if (debugEnabled) {
+            log(Level.DEBUG, pattern, new Object[]{arg1, arg2}, null, null);
+        }
+    }
+    
+    /**
+     * Log a debug message with "{}" arguments (only if debug is enabled).
+     * @param pattern message with placeholders
+     * @param args placeholder values
+     */
+    public static void debug(String pattern, Object... args) {
+        if (debugEnabled) {
+            logWithArgs(Level.DEBUG, pattern, args);
         }
     }
     
@@ -40,7 +271,35 @@ public final class WeatherAppLogger {
      * @param message the message to log
      */
     public static void info(String message) {
-        log(Level.INFO, message);
+        log(Level.INFO, message, null, null, null);
+    }
+    
+    /**
+     * Log an info message with one "{}" argument.
+     * @param pattern message with a placeholder
+     * @param arg placeholder value
+     */
+    public static void info(String pattern, Object arg) {
+        log(Level.INFO, pattern, new Object[]{arg}, null, null);
+    }
+    
+    /**
+     * Log an info message with two "{}" arguments.
+     * @param pattern message with placeholders
+     * @param arg1 first placeholder value
+     * @param arg2 second placeholder value
+     */
+    public static void info(String pattern, Object arg1, Object arg2) {
+        log(Level.INFO, pattern, new Object[]{arg1, arg2}, null, null);
+    }
+    
+    /**
+     * Log an info message with "{}" arguments.
+     * @param pattern message with placeholders
+     * @param args placeholder values
+     */
+    public static void info(String pattern, Object... args) {
+        logWithArgs(Level.INFO, pattern, args);
     }
     
     /**
@@ -48,7 +307,35 @@ public final class WeatherAppLogger {
      * @param message the message to log
      */
     public static void warn(String message) {
-        log(Level.WARN, message);
+        log(Level.WARN, message, null, null, null);
+    }
+    
+    /**
+     * Log a warning message with one "{}" argument.
+     * @param pattern message with a placeholder
+     * @param arg placeholder value
+     */
+    public static void warn(String pattern, Object arg) {
+        log(Level.WARN, pattern, new Object[]{arg}, null, null);
+    }
+    
+    /**
+     * Log a warning message with two "{}" arguments.
+     * @param pattern message with placeholders
+     * @param arg1 first placeholder value
+     * @param arg2 second placeholder value
+     */
+    public static void warn(String pattern, Object arg1, Object arg2) {
+        log(Level.WARN, pattern, new Object[]{arg1, arg2}, null, null);
+    }
+    
+    /**
+     * Log a warning message with "{}" arguments.
+     * @param pattern message with placeholders
+     * @param args placeholder values
+     */
+    public static void warn(String pattern, Object... args) {
+        logWithArgs(Level.WARN, pattern, args);
     }
     
     /**
@@ -56,7 +343,7 @@ public final class WeatherAppLogger {
      * @param message the message to log
      */
     public static void error(String message) {
-        log(Level.ERROR, message);
+        log(Level.ERROR, message, null, null, null);
     }
     
     /**
@@ -65,25 +352,164 @@ public final class WeatherAppLogger {
      * @param throwable the exception that occurred
      */
     public static void error(String message, Throwable throwable) {
-        log(Level.ERROR, message + " - Exception: " + throwable.getMessage());
-        if (debugEnabled) {
-            throwable.printStackTrace();
+        log(Level.ERROR, message, null, null, throwable);
+    }
+    
+    /**
+     * Log an error message with "{}" arguments. A trailing Throwable without
+     * a placeholder of its own is logged as the exception.
+     * @param pattern message with placeholders
+     * @param args placeholder values
+     */
+    public static void error(String pattern, Object... args) {
+        logWithArgs(Level.ERROR, pattern, args);
+    }
+    
+    /**
+     * Log a structured event, e.g.
+     * event(Level.INFO, "forecast.fetched", "city", city, "latencyMs", 120).
+     * Debug events are skipped unless debug logging is enabled.
+     * @param level the log level
+     * @param event event name
+     * @param keyValues alternating field names and values
+     */
+    public static void event(Level level, String event, Object... keyValues) {
+        if (level != Level.DEBUG || debugEnabled) {
+            log(level, event, null, keyValues, null);
         }
     }
     
     /**
-     * Internal logging method.
+     * Add a destination for log events, e.g. a RollingFileSink.
+     * @param sink sink to add
+     */
+    public static void addSink(LogSink sink) {
+        sinks.add(sink);
+    }
+    
+    /**
+     * Stop sending events to a sink. The caller closes it, after flush().
+     * @param sink sink to remove
+     */
+    public static void removeSink(LogSink sink) {
+        sinks.remove(sink);
+    }
+    
+    /**
+     * Wait until every message logged so far has been written.
+     * Blocks, so do not call it on the EDT.
+     * @param timeoutMillis maximum time to wait
+     * @return true if everything was written in time
+     */
+    public static boolean flush(long timeoutMillis) {
+        long target = published.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        LockSupport.unpark(writer);
+        while (written < target) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+    
+    /**
+     * Get number of messages dropped because the buffer was full.
+     */
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+    
+    /**
+     * Separates a trailing exception from the placeholder values.
+     */
+    private static void logWithArgs(Level level, String pattern, Object[] args) {
+        Throwable throwable = null;
+        if (args != null && args.length > 0 && args[args.length - 1] instanceof Throwable
+                && countPlaceholders(pattern) < args.length) {
+            throwable = (Throwable) args[args.length - 1];
+        }
+        log(level, pattern, args, null, throwable);
+    }
+    
+    /**
+     * Internal logging method: queue the event for the writer thread.
      * @param level the log level
-     * @param message the message to log
+     * @param pattern the message, possibly with "{}" placeholders
+     * @param args placeholder values, or null
+     * @param fields key/value pairs of a structured event, or null
+     * @param throwable exception to report, or null
      */
-    private static void log(Level level, String message) {
-        String timestamp = DATE_FORMAT.format(new Date());
-        String logEntry = String.format("[%s] %s: %s", timestamp, level, message);
+    private static void log(Level level, String pattern, Object[] args, Object[] fields, Throwable throwable) {
+        LogEvent event = new LogEvent(level, pattern, args, fields, throwable);
+        if (!buffer.offer(event) && !offerWhenFull(event)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (published.incrementAndGet() - written >= WAKE_BACKLOG) {
+            LockSupport.unpark(writer);
+        }
+    }
+    
+    private static boolean offerWhenFull(LogEvent event) {
+        if (event.level.compareTo(Level.WARN) < 0 || SwingUtilities.isEventDispatchThread()) {
+            return false;
+        }
         
-        if (level == Level.ERROR) {
-            System.err.println(logEntry);
-        } else {
-            System.out.println(logEntry);
+        long deadline = System.nanoTime() + FULL_BUFFER_WAIT_NANOS;
+        LockSupport.unpark(writer);
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static void runWriter() {
+        List<LogEvent> batch = new ArrayList<>(BATCH_SIZE);
+        Map<LogSink, Boolean> failing = new IdentityHashMap<>();
+        long reportedDrops = 0;
+        
+        while (!stopping) {
+            batch.clear();
+            long drops = dropped.get();
+            if (drops > reportedDrops) {
+                batch.add(new LogEvent(Level.WARN, "Log messages dropped, buffer full", null,
+                    new Object[]{"count", drops - reportedDrops}, null));
+                reportedDrops = drops;
+            }
+            
+            int count = buffer.drainTo(batch, BATCH_SIZE);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            
+            for (LogSink sink : sinks) {
+                try {
+                    sink.write(batch);
+                    failing.remove(sink);
+                } catch (IOException | RuntimeException e) {
+                    // Report once per failure streak; logging through the logger could recurse
+                    if (failing.put(sink, Boolean.TRUE) == null) {
+                        System.err.println("Log sink " + sink.getClass().getSimpleName() + " failed: " + e);
+                    }
+                }
+            }
+            written += count;
+        }
+    }
+    
+    private static int countPlaceholders(String pattern) {
+        int count = 0;
+        if (pattern != null) {
+            for (int i = pattern.indexOf("{}"); i >= 0; i = pattern.indexOf("{}", i + 2)) {
+                count++;
+            }
         }
+        return count;
     }
 }
@@ -1,9 +1,16 @@
 import javafx.application.Application;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.concurrent.Service;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.effect.DropShadow;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.paint.*;
 import javafx.scene.shape.Circle;
@@ -18,11 +25,14 @@ import javafx.scene.Group;
 import javafx.scene.Node;
 import org.json.simple.JSONObject;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.RejectedExecutionException;
 
 public class WeatherCardFX extends Application {
     
+    // Icon box: the cloud icons reach x=78 around a center of 45
+    private static final double ICON_WIDTH = 90;
+    private static final double ICON_HEIGHT = 80;
+    
     private WeatherApp weatherAPI;
     private JSONObject weatherData;
     private boolean isCelsius = true;
@@ -31,12 +41,16 @@ public class WeatherCardFX extends Application {
     private Text dateText;
     private Text timeText;
     private Text locationText;
-    private Group weatherIcon;
+    private ImageView weatherIcon;
     private Text temperatureText;
     private Text dayText;
     private HBox hourlyForecast;
     private TextField searchField;
+    private ProgressIndicator loadingIndicator;
     private Pane cardContainer;
+    
+    private ForecastService forecastService;
+    private ClockService.Subscription clockSubscription;
 
     @Override
     public void start(Stage primaryStage) {
@@ -48,6 +62,7 @@ public class WeatherCardFX extends Application {
         
         // Create search field
         createSearchField();
+        createForecastService();
         
         // Create weather card
         createWeatherCard();
@@ -59,10 +74,10 @@ public class WeatherCardFX extends Application {
         cardContainer.setLayoutX(20);
         cardContainer.setLayoutY(70);
         
-        root.getChildren().addAll(searchField, cardContainer);
+        root.getChildren().addAll(searchField, loadingIndicator, cardContainer);
         
         // Update initial time
-        updateDateTime();
+        updateDateTime(ClockService.current());
         
         Scene scene = new Scene(root, 320, 570);
         primaryStage.setTitle("Weather Card");
@@ -70,12 +85,15 @@ public class WeatherCardFX extends Application {
         primaryStage.setResizable(false);
         primaryStage.show();
         
-        // Update time every minute
-        javafx.animation.Timeline timeline = new javafx.animation.Timeline(
-            new javafx.animation.KeyFrame(javafx.util.Duration.minutes(1), e -> updateDateTime())
-        );
-        timeline.setCycleCount(javafx.animation.Timeline.INDEFINITE);
-        timeline.play();
+        // Follow the shared minute clock
+        clockSubscription = ClockService.subscribe(javafx.application.Platform::runLater, this::updateDateTime);
+    }
+    
+    @Override
+    public void stop() {
+        if (clockSubscription != null) {
+            clockSubscription.cancel();
+        }
     }
     
     private void createSearchField() {
@@ -102,6 +120,29 @@ public class WeatherCardFX extends Application {
         });
     }
     
+    private void createForecastService() {
+        forecastService = new ForecastService();
+        
+        // Spinner inside the right end of the search field while a forecast loads
+        loadingIndicator = new ProgressIndicator();
+        loadingIndicator.setPrefSize(20, 20);
+        loadingIndicator.setLayoutX(272);
+        loadingIndicator.setLayoutY(27);
+        loadingIndicator.setMouseTransparent(true);
+        loadingIndicator.progressProperty().bind(forecastService.progressProperty());
+        loadingIndicator.visibleProperty().bind(forecastService.runningProperty());
+        
+        // The service delivers on the FX thread, so the whole card updates in one pulse
+        forecastService.setOnSucceeded(e -> {
+            weatherData = forecastService.getValue();
+            if (weatherData != null) {
+                updateWeatherDisplay(forecastService.getCity());
+            }
+        });
+        forecastService.setOnFailed(e -> WeatherAppLogger.error("Could not load weather for {}",
+            forecastService.getCity(), forecastService.getException()));
+    }
+    
     private void createWeatherCard() {
         // Create card container with exact specifications
         cardContainer = new Pane();
@@ -193,34 +234,11 @@ public class WeatherCardFX extends Application {
     }
     
     private void createWeatherIcon() {
-        // Create sun icon with exact specifications
-        weatherIcon = new Group();
-        
-        // Central circle
-        Circle center = new Circle(40, 40, 12);
-        center.setFill(Color.TRANSPARENT);
-        center.setStroke(Color.WHITE);
-        center.setStrokeWidth(2);
-        
-        // 12 radiating lines (sun rays)
-        Group rays = new Group();
-        for (int i = 0; i < 12; i++) {
-            double angle = i * 30; // 360/12 = 30 degrees between rays
-            double radians = Math.toRadians(angle);
-            
-            double startX = 40 + Math.cos(radians) * 20;
-            double startY = 40 + Math.sin(radians) * 20;
-            double endX = 40 + Math.cos(radians) * 32;
-            double endY = 40 + Math.sin(radians) * 32;
-            
-            Line ray = new Line(startX, startY, endX, endY);
-            ray.setStroke(Color.WHITE);
-            ray.setStrokeWidth(2);
-            rays.getChildren().add(ray);
-        }
-        
-        weatherIcon.getChildren().addAll(center, rays);
-        weatherIcon.setLayoutX(100); // Center horizontally (140 - 40)
+        // One ImageView for the card's lifetime; a condition change swaps its image
+        weatherIcon = new ImageView(iconFor("Clear"));
+        weatherIcon.setFitWidth(ICON_WIDTH);
+        weatherIcon.setFitHeight(ICON_HEIGHT);
+        weatherIcon.setLayoutX(95); // Center horizontally (140 - 45)
         weatherIcon.setLayoutY(140); // 140px from top
         
         cardContainer.getChildren().add(weatherIcon);
@@ -278,13 +296,21 @@ public class WeatherCardFX extends Application {
             return;
         }
         
+        // A cached forecast shows at once; anything else loads off the FX thread
+        JSONObject cached = WeatherFetchEngine.getCached(cityName);
+        if (cached != null) {
+            forecastService.cancel();
+            weatherData = cached;
+            updateWeatherDisplay(cityName);
+            return;
+        }
+        
+        // Restarting cancels a search that is still loading
+        forecastService.setCity(cityName);
         try {
-            weatherData = WeatherApp.getWeatherData(cityName);
-            if (weatherData != null) {
-                updateWeatherDisplay(cityName);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+            forecastService.restart();
+        } catch (RejectedExecutionException e) {
+            WeatherAppLogger.warn("Weather fetch queue is full, dropped search for {}", cityName);
         }
     }
     
@@ -341,31 +367,29 @@ public class WeatherCardFX extends Application {
     }
     
     private void updateWeatherIconForCondition(String condition) {
-        cardContainer.getChildren().remove(weatherIcon);
-        
-        switch (condition) {
-            case "Clear":
-                createSunIcon();
-                break;
+        weatherIcon.setImage(iconFor(condition));
+    }
+    
+    /**
+     * Get the shared icon image for a condition; the shapes are only built
+     * the first time any card shows it.
+     */
+    private static Image iconFor(String condition) {
+        String kind = condition == null ? "Clear" : condition;
+        switch (kind) {
             case "Cloudy":
-                createCloudIcon();
-                break;
+                return FxIconImageCache.get("card-fx/cloudy", ICON_WIDTH, ICON_HEIGHT, WeatherCardFX::createCloudIcon);
             case "Rain":
-                createRainIcon();
-                break;
+                return FxIconImageCache.get("card-fx/rain", ICON_WIDTH, ICON_HEIGHT, WeatherCardFX::createRainIcon);
             case "Snow":
-                createSnowIcon();
-                break;
+                return FxIconImageCache.get("card-fx/snow", ICON_WIDTH, ICON_HEIGHT, WeatherCardFX::createSnowIcon);
             default:
-                createSunIcon();
-                break;
+                return FxIconImageCache.get("card-fx/clear", ICON_WIDTH, ICON_HEIGHT, WeatherCardFX::createSunIcon);
         }
-        
-        cardContainer.getChildren().add(weatherIcon);
     }
     
-    private void createSunIcon() {
-        weatherIcon = new Group();
+    private static Group createSunIcon() {
+        Group icon = new Group();
         
         Circle center = new Circle(40, 40, 12);
         center.setFill(Color.TRANSPARENT);
@@ -388,13 +412,14 @@ public class WeatherCardFX extends Application {
             rays.getChildren().add(ray);
         }
         
-        weatherIcon.getChildren().addAll(center, rays);
-        weatherIcon.setLayoutX(100);
-        weatherIcon.setLayoutY(140);
+        icon.getChildren().addAll(center, rays);
+        // Sun is drawn around x=40; shift it to the 45px center the clouds use
+        icon.setTranslateX(5);
+        return icon;
     }
     
-    private void createCloudIcon() {
-        weatherIcon = new Group();
+    private static Group createCloudIcon() {
+        Group icon = new Group();
         
         // Cloud shape with circles
         Circle cloud1 = new Circle(30, 45, 15);
@@ -413,13 +438,12 @@ public class WeatherCardFX extends Application {
         cloud3.setStroke(Color.WHITE);
         cloud3.setStrokeWidth(2);
         
-        weatherIcon.getChildren().addAll(cloud1, cloud2, cloud3);
-        weatherIcon.setLayoutX(95);
-        weatherIcon.setLayoutY(140);
+        icon.getChildren().addAll(cloud1, cloud2, cloud3);
+        return icon;
     }
     
-    private void createRainIcon() {
-        weatherIcon = new Group();
+    private static Group createRainIcon() {
+        Group icon = new Group();
         
         // Cloud
         Circle cloud1 = new Circle(30, 35, 12);
@@ -450,13 +474,12 @@ public class WeatherCardFX extends Application {
         drop3.setStroke(Color.WHITE);
         drop3.setStrokeWidth(2);
         
-        weatherIcon.getChildren().addAll(cloud1, cloud2, cloud3, drop1, drop2, drop3);
-        weatherIcon.setLayoutX(95);
-        weatherIcon.setLayoutY(140);
+        icon.getChildren().addAll(cloud1, cloud2, cloud3, drop1, drop2, drop3);
+        return icon;
     }
     
-    private void createSnowIcon() {
-        weatherIcon = new Group();
+    private static Group createSnowIcon() {
+        Group icon = new Group();
         
         // Cloud
         Circle cloud1 = new Circle(30, 35, 12);
@@ -484,9 +507,8 @@ public class WeatherCardFX extends Application {
         flake2.setFill(Color.WHITE);
         flake3.setFill(Color.WHITE);
         
-        weatherIcon.getChildren().addAll(cloud1, cloud2, cloud3, flake1, flake2, flake3);
-        weatherIcon.setLayoutX(95);
-        weatherIcon.setLayoutY(140);
+        icon.getChildren().addAll(cloud1, cloud2, cloud3, flake1, flake2, flake3);
+        return icon;
     }
     
     private void updateHourlyForecastData(double currentTemp) {
@@ -502,40 +524,17 @@ public class WeatherCardFX extends Application {
         }
     }
     
-    private void updateDateTime() {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Update date
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("EEEE, d");
-        String day = now.format(dateFormatter);
-        String month = now.format(DateTimeFormatter.ofPattern("MMMM")).toLowerCase();
-        int dayOfMonth = now.getDayOfMonth();
-        String dayWithSuffix = dayOfMonth + getDayOfMonthSuffix(dayOfMonth);
-        
-        String dateString = day.replace(String.valueOf(dayOfMonth), dayWithSuffix) + " " + month;
-        dateText.setText(dateString);
-        centerText(dateText, 140);
-        
-        // Update time
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("h:mma");
-        timeText.setText(now.format(timeFormatter).toLowerCase());
-        centerText(timeText, 140);
-        
-        // Update day
-        String dayName = now.format(DateTimeFormatter.ofPattern("EEEE"));
-        dayText.setText(dayName);
-        centerText(dayText, 140);
+    private void updateDateTime(ClockService.Tick tick) {
+        // Only touch the texts that changed, so only their regions are redrawn
+        setCenteredText(dateText, tick.getDateLine());
+        setCenteredText(timeText, tick.getTimeLine());
+        setCenteredText(dayText, tick.getDayName());
     }
     
-    private String getDayOfMonthSuffix(int day) {
-        if (day >= 11 && day <= 13) {
-            return "th";
-        }
-        switch (day % 10) {
-            case 1: return "st";
-            case 2: return "nd";
-            case 3: return "rd";
-            default: return "th";
+    private void setCenteredText(Text text, String value) {
+        if (!value.equals(text.getText())) {
+            text.setText(value);
+            centerText(text, 140);
         }
     }
     
@@ -543,6 +542,41 @@ public class WeatherCardFX extends Application {
         text.setLayoutX(centerX - text.getBoundsInLocal().getWidth() / 2);
     }
     
+    /**
+     * Loads forecasts on the shared fetch engine's bounded executor.
+     */
+    private static class ForecastService extends Service<JSONObject> {
+        private final StringProperty city = new SimpleStringProperty(this, "city");
+        
+        ForecastService() {
+            setExecutor(WeatherFetchEngine.getExecutor());
+        }
+        
+        String getCity() {
+            return city.get();
+        }
+        
+        void setCity(String cityName) {
+            city.set(cityName);
+        }
+        
+        @Override
+        protected Task<JSONObject> createTask() {
+            String query = city.get();
+            return new Task<JSONObject>() {
+                @Override
+                protected JSONObject call() {
+                    // Geocoding and forecast are one call, so progress is indeterminate until done
+                    updateMessage("Loading " + query);
+                    updateProgress(-1, 1);
+                    JSONObject data = WeatherFetchEngine.load(query);
+                    updateProgress(1, 1);
+                    return data;
+                }
+            };
+        }
+    }
+    
     public static void main(String[] args) {
         launch(args);
     }
@@ -11,7 +11,6 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.geom.RoundRectangle2D;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +29,9 @@ public class WeatherCardOpenWeather extends JFrame {
     private static final int PADDING_TOP = 24;
     private static final int PADDING_HORIZONTAL = 20;
     private static final int PADDING_BOTTOM = 20;
+    
+    // Date and time lines, including the time's descenders; all a minute tick repaints
+    private static final int HEADER_HEIGHT = 110;
     private static final int WINDOW_MARGIN = 30;
     
     // Enhanced window dimensions for search functionality
@@ -42,6 +44,7 @@ public class WeatherCardOpenWeather extends JFrame {
     private static final Color TERTIARY_TEXT = new Color(255, 255, 255, 230);
     private static final Color HOURLY_TEXT = new Color(255, 255, 255, 179);
     private static final Color DIVIDER_COLOR = new Color(255, 255, 255, 77);
+    private static final LatencyHistogram PAINT_TIME = WeatherMetrics.paintHistogram(WeatherCardOpenWeather.class);
     
     private WeatherData currentWeatherData;
     private WeatherCardPanel cardPanel;
@@ -50,6 +53,9 @@ public class WeatherCardOpenWeather extends JFrame {
     private JScrollPane suggestionScrollPane;
     private JLabel statusLabel;
     
+    // Search whose result is still wanted; a newer search replaces it (EDT only)
+    private SwingWorker<JSONObject, Void> pendingSearch;
+    
     // City suggestions database
     private final List<String> WORLD_CITIES = Arrays.asList(
         "London", "New York", "Tokyo", "Paris", "Berlin", "Madrid", "Rome", "Amsterdam", "Vienna", "Prague",
@@ -72,8 +78,13 @@ public class WeatherCardOpenWeather extends JFrame {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setResizable(false);
         
-        // Preload common weather icons
-        OpenWeatherIcon.preloadIcons();
+        // Preload the day/night icon set at both card sizes; the window does not wait for it
+        OpenWeatherIcon.preloadIcons(80, 20)
+            .thenRun(() -> SwingUtilities.invokeLater(() -> {
+                if (cardPanel != null) {
+                    cardPanel.repaint();
+                }
+            }));
         
         // Initialize with sample data
         initializeSampleData();
@@ -82,24 +93,8 @@ public class WeatherCardOpenWeather extends JFrame {
         int totalWidth = CARD_WIDTH + (WINDOW_MARGIN * 2);
         int totalHeight = CARD_HEIGHT + SEARCH_HEIGHT + SEARCH_GAP + (WINDOW_MARGIN * 2) + 30; // Extra space for status
         
-        // Create main panel with gradient background
-        JPanel mainPanel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Dark purple gradient background
-                GradientPaint bgGradient = new GradientPaint(
-                    0, 0, new Color(131, 96, 195),
-                    getWidth(), getHeight(), new Color(46, 191, 145)
-                );
-                g2d.setPaint(bgGradient);
-                g2d.fillRect(0, 0, getWidth(), getHeight());
-                g2d.dispose();
-            }
-        };
-        mainPanel.setLayout(null);
+        // Create main panel with cached scene gradient background
+        JPanel mainPanel = new GradientBackgroundPanel(BackgroundThemeCache.SCENE, null);
         mainPanel.setPreferredSize(new Dimension(totalWidth, totalHeight));
         
         // Create search field
@@ -125,12 +120,8 @@ public class WeatherCardOpenWeather extends JFrame {
         pack();
         setLocationRelativeTo(null);
         
-        // Update time every minute
-        Timer timer = new Timer(60000, e -> {
-            updateCurrentTime();
-            cardPanel.repaint();
-        });
-        timer.start();
+        // Follow the shared minute clock
+        ClockService.subscribe(SwingUtilities::invokeLater, this::onMinute);
         
         setVisible(true);
     }
@@ -248,15 +239,24 @@ public class WeatherCardOpenWeather extends JFrame {
         
         statusLabel.setText("Fetching weather data...");
         
-        // Use SwingWorker to fetch data in background
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+        }
+        
+        // Fetch in the background through the shared engine, so repeated
+        // searches for a city hit its cache instead of the network
         SwingWorker<JSONObject, Void> worker = new SwingWorker<JSONObject, Void>() {
             @Override
             protected JSONObject doInBackground() throws Exception {
-                return WeatherApp.getWeatherData(cityName);
+                return WeatherFetchEngine.load(cityName);
             }
             
             @Override
             protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                pendingSearch = null;
                 try {
                     JSONObject weatherData = get();
                     if (weatherData != null) {
@@ -280,6 +280,7 @@ public class WeatherCardOpenWeather extends JFrame {
             }
         };
         
+        pendingSearch = worker;
         worker.execute();
     }
     
@@ -317,33 +318,21 @@ public class WeatherCardOpenWeather extends JFrame {
     }
     
     private void updateCurrentTime() {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Format date: "Monday, 27th april"
-        DateTimeFormatter dayFormatter = DateTimeFormatter.ofPattern("EEEE, d");
-        String day = now.format(dayFormatter);
-        String month = now.format(DateTimeFormatter.ofPattern("MMMM")).toLowerCase();
-        int dayOfMonth = now.getDayOfMonth();
-        String dayWithSuffix = dayOfMonth + getDayOfMonthSuffix(dayOfMonth);
-        String formattedDate = day.replace(String.valueOf(dayOfMonth), dayWithSuffix) + " " + month;
-        
-        // Format time: "9:43am"
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("h:mma");
-        String formattedTime = now.format(timeFormatter).toLowerCase();
-        
-        currentWeatherData.setDate(formattedDate);
-        currentWeatherData.setTime(formattedTime);
+        showTime(ClockService.current());
     }
     
-    private String getDayOfMonthSuffix(int day) {
-        if (day >= 11 && day <= 13) {
-            return "th";
-        }
-        switch (day % 10) {
-            case 1: return "st";
-            case 2: return "nd";
-            case 3: return "rd";
-            default: return "th";
+    private void showTime(ClockService.Tick tick) {
+        // Format date: "Monday, 27th april", time: "9:43am"
+        currentWeatherData.setDate(tick.getDateLine());
+        currentWeatherData.setTime(tick.getTimeLine());
+    }
+    
+    private void onMinute(ClockService.Tick tick) {
+        showTime(tick);
+        if (tick.isNewDay()) {
+            cardPanel.repaint();
+        } else {
+            cardPanel.repaint(0, 0, CARD_WIDTH, HEADER_HEIGHT);
         }
     }
     
@@ -354,6 +343,7 @@ public class WeatherCardOpenWeather extends JFrame {
         
         @Override
         protected void paintComponent(Graphics g) {
+            long paintStart = System.nanoTime();
             super.paintComponent(g);
             Graphics2D g2d = (Graphics2D) g.create();
             
@@ -363,13 +353,13 @@ public class WeatherCardOpenWeather extends JFrame {
             g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
             
             // Update gradient colors based on weather condition
-            Color[] gradientColors = getWeatherGradientColors(currentWeatherData.getWeatherType());
+            String weatherType = currentWeatherData.getWeatherType();
             
             // Draw drop shadow
             drawDropShadow(g2d);
             
             // Draw card background with weather-specific gradient
-            drawCardBackground(g2d, gradientColors[0], gradientColors[1]);
+            drawCardBackground(g2d, weatherType);
             
             // Draw all content with EXACT positioning
             drawDateText(g2d);
@@ -382,24 +372,7 @@ public class WeatherCardOpenWeather extends JFrame {
             drawHourlyForecast(g2d);  // Now uses OpenWeatherMap mini icons
             
             g2d.dispose();
-        }
-        
-        private Color[] getWeatherGradientColors(String weatherType) {
-            if (weatherType == null) weatherType = "Clear";
-            
-            switch (weatherType.toLowerCase()) {
-                case "clear":
-                case "sunny":
-                    return new Color[]{new Color(255, 183, 94), new Color(237, 143, 3)}; // Orange
-                case "cloudy":
-                    return new Color[]{new Color(189, 195, 199), new Color(139, 157, 195)}; // Blue-gray
-                case "rain":
-                    return new Color[]{new Color(83, 105, 118), new Color(41, 46, 73)}; // Dark blue
-                case "snow":
-                    return new Color[]{new Color(230, 222, 221), new Color(197, 202, 233)}; // Light purple
-                default:
-                    return new Color[]{new Color(78, 205, 196), new Color(68, 160, 141)}; // Teal
-            }
+            PAINT_TIME.recordSince(paintStart);
         }
         
         private void drawDropShadow(Graphics2D g2d) {
@@ -415,9 +388,9 @@ public class WeatherCardOpenWeather extends JFrame {
             }
         }
         
-        private void drawCardBackground(Graphics2D g2d, Color startColor, Color endColor) {
-            GradientPaint gradient = new GradientPaint(0, 0, startColor, CARD_WIDTH, CARD_HEIGHT, endColor);
-            g2d.setPaint(gradient);
+        private void drawCardBackground(Graphics2D g2d, String weatherType) {
+            // Unset weather types fall back to the clear-sky gradient
+            g2d.setPaint(BackgroundThemeCache.getPaint(weatherType != null ? weatherType : "Clear", CARD_WIDTH, CARD_HEIGHT));
             
             RoundRectangle2D card = new RoundRectangle2D.Double(
                 0, 0, CARD_WIDTH, CARD_HEIGHT, CORNER_RADIUS, CORNER_RADIUS
@@ -484,13 +457,15 @@ public class WeatherCardOpenWeather extends JFrame {
             int hour = now.getHour();
             boolean isDayTime = hour >= 6 && hour < 18;
             
-            // Get OpenWeatherMap icon
-            ImageIcon weatherIcon = OpenWeatherIcon.getWeatherIcon(weatherType, iconSize, isDayTime);
+            int iconX = iconCenterX - iconSize / 2;
+            int iconY = iconCenterY - iconSize / 2;
+            
+            // Get OpenWeatherMap icon; a placeholder until it has loaded, then repaint just the icon
+            ImageIcon weatherIcon = OpenWeatherIcon.getWeatherIconAsync(weatherType, iconSize, isDayTime,
+                () -> repaint(iconX, iconY, iconSize, iconSize));
             
             if (weatherIcon != null) {
                 // Draw the OpenWeatherMap icon
-                int iconX = iconCenterX - iconSize / 2;
-                int iconY = iconCenterY - iconSize / 2;
                 weatherIcon.paintIcon(this, g2d, iconX, iconY);
             } else {
                 // Fallback to custom icon if OpenWeatherMap icon fails
@@ -514,7 +489,7 @@ public class WeatherCardOpenWeather extends JFrame {
         }
         
         private void drawDayText(Graphics2D g2d) {
-            String dayText = LocalDateTime.now().format(DateTimeFormatter.ofPattern("EEEE"));
+            String dayText = ClockService.current().getDayName();
             
             Font font = new Font("Segoe UI", Font.PLAIN, 18);
             g2d.setFont(font);
@@ -568,10 +543,11 @@ public class WeatherCardOpenWeather extends JFrame {
             g2d.drawString(forecast.getTime(), timeX, y + 15);
             
             // OpenWeatherMap Mini Icon
-            ImageIcon miniIcon = OpenWeatherIcon.getMiniWeatherIcon(forecast.getWeatherType(), 20);
+            int iconX = x + (width - 20) / 2;
+            int iconY = y + 25;
+            ImageIcon miniIcon = OpenWeatherIcon.getMiniWeatherIconAsync(forecast.getWeatherType(), 20,
+                () -> cardPanel.repaint(iconX, iconY, 20, 20));
             if (miniIcon != null) {
-                int iconX = x + (width - 20) / 2;
-                int iconY = y + 25;
                 miniIcon.paintIcon(cardPanel, g2d, iconX, iconY);
             } else {
                 // Fallback to custom mini icon
@@ -594,6 +570,7 @@ public class WeatherCardOpenWeather extends JFrame {
     }
     
     public static void main(String[] args) {
+        EdtWatchdog.install();
         SwingUtilities.invokeLater(() -> {
             new WeatherCardOpenWeather();
         });
@@ -10,8 +10,6 @@ import java.awt.event.FocusEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.geom.RoundRectangle2D;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +20,8 @@ import java.util.Map;
 
 public class WeatherCardSwing extends JFrame {
     
+    private static final LatencyHistogram PAINT_TIME = WeatherMetrics.paintHistogram(WeatherCardSwing.class);
+    
     private JSONObject weatherData;
     private boolean isCelsius = true;
     
@@ -36,6 +36,9 @@ public class WeatherCardSwing extends JFrame {
     private double currentTemperature = 17.0;
     private String currentCondition = "Clear";
     
+    // Search whose result is still wanted; a newer search replaces it (EDT only)
+    private CompletableFuture<JSONObject> pendingSearch;
+    
     // Enhanced search with caching for better performance
     private final Map<String, List<LocationSuggestion>> searchCache = new ConcurrentHashMap<>();
     private Timer suggestionTimer;
@@ -107,9 +110,8 @@ public class WeatherCardSwing extends JFrame {
         pack();
         setLocationRelativeTo(null);
         
-        // Start timer for time updates
-        Timer timer = new Timer(60000, e -> cardPanel.updateDateTime());
-        timer.start();
+        // Follow the shared minute clock
+        ClockService.subscribe(SwingUtilities::invokeLater, cardPanel::updateDateTime);
         
         setVisible(true);
     }
@@ -238,7 +240,7 @@ public class WeatherCardSwing extends JFrame {
         }
         
         // Fetch suggestions from geocoding API asynchronously
-        CompletableFuture.supplyAsync(() -> fetchLocationSuggestions(input))
+        WeatherExecutors.supplyAsync(() -> fetchLocationSuggestions(input), WeatherExecutors.io())
             .thenAccept(suggestions -> {
                 SwingUtilities.invokeLater(() -> {
                     if (suggestions != null && !suggestions.isEmpty()) {
@@ -300,22 +302,36 @@ public class WeatherCardSwing extends JFrame {
             return;
         }
         
-        try {
-            weatherData = WeatherApp.getWeatherData(cityName);
-            if (weatherData != null) {
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+        }
+        CompletableFuture<JSONObject> search = WeatherFetchEngine.fetch(cityName);
+        pendingSearch = search;
+        search.whenComplete((data, error) -> SwingUtilities.invokeLater(() -> {
+            if (search != pendingSearch) {
+                return;
+            }
+            pendingSearch = null;
+            if (error != null) {
+                WeatherAppLogger.error("Could not load weather for {}", cityName, WeatherExecutors.unwrap(error));
+            } else if (data != null) {
+                weatherData = data;
                 currentCity = cityName;
                 currentTemperature = (double) weatherData.get("temperature");
                 currentCondition = (String) weatherData.get("weather_condition");
                 cardPanel.updateWeatherData();
                 cardPanel.repaint();
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        }));
     }
     
     private class WeatherCardPanel extends JPanel {
         
+        // Date and time lines, including the time's descenders; all a minute tick repaints
+        private static final int HEADER_HEIGHT = 110;
+        
+        private ClockService.Tick clock = ClockService.current();
+        
         public WeatherCardPanel() {
             setOpaque(false);
             setPreferredSize(new Dimension(280, 480));
@@ -323,6 +339,7 @@ public class WeatherCardSwing extends JFrame {
         
         @Override
         protected void paintComponent(Graphics g) {
+            long paintStart = System.nanoTime();
             super.paintComponent(g);
             Graphics2D g2d = (Graphics2D) g.create();
             
@@ -344,6 +361,7 @@ public class WeatherCardSwing extends JFrame {
             drawHourlyForecast(g2d);
             
             g2d.dispose();
+            PAINT_TIME.recordSince(paintStart);
         }
         
         private void drawCardBackground(Graphics2D g2d) {
@@ -362,44 +380,13 @@ public class WeatherCardSwing extends JFrame {
         }
         
         private GradientPaint getWeatherGradient() {
-            Color startColor, endColor;
-            
-            switch (currentCondition) {
-                case "Clear":
-                    startColor = new Color(255, 183, 94);  // #FFB75E
-                    endColor = new Color(237, 143, 3);     // #ED8F03
-                    break;
-                case "Cloudy":
-                    startColor = new Color(189, 195, 199); // #BDC3C7
-                    endColor = new Color(139, 157, 195);   // #8B9DC3
-                    break;
-                case "Rain":
-                    startColor = new Color(83, 105, 118);  // #536976
-                    endColor = new Color(41, 46, 73);      // #292E49
-                    break;
-                case "Snow":
-                    startColor = new Color(230, 222, 221); // #E6DEDD
-                    endColor = new Color(197, 202, 233);   // #C5CAE9
-                    break;
-                default:
-                    startColor = new Color(78, 205, 196);  // #4ECDC4
-                    endColor = new Color(68, 160, 141);    // #44A08D
-                    break;
-            }
-            
             // 135° gradient: from top-left to bottom-right
-            return new GradientPaint(0, 0, startColor, 280, 480, endColor);
+            return BackgroundThemeCache.getPaint(currentCondition, 280, 480);
         }
         
         private void drawDateText(Graphics2D g2d) {
             // Position: 24px from top, centered horizontally
-            LocalDateTime now = LocalDateTime.now();
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("EEEE, d");
-            String day = now.format(dateFormatter);
-            String month = now.format(DateTimeFormatter.ofPattern("MMMM")).toLowerCase();
-            int dayOfMonth = now.getDayOfMonth();
-            String dayWithSuffix = dayOfMonth + getDayOfMonthSuffix(dayOfMonth);
-            String dateString = day.replace(String.valueOf(dayOfMonth), dayWithSuffix) + " " + month;
+            String dateString = clock.getDateLine();
             
             g2d.setFont(new Font("Segoe UI", Font.PLAIN, 14)); // Modern font
             g2d.setColor(new Color(255, 255, 255, 204)); // rgba(255,255,255,0.8)
@@ -414,9 +401,7 @@ public class WeatherCardSwing extends JFrame {
         
         private void drawTimeText(Graphics2D g2d) {
             // Position: 40px from top
-            LocalDateTime now = LocalDateTime.now();
-            DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("h:mma");
-            String timeString = now.format(timeFormatter).toLowerCase();
+            String timeString = clock.getTimeLine();
             
             g2d.setFont(new Font("Segoe UI Light", Font.PLAIN, 48)); // Light weight modern font
             g2d.setColor(Color.WHITE);
@@ -533,8 +518,7 @@ public class WeatherCardSwing extends JFrame {
         
         private void drawDayText(Graphics2D g2d) {
             // Position: 320px from top
-            LocalDateTime now = LocalDateTime.now();
-            String dayString = now.format(DateTimeFormatter.ofPattern("EEEE"));
+            String dayString = clock.getDayName();
             
             g2d.setFont(new Font("Segoe UI", Font.PLAIN, 18));
             g2d.setColor(new Color(255, 255, 255, 230)); // rgba(255,255,255,0.9)
@@ -594,28 +578,22 @@ public class WeatherCardSwing extends JFrame {
             g2d.drawString(temp, x + (50 - tempWidth) / 2, y + 70);
         }
         
-        private String getDayOfMonthSuffix(int day) {
-            if (day >= 11 && day <= 13) {
-                return "th";
-            }
-            switch (day % 10) {
-                case 1: return "st";
-                case 2: return "nd";
-                case 3: return "rd";
-                default: return "th";
-            }
-        }
-        
         public void updateWeatherData() {
             repaint();
         }
         
-        public void updateDateTime() {
-            repaint();
+        public void updateDateTime(ClockService.Tick tick) {
+            clock = tick;
+            if (tick.isNewDay()) {
+                repaint();
+            } else {
+                repaint(0, 0, getWidth(), HEADER_HEIGHT);
+            }
         }
     }
     
     public static void main(String[] args) {
+        EdtWatchdog.install();
         SwingUtilities.invokeLater(() -> new WeatherCardSwing());
     }
 }
@@ -11,8 +11,6 @@ import java.awt.event.FocusEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.geom.RoundRectangle2D;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,6 +32,9 @@ public class WeatherCardWithAPI extends JFrame {
     private static final int PADDING_TOP = 24;
     private static final int PADDING_HORIZONTAL = 20;
     private static final int PADDING_BOTTOM = 20;
+    
+    // Date and time lines, including the time's descenders; all a minute tick repaints
+    private static final int HEADER_HEIGHT = 110;
     private static final int WINDOW_MARGIN = 30;
     
     // Enhanced window dimensions for search functionality
@@ -48,6 +49,7 @@ public class WeatherCardWithAPI extends JFrame {
     private static final Color TERTIARY_TEXT = new Color(255, 255, 255, 230);
     private static final Color HOURLY_TEXT = new Color(255, 255, 255, 179);
     private static final Color DIVIDER_COLOR = new Color(255, 255, 255, 77);
+    private static final LatencyHistogram PAINT_TIME = WeatherMetrics.paintHistogram(WeatherCardWithAPI.class);
     
     private WeatherData currentWeatherData;
     private WeatherCardPanel cardPanel;
@@ -55,6 +57,9 @@ public class WeatherCardWithAPI extends JFrame {
     private JList<String> suggestionList;
     private JScrollPane suggestionScrollPane;
     
+    // Search whose result is still wanted; a newer search replaces it (EDT only)
+    private CompletableFuture<JSONObject> pendingSearch;
+    
     // City suggestions database
     // Enhanced search with caching for better performance
     private final Map<String, List<LocationSuggestion>> searchCache = new ConcurrentHashMap<>();
@@ -90,24 +95,8 @@ public class WeatherCardWithAPI extends JFrame {
         int totalWidth = CARD_WIDTH + (WINDOW_MARGIN * 2);
         int totalHeight = CARD_HEIGHT + SEARCH_HEIGHT + SEARCH_GAP + (WINDOW_MARGIN * 2);
         
-        // Create main panel with gradient background
-        JPanel mainPanel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Dark purple gradient background
-                GradientPaint bgGradient = new GradientPaint(
-                    0, 0, new Color(131, 96, 195),
-                    getWidth(), getHeight(), new Color(46, 191, 145)
-                );
-                g2d.setPaint(bgGradient);
-                g2d.fillRect(0, 0, getWidth(), getHeight());
-                g2d.dispose();
-            }
-        };
-        mainPanel.setLayout(null);
+        // Create main panel with cached scene gradient background
+        JPanel mainPanel = new GradientBackgroundPanel(BackgroundThemeCache.SCENE, null);
         mainPanel.setPreferredSize(new Dimension(totalWidth, totalHeight));
         
         // Create search field
@@ -129,12 +118,8 @@ public class WeatherCardWithAPI extends JFrame {
         pack();
         setLocationRelativeTo(null);
         
-        // Update time every minute
-        Timer timer = new Timer(60000, e -> {
-            updateCurrentTime();
-            cardPanel.repaint();
-        });
-        timer.start();
+        // Follow the shared minute clock
+        ClockService.subscribe(SwingUtilities::invokeLater, this::onMinute);
         
         setVisible(true);
     }
@@ -280,7 +265,7 @@ public class WeatherCardWithAPI extends JFrame {
         }
         
         // Fetch suggestions from geocoding API asynchronously
-        CompletableFuture.supplyAsync(() -> fetchLocationSuggestions(input))
+        WeatherExecutors.supplyAsync(() -> fetchLocationSuggestions(input), WeatherExecutors.io())
             .thenAccept(suggestions -> {
                 SwingUtilities.invokeLater(() -> {
                     if (suggestions != null && !suggestions.isEmpty()) {
@@ -330,9 +315,23 @@ public class WeatherCardWithAPI extends JFrame {
             return;
         }
         
-        try {
-            JSONObject weatherData = WeatherApp.getWeatherData(cityName);
-            if (weatherData != null) {
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+        }
+        CompletableFuture<JSONObject> search = WeatherFetchEngine.fetch(cityName);
+        pendingSearch = search;
+        search.whenComplete((weatherData, error) -> SwingUtilities.invokeLater(() -> {
+            if (search != pendingSearch) {
+                return;
+            }
+            pendingSearch = null;
+            if (error != null) {
+                JOptionPane.showMessageDialog(this, 
+                    "An error occurred while fetching weather data.", 
+                    "Error", 
+                    JOptionPane.ERROR_MESSAGE);
+                WeatherAppLogger.error("Could not load weather for {}", cityName, WeatherExecutors.unwrap(error));
+            } else if (weatherData != null) {
                 updateWeatherData(cityName, weatherData);
             } else {
                 JOptionPane.showMessageDialog(this, 
@@ -340,13 +339,7 @@ public class WeatherCardWithAPI extends JFrame {
                     "Location Not Found", 
                     JOptionPane.WARNING_MESSAGE);
             }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, 
-                "An error occurred while fetching weather data.", 
-                "Error", 
-                JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
-        }
+        }));
     }
     
     private void updateWeatherData(String cityName, JSONObject apiData) {
@@ -383,33 +376,21 @@ public class WeatherCardWithAPI extends JFrame {
     }
     
     private void updateCurrentTime() {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Format date: "Monday, 27th april"
-        DateTimeFormatter dayFormatter = DateTimeFormatter.ofPattern("EEEE, d");
-        String day = now.format(dayFormatter);
-        String month = now.format(DateTimeFormatter.ofPattern("MMMM")).toLowerCase();
-        int dayOfMonth = now.getDayOfMonth();
-        String dayWithSuffix = dayOfMonth + getDayOfMonthSuffix(dayOfMonth);
-        String formattedDate = day.replace(String.valueOf(dayOfMonth), dayWithSuffix) + " " + month;
-        
-        // Format time: "9:43am"
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("h:mma");
-        String formattedTime = now.format(timeFormatter).toLowerCase();
-        
-        currentWeatherData.setDate(formattedDate);
-        currentWeatherData.setTime(formattedTime);
+        showTime(ClockService.current());
     }
     
-    private String getDayOfMonthSuffix(int day) {
-        if (day >= 11 && day <= 13) {
-            return "th";
-        }
-        switch (day % 10) {
-            case 1: return "st";
-            case 2: return "nd";
-            case 3: return "rd";
-            default: return "th";
+    private void showTime(ClockService.Tick tick) {
+        // Format date: "Monday, 27th april", time: "9:43am"
+        currentWeatherData.setDate(tick.getDateLine());
+        currentWeatherData.setTime(tick.getTimeLine());
+    }
+    
+    private void onMinute(ClockService.Tick tick) {
+        showTime(tick);
+        if (tick.isNewDay()) {
+            cardPanel.repaint();
+        } else {
+            cardPanel.repaint(0, 0, CARD_WIDTH, HEADER_HEIGHT);
         }
     }
     
@@ -420,6 +401,7 @@ public class WeatherCardWithAPI extends JFrame {
         
         @Override
         protected void paintComponent(Graphics g) {
+            long paintStart = System.nanoTime();
             super.paintComponent(g);
             Graphics2D g2d = (Graphics2D) g.create();
             
@@ -429,13 +411,13 @@ public class WeatherCardWithAPI extends JFrame {
             g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
             
             // Update gradient colors based on weather condition
-            Color[] gradientColors = getWeatherGradientColors(currentWeatherData.getWeatherType());
+            String weatherType = currentWeatherData.getWeatherType();
             
             // Draw drop shadow
             drawDropShadow(g2d);
             
             // Draw card background with weather-specific gradient
-            drawCardBackground(g2d, gradientColors[0], gradientColors[1]);
+            drawCardBackground(g2d, weatherType);
             
             // Draw all content with EXACT positioning
             drawDateText(g2d);
@@ -448,24 +430,7 @@ public class WeatherCardWithAPI extends JFrame {
             drawHourlyForecast(g2d);
             
             g2d.dispose();
-        }
-        
-        private Color[] getWeatherGradientColors(String weatherType) {
-            if (weatherType == null) weatherType = "Clear";
-            
-            switch (weatherType.toLowerCase()) {
-                case "clear":
-                case "sunny":
-                    return new Color[]{new Color(255, 183, 94), new Color(237, 143, 3)}; // Orange
-                case "cloudy":
-                    return new Color[]{new Color(189, 195, 199), new Color(139, 157, 195)}; // Blue-gray
-                case "rain":
-                    return new Color[]{new Color(83, 105, 118), new Color(41, 46, 73)}; // Dark blue
-                case "snow":
-                    return new Color[]{new Color(230, 222, 221), new Color(197, 202, 233)}; // Light purple
-                default:
-                    return new Color[]{new Color(78, 205, 196), new Color(68, 160, 141)}; // Teal
-            }
+            PAINT_TIME.recordSince(paintStart);
         }
         
         private void drawDropShadow(Graphics2D g2d) {
@@ -481,9 +446,9 @@ public class WeatherCardWithAPI extends JFrame {
             }
         }
         
-        private void drawCardBackground(Graphics2D g2d, Color startColor, Color endColor) {
-            GradientPaint gradient = new GradientPaint(0, 0, startColor, CARD_WIDTH, CARD_HEIGHT, endColor);
-            g2d.setPaint(gradient);
+        private void drawCardBackground(Graphics2D g2d, String weatherType) {
+            // Unset weather types fall back to the clear-sky gradient
+            g2d.setPaint(BackgroundThemeCache.getPaint(weatherType != null ? weatherType : "Clear", CARD_WIDTH, CARD_HEIGHT));
             
             RoundRectangle2D card = new RoundRectangle2D.Double(
                 0, 0, CARD_WIDTH, CARD_HEIGHT, CORNER_RADIUS, CORNER_RADIUS
@@ -581,7 +546,7 @@ public class WeatherCardWithAPI extends JFrame {
         }
         
         private void drawDayText(Graphics2D g2d) {
-            String dayText = LocalDateTime.now().format(DateTimeFormatter.ofPattern("EEEE"));
+            String dayText = ClockService.current().getDayName();
             
             Font font = new Font("Segoe UI", Font.PLAIN, 18);
             g2d.setFont(font);
@@ -653,6 +618,7 @@ public class WeatherCardWithAPI extends JFrame {
     }
     
     public static void main(String[] args) {
+        EdtWatchdog.install();
         SwingUtilities.invokeLater(() -> {
             new WeatherCardWithAPI();
         });
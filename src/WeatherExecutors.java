@@ -0,0 +1,268 @@
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shared executors for background work, so nothing blocking runs on the
+ * ForkJoin common pool and starves parallel streams and other CPU tasks.
+ *
+ *   io()   blocking work: HTTP calls, simulated latency, disk. One virtual
+ *          thread per task on JDK 21+, otherwise a bounded pool of daemon
+ *          threads (-Dweatherapp.executor.ioThreads, default 16, with
+ *          -Dweatherapp.executor.ioQueue waiting tasks, default 256).
+ *          -Dweatherapp.executor.virtualThreads=false forces the pool.
+ *   cpu()  short CPU-bound work: parsing, search. A few daemon threads
+ *          (-Dweatherapp.executor.cpuThreads, default half the cores, 1 to 4).
+ *   boundedIo(name, ...)  a limit on top of io(), e.g. at most two forecast
+ *          fetches at once; the work itself still runs on io().
+ *
+ * Work beyond the pool's queue is rejected with RejectedExecutionException
+ * rather than run on the caller, which may be the EDT. Each executor
+ * publishes how many tasks are queued and running as gauges, counts
+ * rejections, and records how long tasks wait before they start, all under
+ * {@link WeatherMetrics#EXECUTOR_PREFIX} + "io." / "cpu.". A bounded executor
+ * publishes its own queued/active gauges and rejections under its name.
+ */
+public final class WeatherExecutors {
+    
+    private static final int DEFAULT_IO_THREADS = 16;
+    private static final int DEFAULT_IO_QUEUE = 256;
+    private static final int CPU_QUEUE = 64;
+    private static final int MAX_CPU_THREADS = 4;
+    
+    private static final Executor IO = new InstrumentedExecutor("io", createIoExecutor());
+    private static final Executor CPU = new InstrumentedExecutor("cpu", createCpuExecutor());
+    
+    // Prevent instantiation
+    private WeatherExecutors() {}
+    
+    /**
+     * Get the executor for blocking I/O.
+     * @return shared executor; virtual threads when available
+     */
+    public static Executor io() {
+        return IO;
+    }
+    
+    /**
+     * Get the executor for short CPU-bound tasks.
+     * @return shared small pool
+     */
+    public static Executor cpu() {
+        return CPU;
+    }
+    
+    /**
+     * Create an executor that runs at most a given number of tasks at once
+     * on {@link #io()}, keeps up to queueCapacity more waiting in order, and
+     * rejects the rest.
+     * @param name metrics name, e.g. "fetch" for "executor.fetch.active"
+     * @param maxRunning tasks allowed to run at the same time
+     * @param queueCapacity tasks allowed to wait
+     * @return new bounded executor
+     */
+    public static Executor boundedIo(String name, int maxRunning, int queueCapacity) {
+        return new BoundedExecutor(name, IO, maxRunning, queueCapacity);
+    }
+    
+    /**
+     * Like CompletableFuture.supplyAsync, but a rejected task completes the
+     * future exceptionally instead of throwing at the caller.
+     * @param task work to run
+     * @param executor {@link #io()} or {@link #cpu()}
+     * @param <T> result type
+     * @return future result
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> task, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    /**
+     * Get the exception a future failed with, e.g. in whenComplete, without
+     * the CompletionException it is usually wrapped in.
+     * @param error failure reported by a future
+     * @return the underlying cause, or error itself if it is not wrapped
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+    
+    /**
+     * Executor that tracks queued and running tasks for the metrics registry.
+     */
+    private static final class InstrumentedExecutor implements Executor {
+        private final Executor delegate;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final LongAdder rejected;
+        private final LatencyHistogram waitTime;
+        
+        private InstrumentedExecutor(String pool, Executor delegate) {
+            this.delegate = delegate;
+            String prefix = WeatherMetrics.EXECUTOR_PREFIX + pool + ".";
+            this.rejected = WeatherMetrics.counter(prefix + "rejected");
+            this.waitTime = WeatherMetrics.histogram(prefix + "wait");
+            WeatherMetrics.gauge(prefix + "queued", queued::get);
+            WeatherMetrics.gauge(prefix + "active", active::get);
+        }
+        
+        @Override
+        public void execute(Runnable task) {
+            long submitted = System.nanoTime();
+            queued.incrementAndGet();
+            try {
+                delegate.execute(() -> {
+                    queued.decrementAndGet();
+                    active.incrementAndGet();
+                    waitTime.recordSince(submitted);
+                    try {
+                        task.run();
+                    } finally {
+                        active.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queued.decrementAndGet();
+                rejected.increment();
+                throw e;
+            }
+        }
+    }
+    
+    /**
+     * Executor that limits how many of its tasks run on a shared executor at
+     * once. A finished task's thread goes on with the next waiting one.
+     */
+    private static final class BoundedExecutor implements Executor {
+        private final String name;
+        private final Executor delegate;
+        private final int maxRunning;
+        private final int queueCapacity;
+        private final LongAdder rejected;
+        
+        // Guarded by this
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int running = 0;
+        
+        private BoundedExecutor(String name, Executor delegate, int maxRunning, int queueCapacity) {
+            this.name = name;
+            this.delegate = delegate;
+            this.maxRunning = Math.max(1, maxRunning);
+            this.queueCapacity = Math.max(0, queueCapacity);
+            String prefix = WeatherMetrics.EXECUTOR_PREFIX + name + ".";
+            this.rejected = WeatherMetrics.counter(prefix + "rejected");
+            WeatherMetrics.gauge(prefix + "queued", this::queuedCount);
+            WeatherMetrics.gauge(prefix + "active", this::runningCount);
+        }
+        
+        @Override
+        public void execute(Runnable task) {
+            synchronized (this) {
+                if (running >= maxRunning) {
+                    if (waiting.size() >= queueCapacity) {
+                        rejected.increment();
+                        throw new RejectedExecutionException("Executor " + name + " is full");
+                    }
+                    waiting.add(task);
+                    return;
+                }
+                running++;
+            }
+            
+            try {
+                delegate.execute(() -> runFrom(task));
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    running--;
+                }
+                rejected.increment();
+                throw e;
+            }
+        }
+        
+        private void runFrom(Runnable first) {
+            Runnable task = first;
+            while (task != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    WeatherAppLogger.error("Task on executor {} failed", name, e);
+                }
+                synchronized (this) {
+                    task = waiting.poll();
+                    if (task == null) {
+                        running--;
+                    }
+                }
+            }
+        }
+        
+        private synchronized long queuedCount() {
+            return waiting.size();
+        }
+        
+        private synchronized long runningCount() {
+            return running;
+        }
+    }
+    
+    private static Executor createIoExecutor() {
+        if (Boolean.parseBoolean(System.getProperty("weatherapp.executor.virtualThreads", "true"))) {
+            ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+            if (virtual != null) {
+                WeatherAppLogger.debug("I/O executor uses virtual threads");
+                return virtual;
+            }
+        }
+        int threads = Math.max(1, Integer.getInteger("weatherapp.executor.ioThreads", DEFAULT_IO_THREADS));
+        int queue = Math.max(1, Integer.getInteger("weatherapp.executor.ioQueue", DEFAULT_IO_QUEUE));
+        WeatherAppLogger.debug("I/O executor uses {} platform threads", threads);
+        return newPool("weather-io-", threads, queue);
+    }
+    
+    private static Executor createCpuExecutor() {
+        int defaultThreads = Math.max(1, Math.min(MAX_CPU_THREADS, Runtime.getRuntime().availableProcessors() / 2));
+        int threads = Math.max(1, Integer.getInteger("weatherapp.executor.cpuThreads", defaultThreads));
+        return newPool("weather-cpu-", threads, CPU_QUEUE);
+    }
+    
+    private static ThreadPoolExecutor newPool(String namePrefix, int threads, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+    
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() is JDK 21+; the app still
+     * builds and runs on 11, so look it up at runtime.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
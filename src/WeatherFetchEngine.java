@@ -0,0 +1,95 @@
+import org.json.simple.JSONObject;
+
+import javax.swing.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared off-UI-thread forecast loading for the Swing and JavaFX cards.
+ *
+ * Forecasts come from the {@link WeatherProvider} selected with
+ * -Dweatherapp.provider (Open-Meteo by default), wrapped in a
+ * {@link CachingWeatherProvider}: they are cached per city for a few minutes
+ * (-Dweatherapp.fetch.cacheSeconds, default 600) and concurrent requests for
+ * the same city share one round trip. Background loads run on
+ * {@link WeatherExecutors#io()}, at most two at a time. Callers cancel a superseded search by cancelling the future
+ * they were given; once no caller wants a city any more, a load that has not
+ * started yet is skipped and never reaches the network.
+ */
+public final class WeatherFetchEngine {
+    
+    private static final int MAX_CONCURRENT_LOADS = 2;
+    private static final int QUEUE_CAPACITY = 16;
+    private static final int MAX_CACHED_CITIES = 32;
+    private static final long DEFAULT_CACHE_SECONDS = 600;
+    
+    private static final Executor EXECUTOR =
+        WeatherExecutors.boundedIo("fetch", MAX_CONCURRENT_LOADS, QUEUE_CAPACITY);
+    
+    private static final CachingWeatherProvider PROVIDER = new CachingWeatherProvider(
+        WeatherProviders.getSelected(),
+        TimeUnit.SECONDS.toMillis(Long.getLong("weatherapp.fetch.cacheSeconds", DEFAULT_CACHE_SECONDS)),
+        MAX_CACHED_CITIES);
+    
+    // Prevent instantiation
+    private WeatherFetchEngine() {}
+    
+    /**
+     * Get the bounded executor {@link #fetch(String)} loads on, also for
+     * callers that block in {@link #load(String)}, e.g. a JavaFX Service.
+     * Submissions beyond the queue capacity are rejected rather than piling up.
+     * @return shared bounded executor over {@link WeatherExecutors#io()}
+     */
+    public static Executor getExecutor() {
+        return EXECUTOR;
+    }
+    
+    /**
+     * Get the provider forecasts are loaded from.
+     * @return caching wrapper around the selected provider
+     */
+    public static CachingWeatherProvider getProvider() {
+        return PROVIDER;
+    }
+    
+    /**
+     * Load a forecast in the background. A fresh cached forecast completes
+     * the future immediately. Each call gets its own future, so cancelling
+     * one does not affect other callers waiting on the same city.
+     * @param cityName city to look up
+     * @return future forecast; completes with null if the city is unknown
+     */
+    public static CompletableFuture<JSONObject> fetch(String cityName) {
+        return PROVIDER.fetch(cityName, EXECUTOR);
+    }
+    
+    /**
+     * Load a forecast on the calling thread, using and filling the cache.
+     * Blocks on network I/O, so never call it on the EDT or the FX thread.
+     * @param cityName city to look up
+     * @return forecast, or null if the city is unknown
+     */
+    public static JSONObject load(String cityName) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            throw new IllegalStateException("Forecast for " + cityName + " must be loaded off the EDT");
+        }
+        return PROVIDER.load(cityName);
+    }
+    
+    /**
+     * Get a cached forecast without loading, e.g. to update the UI at once.
+     * @param cityName city to look up
+     * @return forecast younger than the cache lifetime, or null
+     */
+    public static JSONObject getCached(String cityName) {
+        return PROVIDER.getCached(cityName);
+    }
+    
+    /**
+     * Drop all cached forecasts so the next request goes to the provider.
+     */
+    public static void clearCache() {
+        PROVIDER.clear();
+    }
+}
@@ -100,6 +100,122 @@ public class WeatherIcon {
         }
     }
     
+    public static void drawMoonIcon(Graphics2D g2d, int centerX, int centerY, int size, Color color) {
+        g2d.setColor(color);
+        g2d.setStroke(new BasicStroke(2.0f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        
+        // Crescent: a disc with an offset disc cut out of its upper right
+        double radius = size / 3.5;
+        Area crescent = new Area(new Ellipse2D.Double(centerX - radius, centerY - radius, radius * 2, radius * 2));
+        double cutOffset = radius * 0.6;
+        crescent.subtract(new Area(new Ellipse2D.Double(
+            centerX - radius + cutOffset, centerY - radius - cutOffset / 2, radius * 2, radius * 2)));
+        
+        g2d.draw(crescent);
+    }
+    
+    public static void drawPartlyCloudyIcon(Graphics2D g2d, int centerX, int centerY, int size, boolean isDay, Color color) {
+        // Sun or moon peeking out from the upper left, cloud in front
+        int celestialSize = (int)(size * 0.6);
+        if (isDay) {
+            drawSunIcon(g2d, centerX - size/5, centerY - size/5, celestialSize, color);
+        } else {
+            drawMoonIcon(g2d, centerX - size/5, centerY - size/5, celestialSize, color);
+        }
+        drawCloudIcon(g2d, centerX + size/12, centerY + size/12, (int)(size * 0.75), color);
+    }
+    
+    public static void drawFogIcon(Graphics2D g2d, int centerX, int centerY, int size, Color color) {
+        g2d.setColor(color);
+        g2d.setStroke(new BasicStroke(2.0f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        
+        // Four staggered horizontal bands
+        int bandSpacing = size / 7;
+        int halfWidth = size / 3;
+        for (int i = 0; i < 4; i++) {
+            int y = centerY + (int)((i - 1.5) * bandSpacing);
+            int shift = (i % 2 == 0) ? -size/12 : size/12;
+            g2d.drawLine(centerX - halfWidth + shift, y, centerX + halfWidth + shift, y);
+        }
+    }
+    
+    public static void drawDrizzleIcon(Graphics2D g2d, int centerX, int centerY, int size, Color color) {
+        // Draw cloud first
+        drawCloudIcon(g2d, centerX, centerY - size/8, (int)(size * 0.7), color);
+        
+        g2d.setColor(color);
+        g2d.setStroke(new BasicStroke(2.0f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        
+        // Short dashes instead of full rain drops
+        int dashLength = size / 12;
+        int dashSpacing = size / 6;
+        for (int i = -1; i <= 1; i++) {
+            int dashX = centerX + (i * dashSpacing);
+            for (int j = 0; j <= 1; j++) {
+                int dashY = centerY + size/6 + j * dashLength * 2;
+                g2d.drawLine(dashX, dashY, dashX, dashY + dashLength);
+            }
+        }
+    }
+    
+    public static void drawSleetIcon(Graphics2D g2d, int centerX, int centerY, int size, Color color) {
+        // Draw cloud first
+        drawCloudIcon(g2d, centerX, centerY - size/8, (int)(size * 0.7), color);
+        
+        g2d.setColor(color);
+        g2d.setStroke(new BasicStroke(2.0f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        
+        // Alternate rain drops and ice crosses
+        int spacing = size / 6;
+        int dropLength = size / 5;
+        int flakeSize = size / 14;
+        for (int i = -1; i <= 1; i++) {
+            int x = centerX + (i * spacing);
+            int startY = centerY + size/6;
+            if (i == 0) {
+                int flakeY = startY + dropLength / 2;
+                g2d.drawLine(x - flakeSize, flakeY, x + flakeSize, flakeY);
+                g2d.drawLine(x, flakeY - flakeSize, x, flakeY + flakeSize);
+            } else {
+                g2d.drawLine(x, startY, x, startY + dropLength);
+            }
+        }
+    }
+    
+    public static void drawThunderstormIcon(Graphics2D g2d, int centerX, int centerY, int size, Color color) {
+        // Draw cloud first
+        drawCloudIcon(g2d, centerX, centerY - size/8, (int)(size * 0.7), color);
+        
+        g2d.setColor(color);
+        g2d.setStroke(new BasicStroke(2.0f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        
+        // Lightning bolt below the cloud
+        Path2D bolt = new Path2D.Double();
+        bolt.moveTo(centerX + size/16.0, centerY + size/8.0);
+        bolt.lineTo(centerX - size/12.0, centerY + size/4.0);
+        bolt.lineTo(centerX + size/24.0, centerY + size/4.0);
+        bolt.lineTo(centerX - size/16.0, centerY + size * 0.4);
+        g2d.draw(bolt);
+    }
+    
+    public static void drawShowersIcon(Graphics2D g2d, int centerX, int centerY, int size, boolean isDay, boolean snow, Color color) {
+        // Sun or moon behind the upper left of the precipitation cloud
+        int celestialSize = (int)(size * 0.5);
+        if (isDay) {
+            drawSunIcon(g2d, centerX - size/4, centerY - size/4, celestialSize, color);
+        } else {
+            drawMoonIcon(g2d, centerX - size/4, centerY - size/4, celestialSize, color);
+        }
+        
+        if (snow) {
+            drawSnowIcon(g2d, centerX + size/16, centerY, (int)(size * 0.85), color);
+        } else {
+            drawRainIcon(g2d, centerX + size/16, centerY, (int)(size * 0.85), color);
+        }
+    }
+    
     public static void drawMiniIcon(Graphics2D g2d, int centerX, int centerY, int size, String weatherType, Color color) {
         g2d.setColor(color);
         g2d.setStroke(new BasicStroke(1.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
@@ -0,0 +1,225 @@
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide registry of counters and latency histograms.
+ *
+ * Metrics are created on first use and live for the life of the process,
+ * so hot paths look them up once into a static field and then only pay for
+ * an increment or a histogram record. The registry can also be scraped over
+ * HTTP, see {@link MetricsHttpEndpoint}. With -Dweatherapp.metrics.dumpSeconds=N
+ * (off by default) the registry also logs one structured event per metric
+ * that has recorded anything, every N seconds.
+ */
+public final class WeatherMetrics {
+    
+    // Forecasts: whole provider load (CachingWeatherProvider), fetching the raw
+    // forecast (HTTP, fixture file or synthetic latency), JSON parsing, failures
+    public static final String WEATHER_REQUEST = "weather.request";
+    public static final String WEATHER_FETCH = "weather.fetch";
+    public static final String WEATHER_PARSE = "weather.parse";
+    public static final String WEATHER_ERRORS = "weather.errors";
+    
+    // CachingWeatherProvider forecast cache
+    public static final String WEATHER_CACHE_HITS = "weather.cache.hits";
+    public static final String WEATHER_CACHE_MISSES = "weather.cache.misses";
+    
+    // WeatherRequestCoordinator: selections replaced while waiting, loads shared with another window
+    public static final String WEATHER_REQUESTS_SUPERSEDED = "weather.requests.superseded";
+    public static final String WEATHER_REQUESTS_COALESCED = "weather.requests.coalesced";
+    
+    // Open-Meteo geocoding in getLocationData
+    public static final String LOCATION_FETCH = "location.fetch";
+    public static final String LOCATION_PARSE = "location.parse";
+    public static final String LOCATION_ERRORS = "location.errors";
+    
+    // OpenWeatherMap icons
+    public static final String ICON_DOWNLOAD = "icon.download";
+    public static final String ICON_DOWNLOAD_ERRORS = "icon.download.errors";
+    public static final String ICON_CACHE_HITS = "icon.cache.hits";
+    public static final String ICON_CACHE_MISSES = "icon.cache.misses";
+    public static final String ICON_EDT_LOADS = "icon.edt.loads";
+    
+    // City search suggestions
+    public static final String SEARCH = "search";
+    
+    // Card paints are recorded as "paint." + the card's class name
+    public static final String PAINT_PREFIX = "paint.";
+    
+    // AnimationScheduler: EDT time per animation frame, frames over the 1 ms budget
+    public static final String ANIMATION_FRAME = "animation.frame";
+    public static final String ANIMATION_OVER_BUDGET = "animation.frame.overBudget";
+    
+    // Event dispatch thread: time per dispatch, heartbeat queueing delay, stalls
+    public static final String EDT_DISPATCH = "edt.dispatch";
+    public static final String EDT_HEARTBEAT = "edt.heartbeat";
+    public static final String EDT_STALLS = "edt.stalls";
+    
+    // WeatherExecutors pools, "executor." + pool + ".queued" / ".active" / ".rejected" / ".wait"
+    public static final String EXECUTOR_PREFIX = "executor.";
+    
+    // Periodic dumps are opt-in so a normal run does not log every minute
+    private static final long DEFAULT_DUMP_SECONDS = 0;
+    
+    private static final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    
+    // Wall-clock time of the last forecast loaded by any provider, 0 if none yet
+    private static volatile long lastForecastMillis;
+    
+    static {
+        long dumpSeconds = Long.getLong("weatherapp.metrics.dumpSeconds", DEFAULT_DUMP_SECONDS);
+        if (dumpSeconds > 0) {
+            ScheduledExecutorService dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "weather-metrics-dump");
+                thread.setDaemon(true);
+                return thread;
+            });
+            dumper.scheduleAtFixedRate(WeatherMetrics::dumpToLog, dumpSeconds, dumpSeconds, TimeUnit.SECONDS);
+        }
+        MetricsHttpEndpoint.startIfEnabled();
+    }
+    
+    // Prevent instantiation
+    private WeatherMetrics() {}
+    
+    /**
+     * Get or create a counter.
+     * @param name metric name, e.g. {@link #WEATHER_ERRORS}
+     * @return shared counter
+     */
+    public static LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+    
+    /**
+     * Get or create a latency histogram.
+     * @param name metric name, e.g. {@link #WEATHER_FETCH}
+     * @return shared histogram
+     */
+    public static LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+    
+    /**
+     * Register a gauge, read whenever the registry is dumped or scraped.
+     * Registering the same name again replaces the previous supplier.
+     * @param name metric name, e.g. "executor.io.active"
+     * @param value cheap, thread-safe reading of the current value
+     */
+    public static void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+    
+    /**
+     * Note that a forecast was loaded. Called from
+     * {@link WeatherApp#parseForecast(String)}, which every provider goes through.
+     */
+    public static void recordForecastLoaded() {
+        lastForecastMillis = System.currentTimeMillis();
+    }
+    
+    /**
+     * Get the time a forecast was last loaded, for health checks.
+     * @return wall-clock milliseconds, or 0 if none has been loaded yet
+     */
+    public static long getLastForecastMillis() {
+        return lastForecastMillis;
+    }
+    
+    /**
+     * Get the paint-time histogram for a component class.
+     * @param componentClass class whose paintComponent is timed
+     * @return shared histogram named "paint." + simple class name
+     */
+    public static LatencyHistogram paintHistogram(Class<?> componentClass) {
+        return histogram(PAINT_PREFIX + componentClass.getSimpleName());
+    }
+    
+    /**
+     * Read a percentile without keeping a reference to the histogram.
+     * @param name histogram name
+     * @param percentile percentile between 0 and 100
+     * @return value in milliseconds, or 0 if the histogram is unknown or empty
+     */
+    public static double getPercentileMillis(String name, double percentile) {
+        LatencyHistogram histogram = histograms.get(name);
+        return histogram == null ? 0 : histogram.getPercentileMillis(percentile);
+    }
+    
+    /**
+     * Get all counters, sorted by name.
+     * @return read-only view of name to current value
+     */
+    public static Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return Collections.unmodifiableMap(values);
+    }
+    
+    /**
+     * Read all gauges, sorted by name.
+     * @return read-only map of name to current value
+     */
+    public static Map<String, Long> getGauges() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return Collections.unmodifiableMap(values);
+    }
+    
+    /**
+     * Get all histograms, sorted by name.
+     * @return read-only map of name to histogram
+     */
+    public static Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+    
+    /**
+     * Log every non-empty metric as a structured event.
+     */
+    public static void dumpToLog() {
+        getCounters().forEach((name, value) -> {
+            if (value != 0) {
+                WeatherAppLogger.event(WeatherAppLogger.Level.INFO, "metrics.counter", "name", name, "value", value);
+            }
+        });
+        
+        getGauges().forEach((name, value) ->
+            WeatherAppLogger.event(WeatherAppLogger.Level.INFO, "metrics.gauge", "name", name, "value", value));
+        
+        getHistograms().forEach((name, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            if (snapshot.getCount() > 0) {
+                WeatherAppLogger.event(WeatherAppLogger.Level.INFO, "metrics.histogram", "name", name,
+                    "count", snapshot.getCount(),
+                    "meanMs", round(snapshot.getMeanMillis()),
+                    "p50Ms", round(snapshot.getP50Millis()),
+                    "p90Ms", round(snapshot.getP90Millis()),
+                    "p99Ms", round(snapshot.getP99Millis()),
+                    "maxMs", round(snapshot.getMaxMillis()));
+            }
+        });
+    }
+    
+    /**
+     * Clear all recorded values; registered metrics stay registered.
+     */
+    public static void reset() {
+        counters.values().forEach(LongAdder::reset);
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+    
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,124 @@
+import org.json.simple.JSONObject;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Source of forecasts for the weather cards.
+ *
+ * A provider returns the weather json data the frontends read, in the shape
+ * {@link WeatherApp#parseForecast(String)} produces: temperature,
+ * weather_condition and weather_code, humidity, windspeed, the next few
+ * hours under "hourly_forecast" and, when available, the daily forecast. Implementations are discovered with {@link java.util.ServiceLoader}
+ * (see META-INF/services/WeatherProvider) and picked by name through
+ * {@link WeatherProviders}.
+ *
+ * Implementations provide the blocking {@link #load(String)}; the caller
+ * decides which executor it runs on through {@link #fetch(String, Executor)}.
+ */
+public interface WeatherProvider {
+    
+    /**
+     * What a provider offers, so callers and benchmarks can choose one.
+     */
+    enum Capability {
+        /** Talks to a remote service; needs the network. */
+        REMOTE,
+        /** Returns the same data for the same city on every run. */
+        DETERMINISTIC,
+        /** Includes the daily forecast under "forecast". */
+        DAILY_FORECAST,
+        /** Caches results and shares concurrent loads of the same city. */
+        CACHING
+    }
+    
+    /**
+     * Get the name used to select this provider, e.g. with -Dweatherapp.provider.
+     * @return short lower-case name
+     */
+    String getName();
+    
+    /**
+     * Get what this provider offers.
+     * @return capability flags
+     */
+    Set<Capability> getCapabilities();
+    
+    /**
+     * Check a single capability.
+     * @param capability flag to check
+     * @return true if the provider offers it
+     */
+    default boolean supports(Capability capability) {
+        return getCapabilities().contains(capability);
+    }
+    
+    /**
+     * Load the forecast for a city on the calling thread. May block on I/O,
+     * so never call it on the EDT or the FX thread.
+     * @param cityName city to look up
+     * @return weather json data, or null if the city is unknown
+     */
+    JSONObject load(String cityName);
+    
+    /**
+     * Load the forecast for a city on the shared I/O executor.
+     * @param cityName city to look up
+     * @return future weather json data; completes with null if the city is unknown
+     */
+    default CompletableFuture<JSONObject> fetch(String cityName) {
+        return fetch(cityName, WeatherExecutors.io());
+    }
+    
+    /**
+     * Load the forecast for a city on a given executor. Cancelling the
+     * future before the load starts skips it; a rejected submission
+     * completes the future exceptionally.
+     * @param cityName city to look up
+     * @param executor where {@link #load(String)} runs
+     * @return future weather json data; completes with null if the city is unknown
+     */
+    default CompletableFuture<JSONObject> fetch(String cityName, Executor executor) {
+        return WeatherExecutors.supplyAsync(() -> load(cityName), executor);
+    }
+    
+    /**
+     * Load forecasts for several cities at once. The default fans out to
+     * {@link #fetch(String)}; a failed city fails the whole batch.
+     * @param cityNames cities to look up
+     * @return future map of city to weather json data, in the order given;
+     *         unknown cities map to null
+     */
+    default CompletableFuture<Map<String, JSONObject>> fetchAll(Collection<String> cityNames) {
+        List<String> cities = List.copyOf(cityNames);
+        List<CompletableFuture<JSONObject>> loads = cities.stream()
+            .map(this::fetch)
+            .collect(Collectors.toList());
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> {
+                Map<String, JSONObject> results = new LinkedHashMap<>();
+                for (int i = 0; i < cities.size(); i++) {
+                    results.put(cities.get(i), loads.get(i).join());
+                }
+                return results;
+            });
+    }
+    
+    /**
+     * Build a capability set, for implementations.
+     * @param first a capability
+     * @param rest more capabilities
+     * @return unmodifiable set
+     */
+    static Set<Capability> capabilities(Capability first, Capability... rest) {
+        return Collections.unmodifiableSet(EnumSet.of(first, rest));
+    }
+}
@@ -0,0 +1,73 @@
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Finds {@link WeatherProvider} implementations with {@link ServiceLoader}.
+ *
+ * The app uses the provider named by -Dweatherapp.provider: "open-meteo"
+ * (the default), "synthetic" or "fixture", or any other implementation
+ * listed in a META-INF/services/WeatherProvider file on the classpath.
+ */
+public final class WeatherProviders {
+    
+    private static final String DEFAULT_PROVIDER = OpenMeteoWeatherProvider.NAME;
+    
+    // Prevent instantiation
+    private WeatherProviders() {}
+    
+    /**
+     * Instantiate every provider on the classpath. Providers that fail to
+     * load are logged and skipped.
+     * @return new provider instances, in classpath order
+     */
+    public static List<WeatherProvider> available() {
+        List<WeatherProvider> providers = new ArrayList<>();
+        Iterator<WeatherProvider> iterator = ServiceLoader.load(WeatherProvider.class).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                providers.add(iterator.next());
+            } catch (ServiceConfigurationError e) {
+                WeatherAppLogger.warn("Skipping weather provider: {}", e.getMessage());
+            }
+        }
+        return providers;
+    }
+    
+    /**
+     * Find a provider by name.
+     * @param name provider name, case-insensitive
+     * @return new provider instance, or null if none has that name
+     */
+    public static WeatherProvider find(String name) {
+        String wanted = name.trim().toLowerCase(Locale.ROOT);
+        for (WeatherProvider provider : available()) {
+            if (provider.getName().equals(wanted)) {
+                return provider;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Get the provider selected by -Dweatherapp.provider. Falls back to
+     * Open-Meteo if the name is unknown or the service files are missing.
+     * @return new provider instance
+     */
+    public static WeatherProvider getSelected() {
+        String name = System.getProperty("weatherapp.provider", DEFAULT_PROVIDER);
+        WeatherProvider provider = find(name);
+        if (provider == null) {
+            WeatherAppLogger.warn("Unknown weather provider '{}', using {}", name, DEFAULT_PROVIDER);
+            provider = new OpenMeteoWeatherProvider();
+        }
+        WeatherAppLogger.info("Weather provider: {} {}", provider.getName(), provider.getCapabilities());
+        return provider;
+    }
+}
@@ -0,0 +1,249 @@
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Coordinates weather loads for city selections.
+ *
+ * Each window opens a {@link Session}. A session loads one city at a time;
+ * a selection made while a load is running waits as the single pending
+ * selection, and a newer selection replaces it, so the last click always
+ * wins without ever being dropped. Results reach the session's
+ * {@link Listener} one at a time and in the order the loads started.
+ *
+ * Loads of the same city and country share one request across all sessions,
+ * e.g. two windows picking London at once fetch it only once.
+ */
+public final class WeatherRequestCoordinator {
+    
+    private static final LongAdder SUPERSEDED = WeatherMetrics.counter(WeatherMetrics.WEATHER_REQUESTS_SUPERSEDED);
+    private static final LongAdder COALESCED = WeatherMetrics.counter(WeatherMetrics.WEATHER_REQUESTS_COALESCED);
+    
+    private static final WeatherRequestCoordinator SHARED =
+        new WeatherRequestCoordinator(WeatherRequestCoordinator::loadFromProvider);
+    
+    private final BiFunction<String, String, CompletableFuture<EnhancedWeatherData>> loader;
+    
+    // "city|country" -> load in flight, shared by every session asking for it
+    private final Map<String, CompletableFuture<EnhancedWeatherData>> inFlight = new ConcurrentHashMap<>();
+    
+    /**
+     * Create a coordinator over a given loader, e.g. for a benchmark.
+     * @param loader starts a load for (city, country)
+     */
+    public WeatherRequestCoordinator(BiFunction<String, String, CompletableFuture<EnhancedWeatherData>> loader) {
+        this.loader = loader;
+    }
+    
+    /**
+     * Get the coordinator the windows share, loading from the provider
+     * selected with -Dweatherapp.provider through {@link WeatherFetchEngine}.
+     * @return shared coordinator
+     */
+    public static WeatherRequestCoordinator getShared() {
+        return SHARED;
+    }
+    
+    /**
+     * Loads a city from the shared caching provider and converts it to card data.
+     */
+    private static CompletableFuture<EnhancedWeatherData> loadFromProvider(String cityName, String countryName) {
+        WeatherProvider provider = WeatherFetchEngine.getProvider();
+        return provider.fetch(cityName, WeatherFetchEngine.getExecutor())
+            .thenApply(weatherJson -> WeatherService.toWeatherData(weatherJson, cityName, countryName,
+                provider.getName()));
+    }
+    
+    /**
+     * Receives the outcome of each load a session runs.
+     */
+    public interface Listener {
+        /**
+         * Called on the session's executor when a load succeeds.
+         * @param cityName selected city
+         * @param countryName selected country
+         * @param weatherData loaded data
+         */
+        void onWeatherLoaded(String cityName, String countryName, EnhancedWeatherData weatherData);
+        
+        /**
+         * Called on the session's executor when a load fails.
+         * @param cityName selected city
+         * @param countryName selected country
+         * @param error what went wrong
+         */
+        void onWeatherFailed(String cityName, String countryName, Throwable error);
+    }
+    
+    /**
+     * A selection waiting to be loaded.
+     */
+    private static final class Selection {
+        private final String cityName;
+        private final String countryName;
+        private final String key;
+        
+        private Selection(String cityName, String countryName) {
+            this.cityName = cityName;
+            this.countryName = countryName;
+            this.key = normalise(cityName) + "|" + normalise(countryName);
+        }
+    }
+    
+    /**
+     * One window's stream of selections. All state is guarded by the
+     * session, so selections may come from any thread.
+     */
+    public final class Session {
+        private final Executor executor;
+        private final Listener listener;
+        private Selection running;
+        private Selection pending;
+        private boolean closed;
+        
+        private Session(Executor executor, Listener listener) {
+            this.executor = executor;
+            this.listener = listener;
+        }
+        
+        /**
+         * Load the weather for a selection. Starts at once if the session is
+         * idle, otherwise replaces any selection still waiting.
+         * @param cityName selected city
+         * @param countryName selected country
+         */
+        public void select(String cityName, String countryName) {
+            Selection selection = new Selection(cityName, countryName);
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (running == null) {
+                    running = selection;
+                } else {
+                    if (pending != null) {
+                        SUPERSEDED.increment();
+                        WeatherAppLogger.debug("Selection {} replaced by {}", pending.cityName, cityName);
+                    }
+                    // Picking the city already loading again needs no second load
+                    pending = running.key.equals(selection.key) ? null : selection;
+                    return;
+                }
+            }
+            start(selection);
+        }
+        
+        /**
+         * Check whether a load is running or waiting.
+         * @return true until the last selection has been delivered
+         */
+        public synchronized boolean isBusy() {
+            return running != null;
+        }
+        
+        /**
+         * Stop delivering results. A result already handed to the executor
+         * may still arrive.
+         */
+        public synchronized void close() {
+            closed = true;
+            pending = null;
+        }
+        
+        private void start(Selection selection) {
+            WeatherAppLogger.debug("Loading weather data for {}, {}", selection.cityName, selection.countryName);
+            load(selection.cityName, selection.countryName)
+                .whenComplete((weatherData, error) -> dispatch(() -> finish(selection, weatherData, error)));
+        }
+        
+        private void finish(Selection selection, EnhancedWeatherData weatherData, Throwable error) {
+            try {
+                if (isOpen()) {
+                    if (error != null) {
+                        listener.onWeatherFailed(selection.cityName, selection.countryName, error);
+                    } else {
+                        listener.onWeatherLoaded(selection.cityName, selection.countryName, weatherData);
+                    }
+                }
+            } catch (RuntimeException e) {
+                WeatherAppLogger.error("Weather listener failed", e);
+            } finally {
+                // Only after delivery, so results never overtake each other
+                Selection next;
+                synchronized (this) {
+                    next = pending;
+                    pending = null;
+                    running = next;
+                }
+                if (next != null) {
+                    start(next);
+                }
+            }
+        }
+        
+        private synchronized boolean isOpen() {
+            return !closed;
+        }
+        
+        private void dispatch(Runnable delivery) {
+            try {
+                executor.execute(delivery);
+            } catch (RejectedExecutionException e) {
+                // Never strand the session: deliver on the completing thread instead
+                delivery.run();
+            }
+        }
+    }
+    
+    /**
+     * Open a session for one window.
+     * @param executor thread results are delivered on, e.g. WeatherExecutors.cpu()
+     *                 or SwingUtilities::invokeLater
+     * @param listener receives each result
+     * @return new session
+     */
+    public Session openSession(Executor executor, Listener listener) {
+        return new Session(executor, listener);
+    }
+    
+    /**
+     * Load a city, joining a load already in flight for it.
+     * @param cityName city to load
+     * @param countryName country of the city
+     * @return future weather data; each caller gets its own
+     */
+    public CompletableFuture<EnhancedWeatherData> load(String cityName, String countryName) {
+        String key = new Selection(cityName, countryName).key;
+        CompletableFuture<EnhancedWeatherData> pending = new CompletableFuture<>();
+        CompletableFuture<EnhancedWeatherData> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            COALESCED.increment();
+            return existing.copy();
+        }
+        
+        CompletableFuture<EnhancedWeatherData> request;
+        try {
+            request = loader.apply(cityName, countryName);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        request.whenComplete((weatherData, error) -> {
+            inFlight.remove(key, pending);
+            if (error != null) {
+                pending.completeExceptionally(error);
+            } else {
+                pending.complete(weatherData);
+            }
+        });
+        return pending.copy();
+    }
+    
+    private static String normalise(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
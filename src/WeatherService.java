@@ -1,133 +1,95 @@
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ThreadLocalRandom;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 
 /**
  * Service class for handling weather data operations.
- * Provides methods to fetch and generate weather information.
- * 
- * In a real application, this would integrate with actual weather APIs.
- * For demonstration purposes, it generates realistic mock data.
+ * Turns the weather json data a {@link WeatherProvider} returns into the
+ * card's {@link EnhancedWeatherData}, and checks the result.
  * 
  * @author Weather App Team
  * @version 2.0
  */
 public class WeatherService {
     
-    /**
-     * Generates weather data for a given location.
-     * This is a mock implementation that would be replaced with real API calls.
-     * 
-     * @param cityName the city name
-     * @param countryName the country name
-     * @return CompletableFuture containing weather data
-     */
-    public static CompletableFuture<EnhancedWeatherData> getWeatherForLocation(String cityName, String countryName) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Simulate API call delay
-                Thread.sleep(200);
-                
-                // Generate realistic weather data based on location
-                EnhancedWeatherData weatherData = generateMockWeatherData(cityName, countryName);
-                
-                WeatherAppLogger.info("Generated weather data for " + cityName + ", " + countryName);
-                return weatherData;
-                
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                WeatherAppLogger.error("Weather data generation interrupted", e);
-                throw new RuntimeException("Failed to generate weather data", e);
-            } catch (Exception e) {
-                WeatherAppLogger.error("Error generating weather data", e);
-                throw new RuntimeException("Failed to generate weather data", e);
-            }
-        });
-    }
+    private static final DateTimeFormatter HOUR_LABEL = DateTimeFormatter.ofPattern("ha", Locale.ENGLISH);
     
     /**
-     * Generates mock weather data for demonstration purposes.
-     * In a real application, this would be replaced with actual API calls.
+     * Builds card data from a provider's weather json data, dated now.
      * 
+     * @param weatherJson weather json data as produced by {@link WeatherApp#parseForecast(String)}
      * @param cityName the city name
      * @param countryName the country name
-     * @return generated weather data
+     * @param dataSource name of the provider the data came from
+     * @return card weather data
+     * @throws IllegalStateException if the provider did not know the city
      */
-    private static EnhancedWeatherData generateMockWeatherData(String cityName, String countryName) {
-        // Generate temperature based on rough geographic location
-        int baseTemperature = getBaseTemperatureForLocation(countryName);
-        int temperature = baseTemperature + ThreadLocalRandom.current().nextInt(-5, 6);
-        
-        // Generate weather condition
-        String weatherCondition = generateWeatherCondition(temperature);
-        
-        // Generate hourly forecast
-        String[] hourlyTimes = {"10am", "11am", "12pm", "1pm"};
-        String[] hourlyTemps = new String[4];
-        for (int i = 0; i < 4; i++) {
-            int hourlyTemp = temperature + ThreadLocalRandom.current().nextInt(-3, 4);
-            hourlyTemps[i] = hourlyTemp + "°";
+    public static EnhancedWeatherData toWeatherData(JSONObject weatherJson, String cityName, String countryName,
+                                                    String dataSource) {
+        if (weatherJson == null) {
+            throw new IllegalStateException("No forecast for " + cityName);
         }
         
-        return new EnhancedWeatherData.Builder()
-            .setDate("Monday, 27th april")
-            .setTime("9:43am")
+        LocalDateTime now = LocalDateTime.now();
+        EnhancedWeatherData.Builder builder = new EnhancedWeatherData.Builder()
+            .setDate(CardDateFormat.dateLine(now.toLocalDate()))
+            .setTime(CardDateFormat.timeLine(now))
             .setLocation(cityName)
             .setCountry(countryName)
-            .setTemperature(temperature)
-            .setWeatherCondition(weatherCondition)
-            .setDay("Monday")
-            .setHourlyForecast(hourlyTimes, hourlyTemps)
-            .build();
+            .setTemperature((int) Math.round(((Number) weatherJson.get("temperature")).doubleValue()))
+            .setWeatherCondition(weatherCondition(((Number) weatherJson.get("weather_code")).intValue()))
+            .setDay(CardDateFormat.dayName(now.toLocalDate()))
+            .setDataSource(dataSource);
+        
+        // Hourly forecast: this hour and the next few, empty if the provider has none
+        JSONObject hourly = (JSONObject) weatherJson.get("hourly_forecast");
+        JSONArray times = hourly != null ? (JSONArray) hourly.get("time") : new JSONArray();
+        JSONArray temperatures = hourly != null ? (JSONArray) hourly.get("temperature_2m") : new JSONArray();
+        int slots = Math.min(times.size(), temperatures.size());
+        String[] hourlyTimes = new String[slots];
+        String[] hourlyTemps = new String[slots];
+        for (int i = 0; i < slots; i++) {
+            hourlyTimes[i] = hourLabel((String) times.get(i));
+            hourlyTemps[i] = Math.round(((Number) temperatures.get(i)).doubleValue()) + "°";
+        }
+        
+        return builder.setHourlyForecast(hourlyTimes, hourlyTemps).build();
     }
     
     /**
-     * Gets a base temperature for a location based on country.
-     * This is a simplified approach for demonstration.
-     * 
-     * @param countryName the country name
-     * @return base temperature in Celsius
+     * Formats an Open-Meteo hour such as "2024-02-03T14:00" as "2pm".
      */
-    private static int getBaseTemperatureForLocation(String countryName) {
-        if (countryName == null) return 15;
-        
-        String country = countryName.toLowerCase();
-        
-        // Arctic/Cold regions
-        if (country.contains("norway") || country.contains("finland") || 
-            country.contains("iceland") || country.contains("russia")) {
-            return ThreadLocalRandom.current().nextInt(-5, 5);
-        }
-        
-        // Desert/Hot regions
-        if (country.contains("saudi") || country.contains("emirates") || 
-            country.contains("qatar") || country.contains("egypt")) {
-            return ThreadLocalRandom.current().nextInt(25, 40);
-        }
-        
-        // Tropical regions
-        if (country.contains("singapore") || country.contains("thailand") || 
-            country.contains("malaysia") || country.contains("indonesia")) {
-            return ThreadLocalRandom.current().nextInt(24, 32);
+    private static String hourLabel(String isoHour) {
+        try {
+            return LocalDateTime.parse(isoHour).format(HOUR_LABEL).toLowerCase(Locale.ENGLISH);
+        } catch (DateTimeException e) {
+            return isoHour;
         }
-        
-        // Temperate regions (default)
-        return ThreadLocalRandom.current().nextInt(10, 22);
     }
     
     /**
-     * Generates a weather condition based on temperature.
+     * Maps a WMO weather code to the card's condition names.
      * 
-     * @param temperature the temperature in Celsius
+     * @param weatherCode WMO code as reported by Open-Meteo
      * @return weather condition string
      */
-    private static String generateWeatherCondition(int temperature) {
-        if (temperature < 0) {
+    private static String weatherCondition(int weatherCode) {
+        if (weatherCode >= 95) {
+            return "thunderstorm";
+        } else if ((weatherCode >= 71 && weatherCode <= 77) || weatherCode == 85 || weatherCode == 86) {
             return "snow";
-        } else if (temperature < 10) {
-            return ThreadLocalRandom.current().nextBoolean() ? "cloudy" : "rainy";
-        } else if (temperature < 25) {
-            String[] conditions = {"sunny", "cloudy", "partly_cloudy"};
-            return conditions[ThreadLocalRandom.current().nextInt(conditions.length)];
+        } else if (weatherCode >= 51) {
+            return "rainy";
+        } else if (weatherCode == 45 || weatherCode == 48) {
+            return "fog";
+        } else if (weatherCode == 3) {
+            return "cloudy";
+        } else if (weatherCode == 2) {
+            return "partly_cloudy";
         } else {
             return "sunny";
         }
@@ -151,7 +113,7 @@ public class WeatherService {
             // Check temperature range (reasonable for Earth)
             int temp = weatherData.getTemperature();
             if (temp < -50 || temp > 60) {
-                WeatherAppLogger.warn("Temperature out of reasonable range: " + temp);
+                WeatherAppLogger.warn("Temperature out of reasonable range: {}", temp);
                 return false;
             }
             